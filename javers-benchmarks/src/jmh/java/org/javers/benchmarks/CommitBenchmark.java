@@ -0,0 +1,71 @@
+package org.javers.benchmarks;
+
+import org.javers.benchmarks.model.Employee;
+import org.javers.benchmarks.model.Organizations;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.core.commit.Commit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Javers#commit(String, Object)} of organization trees, from 10 to 100k nodes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommitBenchmark {
+    private static final int CHANGED_NODES_RATIO = 100;
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int nodes;
+
+    private Javers javers;
+    private List<Employee> employees;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        javers = JaversBuilder.javers().build();
+        employees = Organizations.createOrganization(nodes);
+        javers.commit("author", root());
+    }
+
+    /**
+     * Fresh, empty Javers instance for each invocation,
+     * so building Javers is not measured by {@link #initialCommit(EmptyJavers)}
+     */
+    @State(Scope.Thread)
+    public static class EmptyJavers {
+        private Javers javers;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            javers = JaversBuilder.javers().build();
+        }
+    }
+
+    @Benchmark
+    public Commit initialCommit(EmptyJavers emptyJavers) {
+        return emptyJavers.javers.commit("author", root());
+    }
+
+    @Benchmark
+    public Commit commitWithoutChanges() {
+        return javers.commit("author", root());
+    }
+
+    @Benchmark
+    public Commit commitWithChanges() {
+        for (int i = 0; i < employees.size(); i += CHANGED_NODES_RATIO) {
+            Employee employee = employees.get(i);
+            employee.setSalary(employee.getSalary() + 1);
+        }
+        return javers.commit("author", root());
+    }
+
+    private Employee root() {
+        return employees.get(0);
+    }
+}
@@ -0,0 +1,58 @@
+package org.javers.benchmarks;
+
+import org.javers.benchmarks.model.Project;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.core.diff.Diff;
+import org.javers.core.diff.ListCompareAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Javers#compare(Object, Object)} of long lists,
+ * every tenth element is removed, changed or inserted
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompareBenchmark {
+
+    @Param({"SIMPLE", "LEVENSHTEIN_DISTANCE"})
+    private ListCompareAlgorithm algorithm;
+
+    @Param({"100", "1000", "5000"})
+    private int listSize;
+
+    private Javers javers;
+    private Project left;
+    private Project right;
+
+    @Setup
+    public void setUp() {
+        javers = JaversBuilder.javers().withListCompareAlgorithm(algorithm).build();
+
+        List<String> leftTasks = new ArrayList<>();
+        List<String> rightTasks = new ArrayList<>();
+        for (int i = 0; i < listSize; i++) {
+            leftTasks.add("task " + i);
+            switch (i % 30) {
+                case 0:  break;
+                case 10: rightTasks.add("changed task " + i); break;
+                case 20: rightTasks.add("inserted task " + i);
+                         rightTasks.add("task " + i); break;
+                default: rightTasks.add("task " + i);
+            }
+        }
+
+        left = new Project(1, leftTasks);
+        right = new Project(1, rightTasks);
+    }
+
+    @Benchmark
+    public Diff compareLists() {
+        return javers.compare(left, right);
+    }
+}
@@ -0,0 +1,57 @@
+package org.javers.benchmarks;
+
+import org.javers.benchmarks.model.Employee;
+import org.javers.benchmarks.model.Organizations;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.core.json.JsonConverter;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.repository.jql.QueryBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * {@link CdoSnapshot} round-trips through {@link JsonConverter},
+ * as done by every JaversRepository on write and read
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonConverterBenchmark {
+    private static final int SNAPSHOTS = 1000;
+
+    private JsonConverter jsonConverter;
+    private List<CdoSnapshot> snapshots;
+    private List<String> jsonSnapshots;
+
+    @Setup
+    public void setUp() {
+        Javers javers = JaversBuilder.javers().build();
+        javers.commit("author", Organizations.createOrganization(SNAPSHOTS).get(0));
+
+        jsonConverter = javers.getJsonConverter();
+        snapshots = javers.findSnapshots(QueryBuilder.byClass(Employee.class).limit(SNAPSHOTS).build());
+        jsonSnapshots = snapshots.stream().map(jsonConverter::toJson).collect(toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SNAPSHOTS)
+    public void snapshotToJson(Blackhole blackhole) {
+        for (CdoSnapshot snapshot : snapshots) {
+            blackhole.consume(jsonConverter.toJson(snapshot));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SNAPSHOTS)
+    public void snapshotFromJson(Blackhole blackhole) {
+        for (String json : jsonSnapshots) {
+            blackhole.consume(jsonConverter.fromJson(json, CdoSnapshot.class));
+        }
+    }
+}
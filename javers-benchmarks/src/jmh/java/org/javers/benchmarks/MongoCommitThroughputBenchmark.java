@@ -0,0 +1,73 @@
+package org.javers.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import org.javers.benchmarks.model.Employee;
+import org.javers.benchmarks.model.Position;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.core.commit.Commit;
+import org.javers.repository.mongo.MongoHeadIdTracking;
+import org.javers.repository.mongo.MongoRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.javers.repository.mongo.MongoRepositoryConfigurationBuilder.mongoRepositoryConfiguration;
+
+/**
+ * Commits per second with 32 concurrent writers, for each {@link MongoHeadIdTracking} mode.
+ * Each writer commits its own Entity.
+ * <br/>
+ * Requires MongoDB, <code>mongodb://localhost:27017</code> by default,
+ * it can be changed with the <code>javers.benchmarks.mongoUri</code> system property.
+ * The <code>javers-benchmarks</code> database is dropped on setUp().
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class MongoCommitThroughputBenchmark {
+
+    @Param({"DOCUMENT", "ATOMIC_DOCUMENT", "SNAPSHOT_QUERY"})
+    private MongoHeadIdTracking headIdTracking;
+
+    private MongoClient mongoClient;
+    private Javers javers;
+
+    @Setup
+    public void setUp() {
+        mongoClient = MongoClients.create(System.getProperty("javers.benchmarks.mongoUri", "mongodb://localhost:27017"));
+        MongoDatabase database = mongoClient.getDatabase("javers-benchmarks");
+        database.drop();
+
+        javers = JaversBuilder.javers()
+                .registerJaversRepository(new MongoRepository(database, mongoRepositoryConfiguration()
+                        .withHeadIdTracking(headIdTracking)
+                        .build()))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        mongoClient.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        private Employee employee;
+
+        @Setup
+        public void setUp() {
+            employee = new Employee(UUID.randomUUID().toString(), 0, Position.DEVELOPER, null);
+        }
+    }
+
+    @Benchmark
+    public Commit commit(Writer writer) {
+        writer.employee.setSalary(writer.employee.getSalary() + 1);
+        return javers.commit("author", writer.employee);
+    }
+}
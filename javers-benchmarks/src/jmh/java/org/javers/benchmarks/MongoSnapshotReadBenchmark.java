@@ -0,0 +1,91 @@
+package org.javers.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.core.metamodel.annotation.Id;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.repository.jql.QueryBuilder;
+import org.javers.repository.mongo.MongoRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.javers.repository.mongo.MongoRepositoryConfigurationBuilder.mongoRepositoryConfiguration;
+
+/**
+ * Reads of large snapshots (a Map and a List with 500 entries each) from MongoRepository,
+ * with and without the BSON snapshot codec.
+ * Run with <code>-prof gc</code> to compare allocation rates.
+ * <br/>
+ * Requires MongoDB, <code>mongodb://localhost:27017</code> by default,
+ * it can be changed with the <code>javers.benchmarks.mongoUri</code> system property.
+ * The <code>javers-benchmarks</code> database is dropped on setUp().
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MongoSnapshotReadBenchmark {
+    private static final int SNAPSHOTS = 100;
+    private static final int ENTRIES = 500;
+
+    @Param({"true", "false"})
+    private boolean bsonSnapshotCodec;
+
+    private MongoClient mongoClient;
+    private Javers javers;
+
+    public static class LargeEntity {
+        @Id
+        private String id;
+        private Map<String, Integer> counters = new HashMap<>();
+        private List<String> tags = new ArrayList<>();
+
+        LargeEntity(String id) {
+            this.id = id;
+            for (int i = 0; i < ENTRIES; i++) {
+                counters.put("counter." + i, i);
+                tags.add("tag " + i);
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        mongoClient = MongoClients.create(System.getProperty("javers.benchmarks.mongoUri", "mongodb://localhost:27017"));
+        MongoDatabase database = mongoClient.getDatabase("javers-benchmarks");
+        database.drop();
+
+        javers = JaversBuilder.javers()
+                .registerJaversRepository(new MongoRepository(database, mongoRepositoryConfiguration()
+                        .withCacheSize(0)
+                        .withBsonSnapshotCodecEnabled(bsonSnapshotCodec)
+                        .build()))
+                .build();
+
+        for (int i = 0; i < SNAPSHOTS; i++) {
+            javers.commit("author", new LargeEntity("entity " + i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        mongoClient.close();
+    }
+
+    @Benchmark
+    public List<CdoSnapshot> findSnapshotsByClass() {
+        return javers.findSnapshots(QueryBuilder.byClass(LargeEntity.class).limit(SNAPSHOTS).build());
+    }
+
+    @Benchmark
+    public CdoSnapshot getLatestSnapshot() {
+        return javers.getLatestSnapshot("entity 0", LargeEntity.class).get();
+    }
+}
@@ -0,0 +1,66 @@
+package org.javers.benchmarks;
+
+import org.javers.benchmarks.model.Employee;
+import org.javers.benchmarks.model.Organizations;
+import org.javers.core.Changes;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.repository.jql.JqlQuery;
+import org.javers.repository.jql.QueryBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findChanges() over 5000 snapshots, diffed sequentially (threads = 0)
+ * or in parallel, with a given number of threads.
+ * <br/>
+ * Snapshots are kept in InMemoryRepository, so diffing dominates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelDiffingBenchmark {
+    private static final int EMPLOYEES = 100;
+    private static final int COMMITS = 50;
+    private static final int LIMIT = EMPLOYEES * COMMITS;
+
+    @Param({"0", "1", "2", "4", "8"})
+    private int threads;
+
+    private ForkJoinPool pool;
+    private Javers javers;
+    private JqlQuery query;
+
+    @Setup
+    public void setUp() {
+        JaversBuilder javersBuilder = JaversBuilder.javers();
+        if (threads > 0) {
+            pool = new ForkJoinPool(threads);
+            javersBuilder.withParallelSnapshotDiffing(pool);
+        }
+        javers = javersBuilder.build();
+
+        List<Employee> employees = Organizations.createOrganization(EMPLOYEES);
+        for (int i = 0; i < COMMITS; i++) {
+            employees.forEach(it -> it.setSalary(it.getSalary() + 1));
+            javers.commit("author", employees.get(0));
+        }
+
+        query = QueryBuilder.byClass(Employee.class).limit(LIMIT).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Changes findChanges() {
+        return javers.findChanges(query);
+    }
+}
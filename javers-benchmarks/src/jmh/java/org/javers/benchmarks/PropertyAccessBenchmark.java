@@ -0,0 +1,66 @@
+package org.javers.benchmarks;
+
+import org.javers.benchmarks.model.Employee;
+import org.javers.benchmarks.model.Organizations;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.core.MappingStyle;
+import org.javers.core.PropertyAccessStrategy;
+import org.javers.core.diff.Diff;
+import org.javers.core.metamodel.type.JaversProperty;
+import org.javers.core.metamodel.type.ManagedType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading property values with a given {@link PropertyAccessStrategy},
+ * directly and as a part of {@link Javers#compare(Object, Object)} of two organization trees
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PropertyAccessBenchmark {
+    private static final int EMPLOYEES = 1000;
+
+    @Param({"REFLECTION", "METHOD_HANDLE", "LAMBDA_METAFACTORY"})
+    private PropertyAccessStrategy strategy;
+
+    @Param({"FIELD", "BEAN"})
+    private MappingStyle mappingStyle;
+
+    private Javers javers;
+    private List<JaversProperty> properties;
+    private List<Employee> left;
+    private List<Employee> right;
+
+    @Setup
+    public void setUp() {
+        javers = JaversBuilder.javers()
+                .withMappingStyle(mappingStyle)
+                .withPropertyAccessStrategy(strategy)
+                .build();
+
+        properties = javers.<ManagedType>getTypeMapping(Employee.class).getProperties();
+
+        left = Organizations.createOrganization(EMPLOYEES);
+        right = Organizations.createOrganization(EMPLOYEES);
+        right.forEach(it -> it.setSalary(it.getSalary() + 1));
+    }
+
+    @Benchmark
+    public void readProperties(Blackhole blackhole) {
+        for (Employee employee : left) {
+            for (JaversProperty property : properties) {
+                blackhole.consume(property.get(employee));
+            }
+        }
+    }
+
+    @Benchmark
+    public Diff compare() {
+        return javers.compare(left.get(0), right.get(0));
+    }
+}
@@ -0,0 +1,87 @@
+package org.javers.benchmarks;
+
+import org.javers.benchmarks.RepositoryType.BenchmarkedJavers;
+import org.javers.benchmarks.model.Employee;
+import org.javers.benchmarks.model.Organizations;
+import org.javers.core.Changes;
+import org.javers.core.Javers;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.repository.jql.JqlQuery;
+import org.javers.repository.jql.QueryBuilder;
+import org.javers.shadow.Shadow;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JQL queries against a history of an organization tree,
+ * 100 employees changed in 50 commits
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueryBenchmark {
+    private static final int EMPLOYEES = 100;
+    private static final int COMMITS = 50;
+    private static final int LIMIT = 1000;
+
+    @Param({"IN_MEMORY", "H2_SQL"})
+    private RepositoryType repositoryType;
+
+    private BenchmarkedJavers benchmarkedJavers;
+    private Javers javers;
+    private Employee ceo;
+
+    @Setup
+    public void setUp() throws SQLException {
+        benchmarkedJavers = repositoryType.createJavers();
+        javers = benchmarkedJavers.javers();
+
+        List<Employee> employees = Organizations.createOrganization(EMPLOYEES);
+        ceo = employees.get(0);
+
+        for (int i = 0; i < COMMITS; i++) {
+            //each commit changes one subordinate, so DEEP_PLUS shadows have gaps to fill
+            Employee employee = employees.get(1 + i % (EMPLOYEES - 1));
+            employee.setSalary(employee.getSalary() + 1);
+            ceo.setSalary(ceo.getSalary() + 1);
+            javers.commit("author", ceo);
+            benchmarkedJavers.commitTransaction();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        benchmarkedJavers.close();
+    }
+
+    @Benchmark
+    public Changes findChanges() {
+        return javers.findChanges(byEmployeeClass());
+    }
+
+    @Benchmark
+    public List<CdoSnapshot> findSnapshots() {
+        return javers.findSnapshots(byEmployeeClass());
+    }
+
+    @Benchmark
+    public List<Shadow<Employee>> findShadowsShallow() {
+        return javers.findShadows(QueryBuilder.byInstance(ceo).limit(LIMIT).build());
+    }
+
+    @Benchmark
+    public List<Shadow<Employee>> findShadowsDeepPlus() {
+        return javers.findShadows(QueryBuilder.byInstance(ceo)
+                .withScopeDeepPlus(EMPLOYEES)
+                .limit(LIMIT)
+                .snapshotQueryLimit(LIMIT)
+                .build());
+    }
+
+    private JqlQuery byEmployeeClass() {
+        return QueryBuilder.byClass(Employee.class).limit(LIMIT).build();
+    }
+}
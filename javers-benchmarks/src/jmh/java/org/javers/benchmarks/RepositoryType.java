@@ -0,0 +1,66 @@
+package org.javers.benchmarks;
+
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.repository.sql.ConnectionProvider;
+import org.javers.repository.sql.DialectName;
+import org.javers.repository.sql.SqlRepositoryBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * JaversRepository implementations covered by query benchmarks
+ */
+public enum RepositoryType {
+    IN_MEMORY,
+    H2_SQL;
+
+    BenchmarkedJavers createJavers() {
+        if (this == IN_MEMORY) {
+            return new BenchmarkedJavers(JaversBuilder.javers().build(), null);
+        }
+
+        try {
+            Connection connection = DriverManager.getConnection("jdbc:h2:mem:javers-benchmarks");
+            connection.setAutoCommit(false);
+
+            Javers javers = JaversBuilder.javers()
+                    .registerJaversRepository(SqlRepositoryBuilder.sqlRepository()
+                            .withConnectionProvider((ConnectionProvider) () -> connection)
+                            .withDialect(DialectName.H2)
+                            .build())
+                    .build();
+            return new BenchmarkedJavers(javers, connection);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static class BenchmarkedJavers {
+        private final Javers javers;
+        private final Connection connection;
+
+        BenchmarkedJavers(Javers javers, Connection connection) {
+            this.javers = javers;
+            this.connection = connection;
+        }
+
+        Javers javers() {
+            return javers;
+        }
+
+        void commitTransaction() throws SQLException {
+            if (connection != null) {
+                connection.commit();
+            }
+        }
+
+        void close() throws SQLException {
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.javers.benchmarks;
+
+import org.javers.benchmarks.model.Employee;
+import org.javers.benchmarks.model.Organizations;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.repository.jql.QueryBuilder;
+import org.javers.repository.sql.codecs.CdoSnapshotStateBinaryCodec;
+import org.javers.repository.sql.codecs.DeflateCdoSnapshotStateCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Snapshot state encoding and decoding, as done by JaversSqlRepository on write and read.
+ * <br/>
+ * <code>json</code> is the text state (UTF-8), as stored by default,
+ * <code>deflate</code> uses the default dictionary,
+ * <code>deflateTrained</code> uses a dictionary trained on the benchmark snapshots.
+ * <br/>
+ * Average sizes are printed in setUp().
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotStateCodecBenchmark {
+    private static final int SNAPSHOTS = 1000;
+
+    @Param({"json", "deflate", "deflateTrained"})
+    private String codec;
+
+    private CdoSnapshotStateBinaryCodec binaryCodec;
+    private List<String> states;
+    private List<byte[]> encodedStates;
+
+    @Setup
+    public void setUp() {
+        Javers javers = JaversBuilder.javers().build();
+        javers.commit("author", Organizations.createOrganization(SNAPSHOTS).get(0));
+
+        states = javers.findSnapshots(QueryBuilder.byClass(Employee.class).limit(SNAPSHOTS).build())
+                .stream()
+                .map(it -> javers.getJsonConverter().toJson(it.getState()))
+                .collect(toList());
+
+        if (codec.equals("deflate")) {
+            binaryCodec = CdoSnapshotStateBinaryCodec.deflate();
+        } else if (codec.equals("deflateTrained")) {
+            binaryCodec = CdoSnapshotStateBinaryCodec.deflate(DeflateCdoSnapshotStateCodec.trainDictionary(states, 100));
+        } else {
+            binaryCodec = new Utf8Codec();
+        }
+
+        encodedStates = states.stream().map(binaryCodec::encode).collect(toList());
+        System.out.printf("%n%s: average state size %d bytes%n", codec,
+                encodedStates.stream().mapToInt(it -> it.length).sum() / SNAPSHOTS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SNAPSHOTS)
+    public void encode(Blackhole blackhole) {
+        for (String state : states) {
+            blackhole.consume(binaryCodec.encode(state));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SNAPSHOTS)
+    public void decode(Blackhole blackhole) {
+        for (byte[] encoded : encodedStates) {
+            blackhole.consume(binaryCodec.decode(encoded));
+        }
+    }
+
+    private static class Utf8Codec implements CdoSnapshotStateBinaryCodec {
+        @Override
+        public byte[] encode(String json) {
+            return json.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] encoded) {
+            return new String(encoded, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.javers.benchmarks.model;
+
+/**
+ * Sample Value Object
+ */
+public class Address {
+    private final String city;
+    private final String street;
+
+    public Address(String city, String street) {
+        this.city = city;
+        this.street = street;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+}
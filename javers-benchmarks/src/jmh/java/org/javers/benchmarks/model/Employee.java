@@ -0,0 +1,66 @@
+package org.javers.benchmarks.model;
+
+import org.javers.core.metamodel.annotation.Id;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sample Entity, nodes of an organization tree
+ */
+public class Employee {
+    @Id
+    private String name;
+    private int salary;
+    private Position position;
+    private Employee boss;
+    private List<Employee> subordinates = new ArrayList<>();
+    private Address address;
+
+    public Employee(String name, int salary, Position position, Address address) {
+        this.name = name;
+        this.salary = salary;
+        this.position = position;
+        this.address = address;
+    }
+
+    public void addSubordinate(Employee subordinate) {
+        subordinate.boss = this;
+        subordinates.add(subordinate);
+        if (position == Position.DEVELOPER) {
+            position = Position.MANAGER;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSalary() {
+        return salary;
+    }
+
+    public void setSalary(int salary) {
+        this.salary = salary;
+    }
+
+    public Position getPosition() {
+        return position;
+    }
+
+    public Employee getBoss() {
+        return boss;
+    }
+
+    public List<Employee> getSubordinates() {
+        return subordinates;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+}
@@ -0,0 +1,41 @@
+package org.javers.benchmarks.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Builds organization trees of a given size
+ */
+public class Organizations {
+    private static final int SUBORDINATES_PER_MANAGER = 10;
+
+    /**
+     * @return all employees in breadth-first order, the first one is the root (CEO)
+     */
+    public static List<Employee> createOrganization(int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        Deque<Employee> managers = new ArrayDeque<>();
+
+        Employee ceo = new Employee("Employee 0", 10_000, Position.CEO, address(0));
+        employees.add(ceo);
+        managers.add(ceo);
+
+        while (employees.size() < size) {
+            Employee boss = managers.poll();
+            for (int i = 0; i < SUBORDINATES_PER_MANAGER && employees.size() < size; i++) {
+                int id = employees.size();
+                Employee subordinate = new Employee("Employee " + id, 1_000 + id, Position.DEVELOPER, address(id));
+                boss.addSubordinate(subordinate);
+                employees.add(subordinate);
+                managers.add(subordinate);
+            }
+        }
+        return employees;
+    }
+
+    public static Address address(int id) {
+        return new Address("City " + (id % 100), "Street " + id);
+    }
+}
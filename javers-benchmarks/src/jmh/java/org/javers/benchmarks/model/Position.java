@@ -0,0 +1,5 @@
+package org.javers.benchmarks.model;
+
+public enum Position {
+    CEO, MANAGER, DEVELOPER
+}
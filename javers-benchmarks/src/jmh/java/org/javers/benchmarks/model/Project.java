@@ -0,0 +1,27 @@
+package org.javers.benchmarks.model;
+
+import org.javers.core.metamodel.annotation.Id;
+
+import java.util.List;
+
+/**
+ * Sample Entity with a long list, used for list comparison benchmarks
+ */
+public class Project {
+    @Id
+    private int id;
+    private List<String> tasks;
+
+    public Project(int id, List<String> tasks) {
+        this.id = id;
+        this.tasks = tasks;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public List<String> getTasks() {
+        return tasks;
+    }
+}
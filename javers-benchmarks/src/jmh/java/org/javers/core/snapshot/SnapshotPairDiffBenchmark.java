@@ -0,0 +1,96 @@
+package org.javers.core.snapshot;
+
+import org.javers.benchmarks.model.Employee;
+import org.javers.benchmarks.model.Organizations;
+import org.javers.core.CoreConfiguration;
+import org.javers.core.Javers;
+import org.javers.core.JaversBuilder;
+import org.javers.core.diff.DiffFactory;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.repository.api.SnapshotIdentifier;
+import org.javers.repository.jql.QueryBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Diffing of snapshot pairs, as done by findChanges() for updated objects.
+ * <br/>
+ * <code>graphs</code> is the previous path, {@link DiffFactory#create} on two single-node SnapshotGraphs,
+ * <code>direct</code> is {@link SnapshotDiffer}, comparing snapshot states property by property.
+ * <br/>
+ * Placed in the org.javers.core.snapshot package to reach the package-private SnapshotGraph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotPairDiffBenchmark {
+    private static final int EMPLOYEES = 100;
+    private static final int COMMITS = 50;
+    private static final int PAIRS = EMPLOYEES * (COMMITS - 1);
+
+    @Param({"graphs", "direct"})
+    private String path;
+
+    private DiffFactory diffFactory;
+    private SnapshotDiffer snapshotDiffer;
+    private List<CdoSnapshot> snapshots;
+    private Map<SnapshotIdentifier, CdoSnapshot> previousSnapshots;
+
+    @Setup
+    public void setUp() {
+        BenchmarkJaversBuilder javersBuilder = new BenchmarkJaversBuilder();
+        Javers javers = javersBuilder.build();
+        diffFactory = javersBuilder.getComponent(DiffFactory.class);
+        snapshotDiffer = new SnapshotDiffer(diffFactory, javersBuilder.getComponent(CoreConfiguration.class));
+
+        List<Employee> employees = Organizations.createOrganization(EMPLOYEES);
+        for (int i = 0; i < COMMITS; i++) {
+            for (int e = 0; e < employees.size(); e++) {
+                Employee employee = employees.get(e);
+                employee.setSalary(employee.getSalary() + 1);
+                if ((i + e) % 5 == 0) {
+                    employee.setAddress(Organizations.address(i * EMPLOYEES + e));
+                }
+            }
+            javers.commit("author", employees.get(0));
+        }
+
+        List<CdoSnapshot> all = javers.findSnapshots(QueryBuilder.byClass(Employee.class).limit(EMPLOYEES * COMMITS).build());
+        snapshots = all.stream().filter(CdoSnapshot::isUpdate).collect(toList());
+        previousSnapshots = new HashMap<>();
+        all.forEach(it -> previousSnapshots.put(SnapshotIdentifier.from(it), it));
+
+        if (snapshots.size() != PAIRS) {
+            throw new IllegalStateException("expected " + PAIRS + " pairs, got " + snapshots.size());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void diffPairs(Blackhole blackhole) {
+        if (path.equals("direct")) {
+            blackhole.consume(snapshotDiffer.calculateDiffs(snapshots, previousSnapshots));
+            return;
+        }
+
+        for (CdoSnapshot snapshot : snapshots) {
+            CdoSnapshot previous = previousSnapshots.get(SnapshotIdentifier.from(snapshot).previous());
+            blackhole.consume(diffFactory.create(graph(previous), graph(snapshot), Optional.of(snapshot.getCommitMetadata())));
+        }
+    }
+
+    private SnapshotGraph graph(CdoSnapshot snapshot) {
+        return new SnapshotGraph(Collections.singleton(new SnapshotNode(snapshot)));
+    }
+
+    private static class BenchmarkJaversBuilder extends JaversBuilder {
+        <T> T getComponent(Class<T> ofClass) {
+            return getContainerComponent(ofClass);
+        }
+    }
+}
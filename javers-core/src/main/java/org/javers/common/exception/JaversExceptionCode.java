@@ -116,6 +116,8 @@ public enum JaversExceptionCode {
 
     CANT_FIND_COMMIT_HEAD_ID("can't find commit head id in JaversRepository"),
 
+    COMMIT_ID_BLOCKS_NOT_SUPPORTED("%s doesn't support CommitIdGenerator.BLOCK_SEQUENCE, commit id blocks can't be reserved"),
+
     SQL_EXCEPTION("%s\nwhile executing sql: %s"),
 
     UNSUPPORTED_SQL_DIALECT("dialect '%s' is not supported by JaVers"),
@@ -29,6 +29,10 @@ public class JaversField extends JaversMember<Field> {
 
     @Override
     public Object getEvenIfPrivate(Object onObject) {
+        if (hasGeneratedGetter()) {
+            return getByGeneratedGetter(onObject);
+        }
+
         try {
             return getRawMember().get(onObject);
         } catch (IllegalArgumentException ie) {
@@ -44,6 +44,10 @@ public class JaversGetter extends JaversMember<Method> {
 
     @Override
     public Object getEvenIfPrivate(Object onObject) {
+        if (hasGeneratedGetter()) {
+            return getByGeneratedGetter(onObject);
+        }
+
         try {
             return getRawMember().invoke(onObject, EMPTY_ARRAY);
         } catch (IllegalArgumentException ie) {
@@ -1,7 +1,10 @@
 package org.javers.common.reflection;
 
 import org.javers.common.collections.Sets;
+import org.javers.common.exception.JaversException;
+import org.javers.common.exception.JaversExceptionCode;
 import org.javers.common.validation.Validate;
+import org.javers.core.PropertyAccessStrategy;
 import org.javers.core.metamodel.property.MissingProperty;
 
 import java.lang.annotation.Annotation;
@@ -31,6 +34,7 @@ public abstract class JaversMember<T extends Member> {
     private final Optional<Type> resolvedReturnType;
     private final boolean looksLikeId;
     private final Map<Class, Optional<JaversMember>> mirrorMembersMemoized = new ConcurrentHashMap<>();
+    private volatile MemberGetter generatedGetter; //null means Reflection
 
     /**
      * @param resolvedReturnType nullable
@@ -90,6 +94,37 @@ public abstract class JaversMember<T extends Member> {
 
     public abstract void setEvenIfPrivate(Object target, Object value);
 
+    /**
+     * Generates and caches a getter for this member, used by {@link #getEvenIfPrivate(Object)}.
+     * Falls back to Reflection if a getter can't be generated.
+     */
+    public void useAccessStrategy(PropertyAccessStrategy accessStrategy) {
+        Validate.argumentIsNotNull(accessStrategy);
+        this.generatedGetter = MemberGetters.create(rawMember, accessStrategy).orElse(null);
+    }
+
+    boolean hasGeneratedGetter() {
+        return generatedGetter != null;
+    }
+
+    /**
+     * Same contract as getEvenIfPrivate() implemented with Reflection
+     */
+    Object getByGeneratedGetter(Object onObject) {
+        if (!getDeclaringClass().isInstance(onObject)) {
+            return getOnMissingProperty(onObject);
+        }
+
+        try {
+            return generatedGetter.get(onObject);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new JaversException(JaversExceptionCode.PROPERTY_ACCESS_ERROR,
+                    this, onObject.getClass().getSimpleName(), e.getClass().getName()+": "+e.getMessage());
+        }
+    }
+
     void setAccessibleIfNecessary(Member rawMember) {
         if (!isPublic(rawMember)) {
             ((AccessibleObject) rawMember).setAccessible(true); //that's Java Reflection API ...
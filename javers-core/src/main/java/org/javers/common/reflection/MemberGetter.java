@@ -0,0 +1,11 @@
+package org.javers.common.reflection;
+
+/**
+ * Generated getter of a {@link JaversMember}, an alternative to Java Reflection
+ *
+ * @see MemberGetters
+ */
+@FunctionalInterface
+interface MemberGetter {
+    Object get(Object target) throws Throwable;
+}
@@ -0,0 +1,94 @@
+package org.javers.common.reflection;
+
+import org.javers.core.PropertyAccessStrategy;
+import org.slf4j.Logger;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Generates {@link MemberGetter}s, empty result means that Reflection should be used
+ */
+final class MemberGetters {
+    private static final Logger logger = getLogger(MemberGetters.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private MemberGetters() {
+    }
+
+    static Optional<MemberGetter> create(Member member, PropertyAccessStrategy strategy) {
+        if (strategy == PropertyAccessStrategy.REFLECTION || Modifier.isStatic(member.getModifiers())) {
+            return Optional.empty();
+        }
+
+        try {
+            if (strategy == PropertyAccessStrategy.LAMBDA_METAFACTORY && canBindLambda(member)) {
+                return Optional.of(lambdaGetter((Method) member));
+            }
+            return Optional.of(methodHandleGetter(member));
+        } catch (Throwable e) {
+            logger.debug("can't generate {} getter for {}.{}, falling back to Reflection, {}: {}",
+                    strategy, member.getDeclaringClass().getName(), member.getName(),
+                    e.getClass().getName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static MemberGetter methodHandleGetter(Member member) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        //JaversMember has already made it accessible, if necessary
+        MethodHandle handle = member instanceof Field
+                ? lookup.unreflectGetter((Field) member)
+                : lookup.unreflect((Method) member);
+
+        MethodHandle getter = handle.asType(GETTER_TYPE);
+        return target -> (Object) getter.invokeExact(target);
+    }
+
+    private static MemberGetter lambdaGetter(Method method) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        CallSite site = LambdaMetafactory.metafactory(lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                lookup.unreflect(method),
+                MethodType.methodType(Object.class, method.getDeclaringClass()));
+
+        Function<Object, Object> function = (Function<Object, Object>) site.getTarget().invokeExact();
+        return function::apply;
+    }
+
+    /**
+     * Generated lambda class resolves the target class from the JaVers classloader,
+     * so it has to be visible from there
+     */
+    private static boolean canBindLambda(Member member) {
+        if (!(member instanceof Method)) {
+            return false;
+        }
+
+        Class<?> declaringClass = member.getDeclaringClass();
+        if (!Modifier.isPublic(member.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())) {
+            return false;
+        }
+
+        try {
+            return Class.forName(declaringClass.getName(), false, MemberGetters.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -40,6 +40,28 @@ public enum CommitIdGenerator {
         }
     },
 
+    /**
+     * Sequential commit identifiers, handed out from blocks of major ids
+     * reserved in {@link JaversRepository#reserveCommitIdBlock(int, long)}.
+     * Non-blocking, except when a new block is reserved,
+     * and {@link JaversRepository#getHeadId()} is called only once.
+     * <br/><br/>
+     *
+     * Suitable for distributed applications,
+     * if a JaversRepository reserves blocks atomically (SQL with sequences, MongoDB).<br/>
+     *
+     * Identifiers are monotonically increasing within an application instance.
+     * Across instances, commits are ordered by commitDateInstant, like in {@link #RANDOM}.
+     *
+     * @see org.javers.core.JaversBuilder#withCommitIdBlockSize(int)
+     */
+    BLOCK_SEQUENCE {
+        public Comparator<CommitMetadata> getComparator() {
+            return Comparator.comparing(CommitMetadata::getCommitDateInstant)
+                    .thenComparing(CommitMetadata::getId);
+        }
+    },
+
     /**
      * Provided by user
      */
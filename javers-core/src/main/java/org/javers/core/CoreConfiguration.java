@@ -4,6 +4,7 @@ import org.javers.common.string.PrettyValuePrinter;
 import org.javers.core.commit.CommitId;
 import org.javers.core.diff.ListCompareAlgorithm;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -17,6 +18,8 @@ public class CoreConfiguration {
 
     private final ListCompareAlgorithm listCompareAlgorithm;
 
+    private final int levenshteinBandWidth;
+
     private boolean prettyPrint;
 
     private final boolean initialChanges;
@@ -29,17 +32,33 @@ public class CoreConfiguration {
 
     private final Supplier<CommitId> customCommitIdGenerator;
 
-    CoreConfiguration(PrettyValuePrinter prettyValuePrinter, MappingStyle mappingStyle, ListCompareAlgorithm listCompareAlgorithm, boolean initialChanges, CommitIdGenerator commitIdGenerator, Supplier<CommitId> customCommitIdGenerator, boolean terminalChanges, boolean prettyPrint,
-            boolean usePrimitiveDefaults) {
+    private final Executor snapshotDiffingExecutor;
+
+    private final PropertyAccessStrategy propertyAccessStrategy;
+
+    private final int commitIdBlockSize;
+
+    private final int snapshotFingerprintCacheSize;
+
+    private final int snapshotCacheSize;
+
+    CoreConfiguration(PrettyValuePrinter prettyValuePrinter, MappingStyle mappingStyle, ListCompareAlgorithm listCompareAlgorithm, int levenshteinBandWidth, boolean initialChanges, CommitIdGenerator commitIdGenerator, Supplier<CommitId> customCommitIdGenerator, boolean terminalChanges, boolean prettyPrint,
+            boolean usePrimitiveDefaults, Executor snapshotDiffingExecutor, PropertyAccessStrategy propertyAccessStrategy, int commitIdBlockSize, int snapshotFingerprintCacheSize, int snapshotCacheSize) {
         this.prettyValuePrinter = prettyValuePrinter;
         this.mappingStyle = mappingStyle;
         this.listCompareAlgorithm = listCompareAlgorithm;
+        this.levenshteinBandWidth = levenshteinBandWidth;
         this.initialChanges = initialChanges;
         this.commitIdGenerator = commitIdGenerator;
         this.customCommitIdGenerator = customCommitIdGenerator;
         this.terminalChanges = terminalChanges;
         this.prettyPrint = prettyPrint;
         this.usePrimitiveDefaults = usePrimitiveDefaults;
+        this.snapshotDiffingExecutor = snapshotDiffingExecutor;
+        this.propertyAccessStrategy = propertyAccessStrategy;
+        this.commitIdBlockSize = commitIdBlockSize;
+        this.snapshotFingerprintCacheSize = snapshotFingerprintCacheSize;
+        this.snapshotCacheSize = snapshotCacheSize;
     }
 
     public PrettyValuePrinter getPrettyValuePrinter() {
@@ -54,6 +73,13 @@ public class CoreConfiguration {
         return listCompareAlgorithm;
     }
 
+    /**
+     * Used by {@link ListCompareAlgorithm#LEVENSHTEIN_DISTANCE_LOW_MEMORY}, 0 means no band
+     */
+    public int getLevenshteinBandWidth() {
+        return levenshteinBandWidth;
+    }
+
     public boolean isInitialChanges() {
         return initialChanges;
     }
@@ -77,4 +103,39 @@ public class CoreConfiguration {
     public boolean isPrettyPrint() {
         return prettyPrint;
     }
+
+    /**
+     * Used for diffing Snapshots loaded by {@link Javers#findChanges(org.javers.repository.jql.JqlQuery)},
+     * null means that Snapshots are diffed sequentially, on the caller thread
+     */
+    public Executor getSnapshotDiffingExecutor() {
+        return snapshotDiffingExecutor;
+    }
+
+    public PropertyAccessStrategy getPropertyAccessStrategy() {
+        return propertyAccessStrategy;
+    }
+
+    /**
+     * Number of commit major ids reserved at once by {@link CommitIdGenerator#BLOCK_SEQUENCE}
+     */
+    public int getCommitIdBlockSize() {
+        return commitIdBlockSize;
+    }
+
+    /**
+     * Max number of objects in {@link org.javers.core.commit.SnapshotFingerprintCache},
+     * 0 means disabled
+     */
+    public int getSnapshotFingerprintCacheSize() {
+        return snapshotFingerprintCacheSize;
+    }
+
+    /**
+     * Max weight of {@link org.javers.repository.api.SnapshotCache},
+     * 0 means disabled
+     */
+    public int getSnapshotCacheSize() {
+        return snapshotCacheSize;
+    }
 }
@@ -5,6 +5,7 @@ import org.javers.common.validation.Validate;
 import org.javers.core.commit.CommitId;
 import org.javers.core.diff.ListCompareAlgorithm;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 class CoreConfigurationBuilder {
@@ -14,6 +15,8 @@ class CoreConfigurationBuilder {
 
     private ListCompareAlgorithm listCompareAlgorithm = ListCompareAlgorithm.SIMPLE;
 
+    private int levenshteinBandWidth = 0;
+
     private boolean prettyPrint = true;
 
     private boolean initialChanges = true;
@@ -26,6 +29,16 @@ class CoreConfigurationBuilder {
 
     private Supplier<CommitId> customCommitIdGenerator;
 
+    private Executor snapshotDiffingExecutor;
+
+    private PropertyAccessStrategy propertyAccessStrategy = PropertyAccessStrategy.REFLECTION;
+
+    private int commitIdBlockSize = 100;
+
+    private int snapshotFingerprintCacheSize = 0;
+
+    private int snapshotCacheSize = 0;
+
     private CoreConfigurationBuilder() {
     }
 
@@ -38,12 +51,18 @@ class CoreConfigurationBuilder {
                 prettyValuePrinter,
                 mappingStyle,
                 listCompareAlgorithm,
+                levenshteinBandWidth,
                 initialChanges,
                 commitIdGenerator,
                 customCommitIdGenerator,
                 terminalChanges,
                 prettyPrint,
-                usePrimitiveDefaults
+                usePrimitiveDefaults,
+                snapshotDiffingExecutor,
+                propertyAccessStrategy,
+                commitIdBlockSize,
+                snapshotFingerprintCacheSize,
+                snapshotCacheSize
         );
     }
 
@@ -66,6 +85,24 @@ class CoreConfigurationBuilder {
         return this;
     }
 
+    CoreConfigurationBuilder withCommitIdBlockSize(int commitIdBlockSize) {
+        Validate.argumentCheck(commitIdBlockSize > 0, "commitIdBlockSize should be > 0");
+        this.commitIdBlockSize = commitIdBlockSize;
+        return this;
+    }
+
+    CoreConfigurationBuilder withSnapshotFingerprintCacheSize(int snapshotFingerprintCacheSize) {
+        Validate.argumentCheck(snapshotFingerprintCacheSize >= 0, "snapshotFingerprintCacheSize should be >= 0");
+        this.snapshotFingerprintCacheSize = snapshotFingerprintCacheSize;
+        return this;
+    }
+
+    CoreConfigurationBuilder withSnapshotCacheSize(int snapshotCacheSize) {
+        Validate.argumentCheck(snapshotCacheSize >= 0, "snapshotCacheSize should be >= 0");
+        this.snapshotCacheSize = snapshotCacheSize;
+        return this;
+    }
+
     CoreConfigurationBuilder withCustomCommitIdGenerator(Supplier<CommitId> customCommitIdGenerator) {
         Validate.argumentIsNotNull(customCommitIdGenerator);
         this.commitIdGenerator = CommitIdGenerator.CUSTOM;
@@ -94,6 +131,23 @@ class CoreConfigurationBuilder {
         return this;
     }
 
+    CoreConfigurationBuilder withLevenshteinBandWidth(int levenshteinBandWidth) {
+        Validate.argumentCheck(levenshteinBandWidth >= 0, "levenshteinBandWidth should be >= 0");
+        this.levenshteinBandWidth = levenshteinBandWidth;
+        return this;
+    }
+
+    CoreConfigurationBuilder withSnapshotDiffingExecutor(Executor snapshotDiffingExecutor) {
+        this.snapshotDiffingExecutor = snapshotDiffingExecutor;
+        return this;
+    }
+
+    CoreConfigurationBuilder withPropertyAccessStrategy(PropertyAccessStrategy propertyAccessStrategy) {
+        Validate.argumentIsNotNull(propertyAccessStrategy);
+        this.propertyAccessStrategy = propertyAccessStrategy;
+        return this;
+    }
+
     CoreConfigurationBuilder withPrettyPrintDateFormats(JaversCoreProperties.PrettyPrintDateFormats prettyPrintDateFormats) {
         Validate.argumentIsNotNull(prettyPrintDateFormats);
         prettyValuePrinter = new PrettyValuePrinter(prettyPrintDateFormats);
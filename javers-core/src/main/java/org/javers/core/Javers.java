@@ -68,6 +68,31 @@ public interface Javers {
      */
     Commit commit(String author, Object currentVersion, Map<String, String> commitProperties);
 
+    /**
+     * Persists a current state of many domain object graphs
+     * in JaVers repository, as a single Commit.
+     * <br/><br/>
+     *
+     * Gives the same Snapshots as committing a handle from which all given roots are navigable,
+     * and it's much faster than committing each root separately,
+     * as latest Snapshots are loaded and new ones are persisted in bulk.
+     * <br/><br/>
+     *
+     * Objects reachable from more than one root are committed once.
+     *
+     * @param author current user
+     * @param roots standalone objects or handles to object graphs, for example aggregate roots
+     */
+    Commit commitAll(String author, Collection<?> roots);
+
+    /**
+     * Variant of {@link #commitAll(String, Collection)} with commitProperties.
+     * <br/>
+     *
+     * See {@link #commit(String, Object, Map)} for commitProperties description.
+     */
+    Commit commitAll(String author, Collection<?> roots, Map<String, String> commitProperties);
+
     /**
      * Async version of {@link #commit(String, Object)}
      * <br/><br/>
@@ -484,6 +509,34 @@ public interface Javers {
      */
     List<CdoSnapshot> findSnapshots(JqlQuery query);
 
+    /**
+     * The streamed version of {@link #findSnapshots(JqlQuery)}.
+     * <br/><br/>
+     *
+     * For queries by class and for any-object queries,
+     * Snapshots are read from a database cursor and deserialized one by one,
+     * during the stream consumption, so they don't have to fit in memory.
+     * Other queries are executed eagerly.
+     * <br/><br/>
+     *
+     * The stream holds database resources until it's closed,
+     * so consume it in a try-with-resources block:
+     * <pre>
+     * try (Stream&lt;CdoSnapshot&gt; snapshots = javers.findSnapshotsAndStream(
+     *         QueryBuilder.anyDomainObject().limit(Integer.MAX_VALUE).build())) {
+     *     snapshots.forEach(it -> export(it));
+     * }
+     * </pre>
+     *
+     * With Spring transaction management, the stream should be consumed
+     * within a transaction, which lasts until the stream is closed.
+     *
+     * @return A lazy loaded stream ordered in reverse chronological order.
+     *         Empty if nothing found.
+     * @see org.javers.repository.api.JaversRepository#getSnapshotsStream(org.javers.repository.api.QueryParams)
+     */
+    Stream<CdoSnapshot> findSnapshotsAndStream(JqlQuery query);
+
     /**
      * Latest snapshot of a given Entity instance.
      * <br/><br/>
@@ -0,0 +1,63 @@
+package org.javers.core;
+
+import org.javers.core.commit.Commit;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.repository.api.AsyncJaversRepository;
+import org.javers.repository.jql.JqlQuery;
+import org.javers.shadow.Shadow;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking JaVers facade, for reactive services.
+ * Should be constructed by {@link JaversBuilder#buildAsync()}.
+ * <br/><br/>
+ *
+ * Commits are persisted and latest snapshots are read with {@link AsyncJaversRepository}.
+ * Diff calculation and JQL queries run on the async Executor,
+ * see {@link JaversBuilder#withAsyncExecutor(java.util.concurrent.Executor)}.
+ * <br/>
+ * The caller's thread is never blocked.
+ *
+ * @see Javers
+ */
+public interface JaversAsync {
+
+    /**
+     * Async version of {@link Javers#commit(String, Object)}
+     */
+    CompletionStage<Commit> commit(String author, Object currentVersion);
+
+    /**
+     * Async version of {@link Javers#commit(String, Object, Map)}
+     */
+    CompletionStage<Commit> commit(String author, Object currentVersion, Map<String, String> commitProperties);
+
+    /**
+     * Async version of {@link Javers#findSnapshots(JqlQuery)}
+     */
+    CompletionStage<List<CdoSnapshot>> findSnapshots(JqlQuery query);
+
+    /**
+     * Async version of {@link Javers#findChanges(JqlQuery)}
+     */
+    CompletionStage<Changes> findChanges(JqlQuery query);
+
+    /**
+     * Async version of {@link Javers#findShadows(JqlQuery)}
+     */
+    <T> CompletionStage<List<Shadow<T>>> findShadows(JqlQuery query);
+
+    /**
+     * Async version of {@link Javers#getLatestSnapshot(Object, Class)}
+     */
+    CompletionStage<Optional<CdoSnapshot>> getLatestSnapshot(Object localId, Class entity);
+
+    /**
+     * Blocking JaVers instance, sharing the configuration and the repository with this one
+     */
+    Javers blocking();
+}
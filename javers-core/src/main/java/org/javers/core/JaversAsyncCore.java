@@ -0,0 +1,134 @@
+package org.javers.core;
+
+import org.javers.core.commit.Commit;
+import org.javers.core.commit.CommitFactory;
+import org.javers.core.commit.CommitId;
+import org.javers.core.commit.PendingCommit;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalIdFactory;
+import org.javers.core.metrics.JaversMetrics;
+import org.javers.repository.api.AsyncJaversRepository;
+import org.javers.repository.jql.JqlQuery;
+import org.javers.shadow.Shadow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.javers.common.validation.Validate.argumentIsNotNull;
+import static org.javers.common.validation.Validate.argumentsAreNotNull;
+import static org.javers.core.metrics.CommitPhase.LATEST_SNAPSHOTS;
+import static org.javers.core.metrics.CommitPhase.PERSIST;
+
+/**
+ * JaversAsync implementation
+ */
+class JaversAsyncCore implements JaversAsync {
+    private static final Logger logger = LoggerFactory.getLogger(JaversAsync.class);
+
+    private final Javers javers;
+    private final CommitFactory commitFactory;
+    private final GlobalIdFactory globalIdFactory;
+    private final AsyncJaversRepository asyncRepository;
+    private final Executor executor;
+    private final JaversMetrics metrics;
+
+    JaversAsyncCore(Javers javers, CommitFactory commitFactory, GlobalIdFactory globalIdFactory,
+                    AsyncJaversRepository asyncRepository, Executor executor, JaversMetrics metrics) {
+        this.javers = javers;
+        this.commitFactory = commitFactory;
+        this.globalIdFactory = globalIdFactory;
+        this.asyncRepository = asyncRepository;
+        this.executor = executor;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CompletionStage<Commit> commit(String author, Object currentVersion) {
+        return commit(author, currentVersion, Collections.emptyMap());
+    }
+
+    @Override
+    public CompletionStage<Commit> commit(String author, Object currentVersion, Map<String, String> commitProperties) {
+        argumentsAreNotNull(author, commitProperties, currentVersion);
+        long start = System.currentTimeMillis();
+
+        return supplyAsync(() -> commitFactory.prepare(currentVersion), executor)
+                .thenCompose(pendingCommit -> loadLatestAndCreate(author, commitProperties, pendingCommit))
+                .thenCompose(commit -> {
+                    long stopCreate = System.currentTimeMillis();
+                    return persist(commit).thenApply(it -> {
+                        long stop = System.currentTimeMillis();
+                        logger.info(commit.toString() + ", done asynchronously in " + (stop - start) + " millis (diff:{}, persist:{})",
+                                (stopCreate - start), (stop - stopCreate));
+                        return commit;
+                    });
+                });
+    }
+
+    /**
+     * Latest snapshots and the head id are loaded by the async repository,
+     * then the diff is calculated on the executor
+     */
+    private CompletionStage<Commit> loadLatestAndCreate(String author, Map<String, String> commitProperties, PendingCommit pendingCommit) {
+        long start = System.nanoTime();
+        CompletionStage<List<CdoSnapshot>> latestSnapshots = asyncRepository.getLatest(pendingCommit.globalIds())
+                .whenComplete((it, e) -> metrics.recordCommitPhase(LATEST_SNAPSHOTS, System.nanoTime() - start));
+        CompletionStage<CommitId> headId = commitFactory.requiresHeadId() ?
+                asyncRepository.getHeadId() : CompletableFuture.completedFuture(null);
+
+        return latestSnapshots.thenCombineAsync(headId,
+                (latest, head) -> commitFactory.create(author, commitProperties, pendingCommit, latest, head),
+                executor);
+    }
+
+    private CompletionStage<Void> persist(Commit commit) {
+        if (commit.getSnapshots().isEmpty()) {
+            logger.info("Skipping persisting empty commit: {}", commit.toString());
+            commitFactory.commitPersisted(commit);
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return asyncRepository.persist(commit)
+                .thenRun(() -> {
+                    metrics.recordCommitPhase(PERSIST, System.nanoTime() - start);
+                    commitFactory.commitPersisted(commit);
+                });
+    }
+
+    @Override
+    public CompletionStage<List<CdoSnapshot>> findSnapshots(JqlQuery query) {
+        argumentIsNotNull(query);
+        return supplyAsync(() -> javers.findSnapshots(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Changes> findChanges(JqlQuery query) {
+        argumentIsNotNull(query);
+        return supplyAsync(() -> javers.findChanges(query), executor);
+    }
+
+    @Override
+    public <T> CompletionStage<List<Shadow<T>>> findShadows(JqlQuery query) {
+        argumentIsNotNull(query);
+        return supplyAsync(() -> javers.findShadows(query), executor);
+    }
+
+    @Override
+    public CompletionStage<Optional<CdoSnapshot>> getLatestSnapshot(Object localId, Class entity) {
+        argumentsAreNotNull(localId, entity);
+        return asyncRepository.getLatest(globalIdFactory.createInstanceId(localId, entity));
+    }
+
+    @Override
+    public Javers blocking() {
+        return javers;
+    }
+}
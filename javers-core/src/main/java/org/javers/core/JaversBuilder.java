@@ -8,6 +8,7 @@ import org.javers.common.date.DefaultDateProvider;
 import org.javers.common.validation.Validate;
 import org.javers.core.JaversCoreProperties.PrettyPrintDateFormats;
 import org.javers.core.commit.Commit;
+import org.javers.core.commit.CommitFactory;
 import org.javers.core.commit.CommitFactoryModule;
 import org.javers.core.commit.CommitId;
 import org.javers.core.diff.Diff;
@@ -30,8 +31,10 @@ import org.javers.core.json.typeadapter.commit.CommitTypeAdaptersModule;
 import org.javers.core.json.typeadapter.commit.DiffTypeDeserializer;
 import org.javers.core.metamodel.annotation.*;
 import org.javers.core.metamodel.clazz.*;
+import org.javers.core.metamodel.object.GlobalIdFactory;
 import org.javers.core.metamodel.scanner.ScannerModule;
 import org.javers.core.metamodel.type.*;
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.core.pico.AddOnsModule;
 import org.javers.core.snapshot.SnapshotModule;
 import org.javers.groovysupport.GroovyAddOns;
@@ -39,9 +42,13 @@ import org.javers.guava.GuavaAddOns;
 import org.javers.jodasupport.JodaAddOns;
 import org.javers.mongosupport.MongoLong64JsonDeserializer;
 import org.javers.mongosupport.RequiredMongoSupportPredicate;
+import org.javers.repository.api.AsyncJaversRepository;
+import org.javers.repository.api.AsyncJaversRepositoryAdapter;
 import org.javers.repository.api.ConfigurationAware;
 import org.javers.repository.api.JaversExtendedRepository;
+import org.javers.repository.api.SnapshotCache;
 import org.javers.repository.api.JaversRepository;
+import org.javers.repository.api.MetricsAware;
 import org.javers.repository.inmemory.InMemoryRepository;
 import org.javers.repository.jql.JqlModule;
 import org.javers.repository.jql.JqlQuery;
@@ -53,6 +60,8 @@ import javax.annotation.Nonnull;
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -94,7 +103,10 @@ public class JaversBuilder extends AbstractContainerBuilder {
 
     private CoreConfigurationBuilder coreConfigurationBuilder = CoreConfigurationBuilder.coreConfiguration();
     private JaversRepository repository;
+    private AsyncJaversRepository asyncRepository;
+    private Executor asyncExecutor;
     private DateProvider dateProvider;
+    private JaversMetrics metrics;
     private long bootStart = System.currentTimeMillis();
 
     private IgnoredClassesStrategy ignoredClassesStrategy;
@@ -136,6 +148,30 @@ public class JaversBuilder extends AbstractContainerBuilder {
         return javers;
     }
 
+    /**
+     * Builds a non-blocking {@link JaversAsync} instance.
+     * <br/>
+     * When no {@link AsyncJaversRepository} is registered,
+     * the blocking {@link JaversRepository} is adapted with {@link AsyncJaversRepositoryAdapter}.
+     *
+     * @see #registerAsyncJaversRepository(AsyncJaversRepository)
+     * @see #withAsyncExecutor(Executor)
+     */
+    public JaversAsync buildAsync() {
+        Javers javers = build();
+
+        Executor executor = asyncExecutor != null ? asyncExecutor : AsyncJaversRepositoryAdapter.defaultExecutor();
+        AsyncJaversRepository asyncJaversRepository = asyncRepository != null ? asyncRepository :
+                new AsyncJaversRepositoryAdapter(getContainerComponent(JaversExtendedRepository.class), executor);
+
+        return new JaversAsyncCore(javers,
+                getContainerComponent(CommitFactory.class),
+                getContainerComponent(GlobalIdFactory.class),
+                asyncJaversRepository,
+                executor,
+                getContainerComponent(JaversMetrics.class));
+    }
+
     protected Javers assembleJaversInstanceAndEnsureSchema() {
         Javers javers = assembleJaversInstance();
         repository.ensureSchema();
@@ -169,6 +205,8 @@ public class JaversBuilder extends AbstractContainerBuilder {
 
         bootDateTimeProvider();
 
+        bootMetrics();
+
         // clases to scan & additionalTypes
         for (Class c : classesToScan){
             typeMapper().getJaversType(c);
@@ -191,6 +229,32 @@ public class JaversBuilder extends AbstractContainerBuilder {
         return this;
     }
 
+    /**
+     * Registers a non-blocking repository used by {@link JaversAsync}, see {@link #buildAsync()}.
+     * <br/>
+     * The blocking repository, registered with {@link #registerJaversRepository(JaversRepository)},
+     * is still required, it's used by queries and to calculate diffs.
+     * Both should point to the same database.
+     */
+    public JaversBuilder registerAsyncJaversRepository(AsyncJaversRepository asyncRepository) {
+        argumentIsNotNull(asyncRepository);
+        this.asyncRepository = asyncRepository;
+        return this;
+    }
+
+    /**
+     * Executor for {@link JaversAsync}, used to calculate diffs, run queries
+     * and to call the blocking repository when no {@link AsyncJaversRepository} is registered.
+     * <br/>
+     * Default is {@link AsyncJaversRepositoryAdapter#defaultExecutor()},
+     * backed by virtual threads when running on Java 21+.
+     */
+    public JaversBuilder withAsyncExecutor(Executor asyncExecutor) {
+        argumentIsNotNull(asyncExecutor);
+        this.asyncExecutor = asyncExecutor;
+        return this;
+    }
+
     /**
      * Registers an {@link EntityType}. <br/>
      * Use @Id annotation to mark exactly one Id-property.
@@ -647,10 +711,26 @@ public class JaversBuilder extends AbstractContainerBuilder {
         return this;
     }
 
+    /**
+     * Default strategy is {@link PropertyAccessStrategy#REFLECTION}.
+     * <br/><br/>
+     *
+     * {@link PropertyAccessStrategy#METHOD_HANDLE} and {@link PropertyAccessStrategy#LAMBDA_METAFACTORY}
+     * generate accessors once per class, which can make reading property values cheaper,
+     * mostly on older JVMs (since Java 18, Reflection is built on MethodHandles anyway).
+     * Properties which can't be accessed this way are read with Reflection.
+     */
+    public JaversBuilder withPropertyAccessStrategy(PropertyAccessStrategy propertyAccessStrategy) {
+        argumentIsNotNull(propertyAccessStrategy);
+        configurationBuilder().withPropertyAccessStrategy(propertyAccessStrategy);
+        return this;
+    }
+
     /**
      * <ul>
      * <li/> {@link CommitIdGenerator#SYNCHRONIZED_SEQUENCE} &mdash; for non-distributed applications
      * <li/> {@link CommitIdGenerator#RANDOM} &mdash; for distributed applications
+     * <li/> {@link CommitIdGenerator#BLOCK_SEQUENCE} &mdash; for both, sequential ids without a head id query per commit
      * </ul>
      * SYNCHRONIZED_SEQUENCE is used by default.
      */
@@ -659,6 +739,72 @@ public class JaversBuilder extends AbstractContainerBuilder {
         return this;
     }
 
+    /**
+     * Number of commit major ids reserved at once in a JaversRepository
+     * by {@link CommitIdGenerator#BLOCK_SEQUENCE}.
+     * <br/>
+     * Bigger blocks mean fewer reservations,
+     * but ids left in a block are lost when an application is stopped.
+     * All application instances connected to a given JaversRepository should use the same block size.
+     *
+     * @param commitIdBlockSize default is 100
+     */
+    public JaversBuilder withCommitIdBlockSize(int commitIdBlockSize) {
+        configurationBuilder().withCommitIdBlockSize(commitIdBlockSize);
+        return this;
+    }
+
+    /**
+     * Enables skipping of unchanged objects during commit.
+     * <br/>
+     * JaVers remembers fingerprints of the last committed state of objects
+     * in a bounded, in-memory cache.
+     * Objects with unchanged fingerprints are skipped,
+     * so their latest snapshots are not loaded from a JaversRepository.
+     * <br/><br/>
+     *
+     * Use it only when objects are committed by a single JaVers instance
+     * (other instances don't update the cache)
+     * and when your Value types have <code>hashCode()</code> consistent with <code>equals()</code>.
+     * In Spring, the cache is evicted on transaction rollback,
+     * when Javers is built by TransactionalJpaJaversBuilder,
+     * or by TransactionalMongoJaversBuilder with MongoTransactionManager.
+     *
+     * @param snapshotFingerprintCacheSize max number of objects in the cache, default is 0 (disabled)
+     * @see org.javers.core.commit.SnapshotFingerprintCache
+     */
+    public JaversBuilder withSnapshotFingerprintCacheSize(int snapshotFingerprintCacheSize) {
+        configurationBuilder().withSnapshotFingerprintCacheSize(snapshotFingerprintCacheSize);
+        return this;
+    }
+
+    /**
+     * Enables the cache of snapshots loaded from (and persisted to) a JaversRepository.
+     * <br/>
+     * Snapshots are immutable, so they are cached by {@link org.javers.repository.api.SnapshotIdentifier}
+     * (GlobalId and version).
+     * Lookups by identifiers, used for example when {@link Javers#findChanges(JqlQuery)}
+     * loads previous snapshots, are served from the cache, without a database query
+     * and without JSON deserialization.
+     * <br/><br/>
+     *
+     * The cache is bounded by weight, a snapshot weighs 1 + the number of its properties.
+     * Hits and misses are reported to {@link JaversMetrics} as the
+     * {@link JaversMetrics#SNAPSHOT_CACHE} cache.
+     * <br/><br/>
+     *
+     * The cache is non-transactional, so it has to be evicted on transaction rollback.
+     * In Spring, it's done automatically by TransactionalJpaJaversBuilder
+     * and by TransactionalMongoJaversBuilder with MongoTransactionManager.
+     *
+     * @param snapshotCacheSize max weight of the cache, default is 0 (disabled)
+     * @see org.javers.repository.api.SnapshotCache
+     */
+    public JaversBuilder withSnapshotCacheSize(int snapshotCacheSize) {
+        configurationBuilder().withSnapshotCacheSize(snapshotCacheSize);
+        return this;
+    }
+
     JaversBuilder withCustomCommitIdGenerator(Supplier<CommitId> commitIdGenerator) {
         configurationBuilder().withCustomCommitIdGenerator(commitIdGenerator);
         return this;
@@ -831,6 +977,49 @@ public class JaversBuilder extends AbstractContainerBuilder {
         return this;
     }
 
+    /**
+     * Narrows {@link ListCompareAlgorithm#LEVENSHTEIN_DISTANCE_LOW_MEMORY}
+     * to a diagonal band of a given width, so comparing mostly similar lists
+     * takes O(n * bandWidth) time and memory.
+     * <br/><br/>
+     *
+     * Results are the same as without the band.
+     * When lists differ by more than bandWidth edits, the band is ignored.
+     *
+     * @param bandWidth 0 (no band) is used by default
+     */
+    public JaversBuilder withLevenshteinBandWidth(int bandWidth) {
+        configurationBuilder().withLevenshteinBandWidth(bandWidth);
+        return this;
+    }
+
+    /**
+     * When enabled, {@link Javers#findChanges(JqlQuery)} diffs loaded Snapshots
+     * in parallel, using {@link ForkJoinPool#commonPool()}.
+     * The order of returned Changes is the same as in the sequential mode.
+     * <br/><br/>
+     *
+     * It pays off when a query loads thousands of Snapshots,
+     * so diffing (which is CPU-bound) takes longer than loading.
+     *
+     * @param parallelSnapshotDiffing false by default
+     * @see #withParallelSnapshotDiffing(Executor)
+     */
+    public JaversBuilder withParallelSnapshotDiffing(boolean parallelSnapshotDiffing) {
+        configurationBuilder().withSnapshotDiffingExecutor(parallelSnapshotDiffing ? ForkJoinPool.commonPool() : null);
+        return this;
+    }
+
+    /**
+     * Like {@link #withParallelSnapshotDiffing(boolean)},
+     * but Snapshots are diffed using a given Executor
+     */
+    public JaversBuilder withParallelSnapshotDiffing(Executor executor) {
+        argumentIsNotNull(executor);
+        configurationBuilder().withSnapshotDiffingExecutor(executor);
+        return this;
+    }
+
   /**
    * DateProvider providers current timestamp for {@link Commit#getCommitDate()}.
    * <br/>
@@ -844,6 +1033,18 @@ public class JaversBuilder extends AbstractContainerBuilder {
         return this;
     }
 
+    /**
+     * Registers a {@link JaversMetrics} implementation, which collects timings of commit phases,
+     * Shadow query stats and, when supported by the JaversRepository, SQL query timings and cache hit rates.
+     * <br/>
+     * By default, nothing is collected.
+     */
+    public JaversBuilder withMetrics(JaversMetrics metrics) {
+        argumentIsNotNull(metrics);
+        this.metrics = metrics;
+        return this;
+    }
+
     public JaversBuilder withPrettyPrintDateFormats(PrettyPrintDateFormats prettyPrintDateFormats) {
         configurationBuilder().withPrettyPrintDateFormats(prettyPrintDateFormats);
         return this;
@@ -853,9 +1054,21 @@ public class JaversBuilder extends AbstractContainerBuilder {
         if (javersProperties.getMappingStyle() != null) {
             withMappingStyle(MappingStyle.valueOf(javersProperties.getMappingStyle().toUpperCase()));
         }
+        if (javersProperties.getPropertyAccessStrategy() != null) {
+            withPropertyAccessStrategy(PropertyAccessStrategy.valueOf(javersProperties.getPropertyAccessStrategy().toUpperCase()));
+        }
         if (javersProperties.getCommitIdGenerator() != null) {
             withCommitIdGenerator(CommitIdGenerator.valueOf(javersProperties.getCommitIdGenerator().toUpperCase()));
         }
+        if (javersProperties.getCommitIdBlockSize() != null) {
+            withCommitIdBlockSize(javersProperties.getCommitIdBlockSize());
+        }
+        if (javersProperties.getSnapshotFingerprintCacheSize() != null) {
+            withSnapshotFingerprintCacheSize(javersProperties.getSnapshotFingerprintCacheSize());
+        }
+        if (javersProperties.getSnapshotCacheSize() != null) {
+            withSnapshotCacheSize(javersProperties.getSnapshotCacheSize());
+        }
         if (javersProperties.getPackagesToScan() != null) {
             withPackagesToScan(javersProperties.getPackagesToScan());
         }
@@ -949,6 +1162,13 @@ public class JaversBuilder extends AbstractContainerBuilder {
         addComponent(dateProvider);
     }
 
+    private void bootMetrics() {
+        if (metrics == null) {
+            metrics = JaversMetrics.NONE;
+        }
+        bindComponent(JaversMetrics.class, metrics);
+    }
+
     private void bootRepository(){
         CoreConfiguration coreConfiguration = coreConfiguration();
         if (repository == null){
@@ -962,9 +1182,14 @@ public class JaversBuilder extends AbstractContainerBuilder {
             ((ConfigurationAware) repository).setConfiguration(coreConfiguration);
         }
 
+        if (repository instanceof MetricsAware){
+            ((MetricsAware) repository).setMetrics(metrics);
+        }
+
         bindComponent(JaversRepository.class, repository);
 
         //JaversExtendedRepository can be created after users calls JaversBuilder.registerJaversRepository()
+        addComponent(SnapshotCache.class);
         addComponent(JaversExtendedRepository.class);
     }
 
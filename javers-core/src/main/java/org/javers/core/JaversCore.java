@@ -16,6 +16,7 @@ import org.javers.core.metamodel.object.CdoSnapshot;
 import org.javers.core.metamodel.object.GlobalIdFactory;
 import org.javers.core.metamodel.property.Property;
 import org.javers.core.metamodel.type.*;
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.repository.api.JaversExtendedRepository;
 import org.javers.repository.jql.GlobalIdDTO;
 import org.javers.repository.jql.JqlQuery;
@@ -36,6 +37,7 @@ import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.javers.common.exception.JaversExceptionCode.COMMITTING_TOP_LEVEL_VALUES_NOT_SUPPORTED;
 import static org.javers.common.validation.Validate.argumentIsNotNull;
 import static org.javers.common.validation.Validate.argumentsAreNotNull;
+import static org.javers.core.metrics.CommitPhase.PERSIST;
 import static org.javers.repository.jql.InstanceIdDTO.instanceId;
 
 /**
@@ -54,8 +56,9 @@ class JaversCore implements Javers {
     private final QueryRunner queryRunner;
     private final GlobalIdFactory globalIdFactory;
     private final CoreConfiguration configuration;
+    private final JaversMetrics metrics;
 
-    JaversCore(DiffFactory diffFactory, TypeMapper typeMapper, JsonConverter jsonConverter, CommitFactory commitFactory, JaversExtendedRepository repository, QueryRunner queryRunner, GlobalIdFactory globalIdFactory, CoreConfiguration javersCoreConfiguration) {
+    JaversCore(DiffFactory diffFactory, TypeMapper typeMapper, JsonConverter jsonConverter, CommitFactory commitFactory, JaversExtendedRepository repository, QueryRunner queryRunner, GlobalIdFactory globalIdFactory, CoreConfiguration javersCoreConfiguration, JaversMetrics metrics) {
         this.diffFactory = diffFactory;
         this.typeMapper = typeMapper;
         this.jsonConverter = jsonConverter;
@@ -64,6 +67,7 @@ class JaversCore implements Javers {
         this.queryRunner = queryRunner;
         this.globalIdFactory = globalIdFactory;
         this.configuration = javersCoreConfiguration;
+        this.metrics = metrics;
     }
 
     @Override
@@ -94,6 +98,31 @@ class JaversCore implements Javers {
         return commit;
     }
 
+    @Override
+    public Commit commitAll(String author, Collection<?> roots) {
+        return commitAll(author, roots, Collections.emptyMap());
+    }
+
+    @Override
+    public Commit commitAll(String author, Collection<?> roots, Map<String, String> commitProperties) {
+        long start = System.currentTimeMillis();
+
+        argumentsAreNotNull(author, commitProperties, roots);
+        roots.forEach(root -> {
+            argumentIsNotNull(root);
+            assertJaversTypeNotValueTypeOrPrimitiveType(root);
+        });
+
+        Commit commit = commitFactory.createForRoots(author, commitProperties, roots);
+        long stopCreate = System.currentTimeMillis();
+
+        persist(commit);
+        long stop = System.currentTimeMillis();
+
+        logger.info(commit.toString()+", "+roots.size()+" roots done in "+ (stop-start)+ " millis (diff:{}, persist:{})",(stopCreate-start), (stop-stopCreate));
+        return commit;
+    }
+
     private void assertJaversTypeNotValueTypeOrPrimitiveType(Object currentVersion) {
         JaversType jType = typeMapper.getJaversType(currentVersion.getClass());
         if (jType instanceof ValueType || jType instanceof PrimitiveType){
@@ -106,8 +135,11 @@ class JaversCore implements Javers {
         if (commit.getSnapshots().isEmpty()) {
             logger.info("Skipping persisting empty commit: {}", commit.toString());
         } else {
+            long start = System.nanoTime();
             repository.persist(commit);
+            metrics.recordCommitPhase(PERSIST, System.nanoTime() - start);
         }
+        commitFactory.commitPersisted(commit);
         return commit;
     }
 
@@ -150,6 +182,7 @@ class JaversCore implements Javers {
         Commit commit = commitFactory.createTerminal(author, properties, deleted);
 
         repository.persist(commit);
+        commitFactory.commitPersisted(commit);
         logger.info(commit.toString());
         return commit;
     }
@@ -167,6 +200,7 @@ class JaversCore implements Javers {
         Commit commit = commitFactory.createTerminalByGlobalId(author, properties, globalIdFactory.createFromDto(globalId));
 
         repository.persist(commit);
+        commitFactory.commitPersisted(commit);
         logger.info(commit.toString());
         return commit;
     }
@@ -200,6 +234,12 @@ class JaversCore implements Javers {
         return queryRunner.queryForSnapshots(query);
     }
 
+    @Override
+    public Stream<CdoSnapshot> findSnapshotsAndStream(JqlQuery query){
+        Validate.argumentIsNotNull(query);
+        return queryRunner.queryForSnapshotsStream(query);
+    }
+
     @Override
     public Changes findChanges(JqlQuery query){
         Validate.argumentIsNotNull(query);
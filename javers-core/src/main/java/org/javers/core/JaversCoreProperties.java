@@ -12,7 +12,11 @@ import java.util.Map;
 public abstract class JaversCoreProperties {
     private String algorithm;
     private String commitIdGenerator;
+    private Integer commitIdBlockSize;
+    private Integer snapshotFingerprintCacheSize;
+    private Integer snapshotCacheSize;
     private String mappingStyle;
+    private String propertyAccessStrategy;
     private Boolean initialChanges;
     private Boolean terminalChanges;
     private Boolean prettyPrint;
@@ -29,10 +33,26 @@ public abstract class JaversCoreProperties {
         return commitIdGenerator;
     }
 
+    public Integer getCommitIdBlockSize() {
+        return commitIdBlockSize;
+    }
+
+    public Integer getSnapshotFingerprintCacheSize() {
+        return snapshotFingerprintCacheSize;
+    }
+
+    public Integer getSnapshotCacheSize() {
+        return snapshotCacheSize;
+    }
+
     public String getMappingStyle() {
         return mappingStyle;
     }
 
+    public String getPropertyAccessStrategy() {
+        return propertyAccessStrategy;
+    }
+
     /**
      * Use {@link #isInitialChanges()}
      */
@@ -85,10 +105,26 @@ public abstract class JaversCoreProperties {
         this.commitIdGenerator = commitIdGenerator;
     }
 
+    public void setCommitIdBlockSize(Integer commitIdBlockSize) {
+        this.commitIdBlockSize = commitIdBlockSize;
+    }
+
+    public void setSnapshotFingerprintCacheSize(Integer snapshotFingerprintCacheSize) {
+        this.snapshotFingerprintCacheSize = snapshotFingerprintCacheSize;
+    }
+
+    public void setSnapshotCacheSize(Integer snapshotCacheSize) {
+        this.snapshotCacheSize = snapshotCacheSize;
+    }
+
     public void setMappingStyle(String mappingStyle) {
         this.mappingStyle = mappingStyle;
     }
 
+    public void setPropertyAccessStrategy(String propertyAccessStrategy) {
+        this.propertyAccessStrategy = propertyAccessStrategy;
+    }
+
     public void setInitialChanges(Boolean initialChanges) {
         this.initialChanges = initialChanges;
     }
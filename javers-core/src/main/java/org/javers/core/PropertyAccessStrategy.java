@@ -0,0 +1,32 @@
+package org.javers.core;
+
+/**
+ * How JaVers reads property values from domain objects.
+ * <br/><br/>
+ *
+ * Accessors are generated once, when a class is scanned, and cached in its Properties.
+ * When an accessor can't be generated for a given property
+ * (for example, a class isn't visible from the JaVers classloader),
+ * JaVers falls back to Java Reflection for this property.
+ *
+ * @see JaversBuilder#withPropertyAccessStrategy(PropertyAccessStrategy)
+ */
+public enum PropertyAccessStrategy {
+    /**
+     * {@link java.lang.reflect.Field#get(Object)} and {@link java.lang.reflect.Method#invoke(Object, Object...)}
+     */
+    REFLECTION,
+
+    /**
+     * {@link java.lang.invoke.MethodHandle} per property, works for fields and getters, also private ones
+     */
+    METHOD_HANDLE,
+
+    /**
+     * Getters are bound to generated {@link java.util.function.Function}s by {@link java.lang.invoke.LambdaMetafactory},
+     * which the JIT can inline like a direct call.
+     * Only public getters of public classes qualify,
+     * other properties are read as in {@link #METHOD_HANDLE}
+     */
+    LAMBDA_METAFACTORY
+}
@@ -0,0 +1,81 @@
+package org.javers.core.commit;
+
+import org.javers.core.CoreConfiguration;
+import org.javers.repository.api.JaversExtendedRepository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out commit identifiers from blocks of major ids
+ * reserved in JaversRepository, minorId is always 0.
+ * <br/>
+ * Thread safe. Non-blocking, except when a new block is reserved.
+ * Identifiers are monotonically increasing within a JaVers instance.
+ *
+ * @see org.javers.core.CommitIdGenerator#BLOCK_SEQUENCE
+ */
+class BlockCommitSeqGenerator {
+    private final JaversExtendedRepository javersRepository;
+    private final int blockSize;
+
+    private final AtomicReference<Block> currentBlock = new AtomicReference<>();
+    private final Object reservationLock = new Object();
+
+    BlockCommitSeqGenerator(CoreConfiguration javersCoreConfiguration, JaversExtendedRepository javersRepository) {
+        this.javersRepository = javersRepository;
+        this.blockSize = javersCoreConfiguration.getCommitIdBlockSize();
+    }
+
+    CommitId nextId() {
+        while (true) {
+            Block block = currentBlock.get();
+            if (block != null) {
+                long majorId = block.nextMajorId();
+                if (majorId > 0) {
+                    return new CommitId(majorId, 0);
+                }
+            }
+            reserveNextBlock(block);
+        }
+    }
+
+    private void reserveNextBlock(Block exhausted) {
+        synchronized (reservationLock) {
+            //double check, the next block could be reserved by another thread while obtaining the lock
+            if (currentBlock.get() != exhausted) {
+                return;
+            }
+
+            long headMajorId = exhausted == null ? getHeadMajorId() : exhausted.lastMajorId;
+            long first = javersRepository.reserveCommitIdBlock(blockSize, headMajorId);
+            currentBlock.set(new Block(first, first + blockSize - 1));
+        }
+    }
+
+    private long getHeadMajorId() {
+        CommitId head = javersRepository.getHeadId();
+        if (head == null) {
+            return 0;
+        }
+        return head.getMajorId();
+    }
+
+    private static class Block {
+        private final AtomicLong next;
+        private final long lastMajorId;
+
+        Block(long firstMajorId, long lastMajorId) {
+            this.next = new AtomicLong(firstMajorId);
+            this.lastMajorId = lastMajorId;
+        }
+
+        /**
+         * @return -1 if the block is exhausted
+         */
+        long nextMajorId() {
+            long majorId = next.getAndIncrement();
+            return majorId <= lastMajorId ? majorId : -1;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.javers.core.diff.Change;
 import org.javers.core.diff.Diff;
 import org.javers.core.graph.Cdo;
 import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -38,12 +39,18 @@ public final class Commit {
     private final CommitMetadata commitMetadata;
     private final List<CdoSnapshot> snapshots;
     private final Diff diff;
+    private final transient Map<GlobalId, Long> fingerprints;
 
     Commit(CommitMetadata commitMetadata, List<CdoSnapshot> snapshots, Diff diff) {
-        Validate.argumentsAreNotNull(commitMetadata, snapshots, diff);
+        this(commitMetadata, snapshots, diff, Collections.emptyMap());
+    }
+
+    Commit(CommitMetadata commitMetadata, List<CdoSnapshot> snapshots, Diff diff, Map<GlobalId, Long> fingerprints) {
+        Validate.argumentsAreNotNull(commitMetadata, snapshots, diff, fingerprints);
         this.commitMetadata = commitMetadata;
         this.snapshots = snapshots;
         this.diff = diff;
+        this.fingerprints = fingerprints;
     }
 
     /**
@@ -66,6 +73,13 @@ public final class Commit {
         return diff;
     }
 
+    /**
+     * Fingerprints of committed objects, see {@link SnapshotFingerprintCache}
+     */
+    Map<GlobalId, Long> getFingerprints() {
+        return fingerprints;
+    }
+
     /**
      * Commit creation timestamp in local time zone
      */
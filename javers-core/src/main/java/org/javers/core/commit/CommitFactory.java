@@ -12,17 +12,21 @@ import org.javers.core.graph.LiveGraphFactory;
 import org.javers.core.graph.ObjectGraph;
 import org.javers.core.metamodel.object.CdoSnapshot;
 import org.javers.core.metamodel.object.GlobalId;
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.core.snapshot.ChangedCdoSnapshotsFactory;
 import org.javers.core.snapshot.SnapshotFactory;
 import org.javers.core.snapshot.SnapshotGraphFactory;
 import org.javers.repository.api.JaversExtendedRepository;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.javers.common.validation.Validate.argumentsAreNotNull;
+import static org.javers.core.metrics.CommitPhase.*;
 
 /**
  * @author bartosz walacik
@@ -36,8 +40,10 @@ public class CommitFactory {
     private final SnapshotGraphFactory snapshotGraphFactory;
     private final ChangedCdoSnapshotsFactory changedCdoSnapshotsFactory;
     private final CommitIdFactory commitIdFactory;
+    private final JaversMetrics metrics;
+    private final SnapshotFingerprintCache fingerprintCache;
 
-    public CommitFactory(DiffFactory diffFactory, JaversExtendedRepository javersRepository, DateProvider dateProvider, LiveGraphFactory liveGraphFactory, SnapshotFactory snapshotFactory, SnapshotGraphFactory snapshotGraphFactory, ChangedCdoSnapshotsFactory changedCdoSnapshotsFactory, CommitIdFactory commitIdFactory) {
+    public CommitFactory(DiffFactory diffFactory, JaversExtendedRepository javersRepository, DateProvider dateProvider, LiveGraphFactory liveGraphFactory, SnapshotFactory snapshotFactory, SnapshotGraphFactory snapshotGraphFactory, ChangedCdoSnapshotsFactory changedCdoSnapshotsFactory, CommitIdFactory commitIdFactory, JaversMetrics metrics, SnapshotFingerprintCache fingerprintCache) {
         this.diffFactory = diffFactory;
         this.javersRepository = javersRepository;
         this.dateProvider = dateProvider;
@@ -46,6 +52,8 @@ public class CommitFactory {
         this.snapshotGraphFactory = snapshotGraphFactory;
         this.changedCdoSnapshotsFactory = changedCdoSnapshotsFactory;
         this.commitIdFactory = commitIdFactory;
+        this.metrics = metrics;
+        this.fingerprintCache = fingerprintCache;
     }
 
     public Commit createTerminalByGlobalId(String author, Map<String, String> properties, GlobalId removedId){
@@ -70,24 +78,107 @@ public class CommitFactory {
         return createCommit(author, properties, currentGraph);
     }
 
+    /**
+     * One Commit for all objects navigable from given roots
+     */
+    public Commit createForRoots(String author, Map<String, String> properties, Collection<?> roots){
+        argumentsAreNotNull(author, roots);
+        long start = System.nanoTime();
+        LiveGraph currentGraph = liveGraphFactory.createLiveGraphForRoots(roots);
+        metrics.recordCommitPhase(LIVE_GRAPH, System.nanoTime() - start);
+        return createCommit(author, properties, currentGraph);
+    }
+
+    /**
+     * First, CPU-bound phase of an async commit, nothing is loaded from the repository.
+     *
+     * @see #create(String, Map, PendingCommit, Collection, CommitId)
+     */
+    public PendingCommit prepare(Object currentVersion) {
+        return filterUnchanged(createLiveGraph(currentVersion));
+    }
+
+    /**
+     * Second phase of an async commit,
+     * with the latest snapshots and the head id loaded by the caller
+     *
+     * @param headId used only by {@link org.javers.core.CommitIdGenerator#SYNCHRONIZED_SEQUENCE}, see {@link #requiresHeadId()}
+     */
+    public Commit create(String author, Map<String, String> properties, PendingCommit pendingCommit,
+                         Collection<CdoSnapshot> latestSnapshots, CommitId headId) {
+        argumentsAreNotNull(author, properties, pendingCommit, latestSnapshots);
+        CommitMetadata commitMetadata = newCommitMetadata(author, properties, commitIdFactory.nextId(headId));
+        return createCommit(commitMetadata, pendingCommit, snapshotGraphFactory.create(latestSnapshots));
+    }
+
+    /**
+     * True if the head id should be loaded before
+     * {@link #create(String, Map, PendingCommit, Collection, CommitId)}
+     */
+    public boolean requiresHeadId() {
+        return commitIdFactory.requiresHeadId();
+    }
+
+    /**
+     * Should be called when a given Commit is persisted in JaversRepository
+     */
+    public void commitPersisted(Commit commit) {
+        fingerprintCache.commitPersisted(commit);
+    }
+
     private Commit createCommit(String author, Map<String, String> properties, LiveGraph currentGraph){
         CommitMetadata commitMetadata = newCommitMetadata(author, properties);
-        ObjectGraph<CdoSnapshot> latestSnapshotGraph = snapshotGraphFactory.createLatest(currentGraph.globalIds());
+        PendingCommit pendingCommit = filterUnchanged(currentGraph);
+
+        long start = System.nanoTime();
+        ObjectGraph<CdoSnapshot> latestSnapshotGraph = snapshotGraphFactory.createLatest(pendingCommit.globalIds());
+        metrics.recordCommitPhase(LATEST_SNAPSHOTS, System.nanoTime() - start);
+
+        return createCommit(commitMetadata, pendingCommit, latestSnapshotGraph);
+    }
+
+    private PendingCommit filterUnchanged(LiveGraph currentGraph) {
+        if (fingerprintCache.isDisabled()) {
+            return new PendingCommit(currentGraph, Collections.emptyMap());
+        }
+
+        Map<GlobalId, Long> liveFingerprints = fingerprintCache.fingerprints((Collection)currentGraph.nodes());
+        LiveGraph changedGraph = currentGraph.filter(node ->
+                !fingerprintCache.isUnchanged(node.getGlobalId(), liveFingerprints.get(node.getGlobalId())));
+        return new PendingCommit(changedGraph, liveFingerprints);
+    }
+
+    private Commit createCommit(CommitMetadata commitMetadata, PendingCommit pendingCommit, ObjectGraph<CdoSnapshot> latestSnapshotGraph) {
+        LiveGraph currentGraph = pendingCommit.getCurrentGraph();
+
+        long start = System.nanoTime();
         List<CdoSnapshot> changedCdoSnapshots =
             changedCdoSnapshotsFactory.create(currentGraph, latestSnapshotGraph.cdos(), commitMetadata);
+        long stopSnapshots = System.nanoTime();
+        metrics.recordCommitPhase(SNAPSHOTS, stopSnapshots - start);
+
         Diff diff = diffFactory.create(latestSnapshotGraph, currentGraph, Optional.of(commitMetadata));
-        return new Commit(commitMetadata, changedCdoSnapshots, diff);
+        metrics.recordCommitPhase(DIFF, System.nanoTime() - stopSnapshots);
+
+        return new Commit(commitMetadata, changedCdoSnapshots, diff, pendingCommit.getFingerprints());
     }
 
     private LiveGraph createLiveGraph(Object currentVersion){
         argumentsAreNotNull(currentVersion);
-        return liveGraphFactory.createLiveGraph(currentVersion);
+        long start = System.nanoTime();
+        LiveGraph liveGraph = liveGraphFactory.createLiveGraph(currentVersion);
+        metrics.recordCommitPhase(LIVE_GRAPH, System.nanoTime() - start);
+        return liveGraph;
     }
 
     private CommitMetadata newCommitMetadata(String author, Map<String, String> properties){
+        return newCommitMetadata(author, properties, commitIdFactory.nextId());
+    }
+
+    private CommitMetadata newCommitMetadata(String author, Map<String, String> properties, CommitId commitId){
         ZonedDateTime now = dateProvider.now();
         return new CommitMetadata(author, properties,
                 now.toLocalDateTime(), now.toInstant(),
-                commitIdFactory.nextId());
+                commitId);
     }
 }
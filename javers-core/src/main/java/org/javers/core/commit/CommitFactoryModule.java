@@ -20,7 +20,9 @@ public class CommitFactoryModule extends InstantiatingModule {
                 CommitFactory.class,
                 CommitSeqGenerator.class,
                 CommitIdFactory.class,
-                DistributedCommitSeqGenerator.class
+                DistributedCommitSeqGenerator.class,
+                BlockCommitSeqGenerator.class,
+                SnapshotFingerprintCache.class
         );
     }
 }
@@ -5,6 +5,7 @@ import org.javers.common.exception.JaversExceptionCode;
 import org.javers.core.CoreConfiguration;
 import org.javers.repository.api.JaversExtendedRepository;
 
+import static org.javers.core.CommitIdGenerator.BLOCK_SEQUENCE;
 import static org.javers.core.CommitIdGenerator.CUSTOM;
 import static org.javers.core.CommitIdGenerator.RANDOM;
 import static org.javers.core.CommitIdGenerator.SYNCHRONIZED_SEQUENCE;
@@ -14,20 +15,32 @@ class CommitIdFactory {
     private final JaversExtendedRepository javersRepository;
     private final CommitSeqGenerator commitSeqGenerator;
     private final DistributedCommitSeqGenerator distributedCommitSeqGenerator;
+    private final BlockCommitSeqGenerator blockCommitSeqGenerator;
 
-    CommitIdFactory(CoreConfiguration javersCoreConfiguration, JaversExtendedRepository javersRepository, CommitSeqGenerator commitSeqGenerator, DistributedCommitSeqGenerator distributedCommitSeqGenerator) {
+    CommitIdFactory(CoreConfiguration javersCoreConfiguration, JaversExtendedRepository javersRepository, CommitSeqGenerator commitSeqGenerator, DistributedCommitSeqGenerator distributedCommitSeqGenerator, BlockCommitSeqGenerator blockCommitSeqGenerator) {
         this.javersCoreConfiguration = javersCoreConfiguration;
         this.javersRepository = javersRepository;
         this.commitSeqGenerator = commitSeqGenerator;
         this.distributedCommitSeqGenerator = distributedCommitSeqGenerator;
+        this.blockCommitSeqGenerator = blockCommitSeqGenerator;
     }
 
     CommitId nextId() {
-        if (javersCoreConfiguration.getCommitIdGenerator() == SYNCHRONIZED_SEQUENCE) {
-            CommitId head = javersRepository.getHeadId();
+        return nextId(requiresHeadId() ? javersRepository.getHeadId() : null);
+    }
+
+    /**
+     * @param head loaded by the caller, used only by SYNCHRONIZED_SEQUENCE
+     */
+    CommitId nextId(CommitId head) {
+        if (requiresHeadId()) {
             return commitSeqGenerator.nextId(head);
         }
 
+        if (javersCoreConfiguration.getCommitIdGenerator() == BLOCK_SEQUENCE) {
+            return blockCommitSeqGenerator.nextId();
+        }
+
         if (javersCoreConfiguration.getCommitIdGenerator() == RANDOM) {
             return distributedCommitSeqGenerator.nextId();
         }
@@ -38,4 +51,8 @@ class CommitIdFactory {
 
         throw new JaversException(JaversExceptionCode.NOT_IMPLEMENTED);
     }
+
+    boolean requiresHeadId() {
+        return javersCoreConfiguration.getCommitIdGenerator() == SYNCHRONIZED_SEQUENCE;
+    }
 }
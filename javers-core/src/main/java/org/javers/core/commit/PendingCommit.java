@@ -0,0 +1,34 @@
+package org.javers.core.commit;
+
+import org.javers.core.graph.LiveGraph;
+import org.javers.core.metamodel.object.GlobalId;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Live graph of an async commit, already filtered by the fingerprint cache.
+ * Latest snapshots of its {@link #globalIds()} are loaded asynchronously
+ * and then passed to {@link CommitFactory#create(String, Map, PendingCommit, java.util.Collection, CommitId)}
+ */
+public final class PendingCommit {
+    private final LiveGraph currentGraph;
+    private final Map<GlobalId, Long> fingerprints;
+
+    PendingCommit(LiveGraph currentGraph, Map<GlobalId, Long> fingerprints) {
+        this.currentGraph = currentGraph;
+        this.fingerprints = fingerprints;
+    }
+
+    public Set<GlobalId> globalIds() {
+        return currentGraph.globalIds();
+    }
+
+    LiveGraph getCurrentGraph() {
+        return currentGraph;
+    }
+
+    Map<GlobalId, Long> getFingerprints() {
+        return fingerprints;
+    }
+}
@@ -0,0 +1,183 @@
+package org.javers.core.commit;
+
+import org.javers.core.CoreConfiguration;
+import org.javers.core.graph.LiveNode;
+import org.javers.core.graph.ObjectNode;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
+import org.javers.core.metamodel.type.JaversProperty;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bounded, in-memory cache of fingerprints of the last committed state of objects,
+ * enabled with {@link org.javers.core.JaversBuilder#withSnapshotFingerprintCacheSize(int)}.
+ * <br/>
+ * Objects with unchanged fingerprints are skipped during a commit,
+ * their latest snapshots are not loaded from a JaversRepository
+ * and their snapshots are not created.
+ * <br/><br/>
+ *
+ * Fingerprint is a 64-bit hash of the dehydrated property values of a live object.
+ * Strings, numbers, dates, enums, references and containers are hashed by value,
+ * other Value types by their <code>hashCode()</code>.
+ * <br/><br/>
+ *
+ * The cache is updated after a Commit is persisted. It knows nothing about commits
+ * done by other JaVers instances, so it should be used only when
+ * a given object is committed by one application instance,
+ * and it has to be evicted on transaction rollback.
+ */
+public class SnapshotFingerprintCache {
+    private final Map<GlobalId, Long> fingerprints;
+    private final boolean disabled;
+
+    SnapshotFingerprintCache(CoreConfiguration javersCoreConfiguration) {
+        int size = javersCoreConfiguration.getSnapshotFingerprintCacheSize();
+        this.disabled = size == 0;
+        this.fingerprints = Collections.synchronizedMap(new LinkedHashMap<GlobalId, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GlobalId, Long> eldest) {
+                return size() > size;
+            }
+        });
+    }
+
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    Map<GlobalId, Long> fingerprints(Collection<ObjectNode> nodes) {
+        Map<GlobalId, Long> result = new HashMap<>();
+        for (ObjectNode node : nodes) {
+            result.put(node.getGlobalId(), fingerprint((LiveNode) node));
+        }
+        return result;
+    }
+
+    boolean isUnchanged(GlobalId globalId, long fingerprint) {
+        Long committed = fingerprints.get(globalId);
+        return committed != null && committed == fingerprint;
+    }
+
+    /**
+     * Fingerprints of all objects in a Commit are cached, even of these which have no new snapshot,
+     * fingerprints of removed objects are evicted
+     */
+    void commitPersisted(Commit commit) {
+        if (disabled) {
+            return;
+        }
+        fingerprints.putAll(commit.getFingerprints());
+        for (CdoSnapshot snapshot : commit.getSnapshots()) {
+            if (snapshot.isTerminal()) {
+                fingerprints.remove(snapshot.getGlobalId());
+            }
+        }
+    }
+
+    public void evict() {
+        fingerprints.clear();
+    }
+
+    public int size() {
+        return fingerprints.size();
+    }
+
+    private long fingerprint(LiveNode node) {
+        long hash = hash(node.getManagedType().getName());
+        for (JaversProperty property : node.getManagedType().getProperties()) {
+            hash = mix(hash ^ hash(property.getName()));
+            hash = mix(hash ^ hashValue(node.getDehydratedPropertyValue(property)));
+        }
+        return hash;
+    }
+
+    private static long hashValue(Object value) {
+        if (value == null) {
+            return 0x9e3779b97f4a7c15L;
+        }
+        if (value instanceof String) {
+            return hash((String) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix(((Number) value).longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return mix(Double.doubleToLongBits(((Number) value).doubleValue()));
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger || value instanceof TemporalAccessor) {
+            return hash(value.toString());
+        }
+        if (value instanceof Enum) {
+            return hash(((Enum) value).name());
+        }
+        if (value instanceof GlobalId) {
+            return hash(((GlobalId) value).value());
+        }
+        if (value instanceof Optional) {
+            return mix(1 + hashValue(((Optional) value).orElse(null)));
+        }
+        if (value instanceof List) {
+            long hash = 1;
+            for (Object item : (List) value) {
+                hash = mix(hash ^ hashValue(item));
+            }
+            return hash;
+        }
+        if (value instanceof Set) {
+            long hash = 2;
+            for (Object item : (Set) value) {
+                hash += hashValue(item);
+            }
+            return mix(hash);
+        }
+        if (value instanceof Map) {
+            long hash = 3;
+            for (Map.Entry entry : ((Map<?, ?>) value).entrySet()) {
+                hash += mix(hashValue(entry.getKey()) ^ mix(hashValue(entry.getValue())));
+            }
+            return mix(hash);
+        }
+        if (value.getClass().isArray()) {
+            long hash = 4;
+            for (int i = 0; i < Array.getLength(value); i++) {
+                hash = mix(hash ^ hashValue(Array.get(value, i)));
+            }
+            return hash;
+        }
+        return mix(((long) hash(value.getClass().getName()) << 32) ^ value.hashCode());
+    }
+
+    private static long hash(String string) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < string.length(); i++) {
+            hash ^= string.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 finalizer
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -44,6 +44,10 @@ public class DiffBuilder {
         return this;
     }
 
+    List<Change> getChanges() {
+        return changes;
+    }
+
     public Diff build() {
         return new Diff(changes, valuePrinter);
     }
@@ -8,6 +8,7 @@ import org.javers.core.CoreConfiguration;
 import org.javers.core.commit.CommitMetadata;
 import org.javers.core.diff.appenders.NodeChangeAppender;
 import org.javers.core.diff.appenders.PropertyChangeAppender;
+import org.javers.core.diff.changetype.NewObject;
 import org.javers.core.diff.changetype.ObjectRemoved;
 import org.javers.core.graph.FakeNode;
 import org.javers.core.graph.LiveGraphFactory;
@@ -20,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -102,6 +104,52 @@ public class DiffFactory {
         return graphFactory.createLiveGraph(handle);
     }
 
+    /**
+     * Property-to-property diff of two versions of the same object,
+     * without building graphs and matching nodes.
+     * <br/>
+     * Gives the same changes as {@link #create(ObjectGraph, ObjectGraph, Optional)}
+     * for two single-node graphs of the same object.
+     *
+     * @param propertyNames only these properties are compared,
+     *                      the others should be known to be equal on both sides
+     */
+    public List<Change> createForNodePair(NodePair pair, Set<String> propertyNames) {
+        Validate.argumentsAreNotNull(pair, propertyNames);
+
+        DiffBuilder diff = new DiffBuilder(javersCoreConfiguration.getPrettyValuePrinter());
+        for (JaversProperty property : pair.getProperties()) {
+            if (!propertyNames.contains(property.getName()) || pair.isNullOnBothSides(property)) {
+                continue;
+            }
+            appendChanges(diff, pair, property, property.getType());
+        }
+        return diff.getChanges();
+    }
+
+    /**
+     * Changes of a new object, without building graphs.
+     * <br/>
+     * Gives the same changes as {@link #create(ObjectGraph, ObjectGraph, Optional)}
+     * for an empty graph and a single-node graph.
+     */
+    public List<Change> createForNewNode(ObjectNode node, Optional<CommitMetadata> commitMetadata) {
+        Validate.argumentsAreNotNull(node, commitMetadata);
+
+        DiffBuilder diff = new DiffBuilder(javersCoreConfiguration.getPrettyValuePrinter());
+        if (!(node.getManagedType() instanceof ValueObjectType)) {
+            diff.addChange(new NewObject(node.getGlobalId(), node.wrappedCdo(), commitMetadata));
+        }
+
+        if (javersCoreConfiguration.isInitialChanges()) {
+            NodePair pair = new NodePair(
+                    new FakeNode(node.getCdo(), javersCoreConfiguration.getUsePrimitiveDefaults()), node,
+                    commitMetadata);
+            appendPropertyChanges(diff, pair);
+        }
+        return diff.getChanges();
+    }
+
     /**
      * Graph scope appender
      */
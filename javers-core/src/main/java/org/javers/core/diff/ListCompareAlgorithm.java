@@ -4,12 +4,20 @@ import org.javers.core.diff.appenders.ListAsSetChangeAppender;
 import org.javers.core.diff.appenders.PropertyChangeAppender;
 import org.javers.core.diff.appenders.SimpleListChangeAppender;
 import org.javers.core.diff.appenders.levenshtein.LevenshteinListChangeAppender;
+import org.javers.core.diff.appenders.levenshtein.LowMemoryLevenshteinListChangeAppender;
 import org.javers.core.diff.changetype.container.ListChange;
 
 public enum ListCompareAlgorithm {
 
     SIMPLE(SimpleListChangeAppender.class),
     LEVENSHTEIN_DISTANCE(LevenshteinListChangeAppender.class),
+
+    /**
+     * Gives the same results as {@link #LEVENSHTEIN_DISTANCE}
+     * in O(m*sqrt(n)) memory instead of O(n*m), at the cost of about 2x longer computation.
+     * Can be narrowed with JaversBuilder.withLevenshteinBandWidth() for mostly similar lists.
+     */
+    LEVENSHTEIN_DISTANCE_LOW_MEMORY(LowMemoryLevenshteinListChangeAppender.class),
     AS_SET(ListAsSetChangeAppender.class);
 
     private final Class<? extends PropertyChangeAppender<ListChange>> listChangeAppender;
@@ -30,10 +30,9 @@ public class LevenshteinListChangeAppender extends CorePropertyChangeAppender<Li
         final List rightList = (List) rightValue;
 
         EqualsFunction equalsFunction = itemType::equals;
-        Backtrack backtrack = new Backtrack(equalsFunction);
         StepsToChanges stepsToChanges = new StepsToChanges(equalsFunction);
 
-        final BacktrackSteps[][] steps = backtrack.evaluateSteps(leftList, rightList);
+        final StepsMatrix steps = evaluateSteps(equalsFunction, leftList, rightList);
         final List<ContainerElementChange> changes = stepsToChanges.convert(steps, leftList, rightList);
 
         ListChange result = createListChange(pair, property, changes, leftList, rightList);
@@ -43,6 +42,11 @@ public class LevenshteinListChangeAppender extends CorePropertyChangeAppender<Li
         return result;
     }
 
+    StepsMatrix evaluateSteps(EqualsFunction equalsFunction, List leftList, List rightList) {
+        final BacktrackSteps[][] steps = new Backtrack(equalsFunction).evaluateSteps(leftList, rightList);
+        return (i, j) -> steps[i][j];
+    }
+
     private ListChange createListChange(NodePair pair, JaversProperty property, List<ContainerElementChange> changes, List left, List right) {
         final ListChange result;
 
@@ -0,0 +1,196 @@
+package org.javers.core.diff.appenders.levenshtein;
+
+import org.javers.core.diff.EqualsFunction;
+
+import java.util.List;
+
+/**
+ * Evaluates the same steps as {@link Backtrack} without keeping the full score and steps matrices.
+ * <br/><br/>
+ *
+ * Two modes are used:
+ * <ul>
+ *     <li>Banded, when bandWidth is set. Only cells with |i - j| &lt;= bandWidth are evaluated,
+ *         so it takes O(n * bandWidth) space and time.
+ *         It is exact when the edit distance is not greater than bandWidth,
+ *         otherwise the checkpointed mode is used.</li>
+ *     <li>Checkpointed. Only every k-th row of scores is kept (k = sqrt(n)),
+ *         steps are recomputed from the nearest checkpoint, block by block, while backtracking.
+ *         It takes O(m * sqrt(n)) space and about twice the time of {@link Backtrack}.</li>
+ * </ul>
+ *
+ * Steps are not approximated in any mode, so the resulting changes are the same as in {@link Backtrack}.
+ */
+class LowMemoryBacktrack {
+
+    private final static int PENALTY = 1;
+
+    private final static int UNREACHABLE = Integer.MIN_VALUE / 2;
+
+    private final static BacktrackSteps[] STEPS = BacktrackSteps.values();
+
+    private final EqualsFunction equalsFunction;
+    private final int bandWidth;
+
+    LowMemoryBacktrack(EqualsFunction equalsFunction, int bandWidth) {
+        this.equalsFunction = equalsFunction;
+        this.bandWidth = bandWidth;
+    }
+
+    StepsMatrix evaluateSteps(final List leftList, final List rightList) {
+        if (bandWidth > 0 && Math.abs(leftList.size() - rightList.size()) <= bandWidth) {
+            BandedSteps banded = new BandedSteps(leftList, rightList);
+            if (banded.distance <= bandWidth) {
+                return banded;
+            }
+        }
+        return new CheckpointedSteps(leftList, rightList);
+    }
+
+    /**
+     * Same scoring as in {@link Backtrack#evaluateSteps(List, List)}
+     * @return max score, step ordinal is stored in steps[stepIdx]
+     */
+    private int evaluateCell(int upScore, int leftScore, int diagonalScore, Object left, Object right,
+                             byte[] steps, int stepIdx) {
+        int skipLeft = upScore - PENALTY;
+        int skipRight = leftScore - PENALTY;
+        int take = diagonalScore - compareListElements(left, right);
+        int max = Math.max(skipLeft, Math.max(skipRight, take));
+
+        if (steps != null) {
+            final BacktrackSteps step;
+            if (max == skipLeft) {
+                step = BacktrackSteps.SKIP_LEFT;
+            } else if (max == skipRight) {
+                step = BacktrackSteps.SKIP_RIGHT;
+            } else {
+                step = BacktrackSteps.TAKE;
+            }
+            steps[stepIdx] = (byte) step.ordinal();
+        }
+        return max;
+    }
+
+    private int compareListElements(final Object left, final Object right) {
+        if (equalsFunction.nullSafeEquals(left, right)) {
+            return 0;
+        } else {
+            return PENALTY;
+        }
+    }
+
+    private class CheckpointedSteps implements StepsMatrix {
+        private final List leftList;
+        private final List rightList;
+        private final int blockSize;
+        private final int[][] checkpoints;
+        private final byte[][] block;
+        private int blockStart = -1;
+
+        CheckpointedSteps(List leftList, List rightList) {
+            this.leftList = leftList;
+            this.rightList = rightList;
+
+            int leftSize = leftList.size();
+            this.blockSize = Math.max(1, (int) Math.ceil(Math.sqrt(leftSize)));
+            this.checkpoints = new int[Math.max(0, leftSize - 1) / blockSize + 1][];
+            this.block = new byte[blockSize][rightList.size() + 1];
+
+            int[] prev = new int[rightList.size() + 1];
+            int[] curr = new int[rightList.size() + 1];
+            for (int j = 0; j < prev.length; ++j) {
+                prev[j] = -j * PENALTY;
+            }
+            checkpoints[0] = prev.clone();
+
+            for (int i = 1; i < leftSize; ++i) {
+                evaluateRow(i, prev, curr, null);
+                if (i % blockSize == 0) {
+                    checkpoints[i / blockSize] = curr.clone();
+                }
+                int[] swap = prev;
+                prev = curr;
+                curr = swap;
+            }
+        }
+
+        @Override
+        public BacktrackSteps get(int i, int j) {
+            int start = ((i - 1) / blockSize) * blockSize;
+            if (start != blockStart) {
+                evaluateBlock(start);
+            }
+            return STEPS[block[i - start - 1][j]];
+        }
+
+        private void evaluateBlock(int start) {
+            int[] prev = checkpoints[start / blockSize].clone();
+            int[] curr = new int[prev.length];
+            int end = Math.min(start + blockSize, leftList.size());
+
+            for (int i = start + 1; i <= end; ++i) {
+                evaluateRow(i, prev, curr, block[i - start - 1]);
+                int[] swap = prev;
+                prev = curr;
+                curr = swap;
+            }
+            blockStart = start;
+        }
+
+        private void evaluateRow(int i, int[] prev, int[] curr, byte[] steps) {
+            Object left = leftList.get(i - 1);
+            curr[0] = -i * PENALTY;
+            for (int j = 1; j < curr.length; ++j) {
+                curr[j] = evaluateCell(prev[j], curr[j - 1], prev[j - 1], left, rightList.get(j - 1), steps, j);
+            }
+        }
+    }
+
+    /**
+     * Cell [i][j] is stored at [i][j - i + bandWidth]
+     */
+    private class BandedSteps implements StepsMatrix {
+        private final byte[][] steps;
+        private final int distance;
+
+        BandedSteps(List leftList, List rightList) {
+            int width = 2 * bandWidth + 1;
+            int rightSize = rightList.size();
+            this.steps = new byte[leftList.size() + 1][width];
+
+            int[] prev = new int[width];
+            int[] curr = new int[width];
+            for (int d = 0; d < width; ++d) {
+                int j = d - bandWidth;
+                prev[d] = (j >= 0 && j <= rightSize) ? -j * PENALTY : UNREACHABLE;
+            }
+
+            for (int i = 1; i <= leftList.size(); ++i) {
+                Object left = leftList.get(i - 1);
+                for (int d = 0; d < width; ++d) {
+                    int j = i + d - bandWidth;
+                    if (j < 0 || j > rightSize) {
+                        curr[d] = UNREACHABLE;
+                    } else if (j == 0) {
+                        curr[d] = -i * PENALTY;
+                    } else {
+                        int up = d + 1 < width ? prev[d + 1] : UNREACHABLE;
+                        int leftScore = d > 0 ? curr[d - 1] : UNREACHABLE;
+                        curr[d] = evaluateCell(up, leftScore, prev[d], left, rightList.get(j - 1), steps[i], d);
+                    }
+                }
+                int[] swap = prev;
+                prev = curr;
+                curr = swap;
+            }
+
+            this.distance = -prev[rightSize - leftList.size() + bandWidth];
+        }
+
+        @Override
+        public BacktrackSteps get(int i, int j) {
+            return STEPS[steps[i][j - i + bandWidth]];
+        }
+    }
+}
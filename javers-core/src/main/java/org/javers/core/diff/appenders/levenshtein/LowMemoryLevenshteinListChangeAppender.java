@@ -0,0 +1,24 @@
+package org.javers.core.diff.appenders.levenshtein;
+
+import org.javers.core.CoreConfiguration;
+import org.javers.core.diff.EqualsFunction;
+
+import java.util.List;
+
+/**
+ * Gives the same changes as {@link LevenshteinListChangeAppender}
+ * but without allocating O(n*m) matrices, see {@link LowMemoryBacktrack}
+ */
+public class LowMemoryLevenshteinListChangeAppender extends LevenshteinListChangeAppender {
+
+    private final int bandWidth;
+
+    public LowMemoryLevenshteinListChangeAppender(CoreConfiguration coreConfiguration) {
+        this.bandWidth = coreConfiguration.getLevenshteinBandWidth();
+    }
+
+    @Override
+    StepsMatrix evaluateSteps(EqualsFunction equalsFunction, List leftList, List rightList) {
+        return new LowMemoryBacktrack(equalsFunction, bandWidth).evaluateSteps(leftList, rightList);
+    }
+}
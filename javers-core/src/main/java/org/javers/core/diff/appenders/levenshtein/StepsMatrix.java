@@ -0,0 +1,8 @@
+package org.javers.core.diff.appenders.levenshtein;
+
+/**
+ * Backtrack steps, indexed by [leftIdx + 1][rightIdx + 1]
+ */
+interface StepsMatrix {
+    BacktrackSteps get(int i, int j);
+}
@@ -17,14 +17,14 @@ class StepsToChanges {
         this.equalsFunction = equalsFunction;
     }
 
-    List<ContainerElementChange> convert(final BacktrackSteps[][] backtrack, final List leftList, final List rightList) {
+    List<ContainerElementChange> convert(final StepsMatrix backtrack, final List leftList, final List rightList) {
         int i = leftList.size();
         int j = rightList.size();
 
         final List<ContainerElementChange> changes = new ArrayList<>();
 
-        while (i * j != 0) {
-            final BacktrackSteps choice = backtrack[i][j];
+        while (i > 0 && j > 0) {
+            final BacktrackSteps choice = backtrack.get(i, j);
             final Object leftValue = leftList.get(i - 1);
             final Object rightValue = rightList.get(j - 1);
 
@@ -6,8 +6,10 @@
  * we can use the same algorithm as for finding the Levenshtein edit distance for strings.
  *
  * The algorithm is based on computing the shortest path in a DAG. It takes both O(nm) space
- * and time. Further work should improve it to take O(n) space and O(nm) time (n and m being
- * the length of both compared lists).
+ * and time (n and m being the length of both compared lists).
+ *
+ * {@link org.javers.core.diff.appenders.levenshtein.LowMemoryBacktrack} gives the same results
+ * in O(m*sqrt(n)) space, or in O(n*bandWidth) space for mostly similar lists.
  *
  */
 package org.javers.core.diff.appenders.levenshtein;
@@ -89,7 +89,7 @@ class EdgeBuilder {
         return false;
     }
 
-    private LiveNode buildNodeStubOrReuse(LiveCdo cdo){
+    LiveNode buildNodeStubOrReuse(LiveCdo cdo){
         if (nodeReuser.isReusable(cdo)){
             return nodeReuser.getForReuse(cdo);
         }
@@ -1,6 +1,8 @@
 package org.javers.core.graph;
 
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * @author bartosz walacik
@@ -16,4 +18,11 @@ public class LiveGraph extends ObjectGraph<LiveCdo> {
     ObjectNode root() {
         return root;
     }
+
+    /**
+     * Subgraph with nodes matching given predicate, root is retained
+     */
+    public LiveGraph filter(Predicate<ObjectNode> predicate) {
+        return new LiveGraph(root, nodes().stream().filter(predicate::test).collect(Collectors.toSet()));
+    }
 }
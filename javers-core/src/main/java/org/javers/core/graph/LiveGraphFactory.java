@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author bartosz walacik
@@ -38,6 +39,18 @@ public class LiveGraphFactory {
         return new ObjectGraphBuilder(typeMapper, liveCdoFactory).buildGraph(wrappedHandle);
     }
 
+    /**
+     * Single graph for many handles,
+     * delegates to {@link ObjectGraphBuilder#buildGraphForRoots(Collection)}
+     */
+    public LiveGraph createLiveGraphForRoots(Collection<?> handles) {
+        List<Object> wrappedHandles = handles.stream()
+                .map(this::wrapTopLevelContainer)
+                .collect(Collectors.toList());
+
+        return new ObjectGraphBuilder(typeMapper, liveCdoFactory).buildGraphForRoots(wrappedHandles);
+    }
+
     public Cdo createCdo(Object cdo){
         return liveCdoFactory.create(cdo, null);
     }
@@ -11,6 +11,7 @@ import org.javers.core.metamodel.type.TypeMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 
@@ -58,13 +59,43 @@ class ObjectGraphBuilder {
         argumentIsNotNull(cdo);
 
         LiveNode root = edgeBuilder.buildNodeStub(cdo);
+        buildStubs();
 
+        return assembleGraph(root);
+    }
+
+    /**
+     * Builds a single graph navigable from all given handles,
+     * objects reachable from more than one handle are added once
+     *
+     * @param handles domain objects, instances of Entity or ValueObject, for example aggregate roots
+     */
+    LiveGraph buildGraphForRoots(Collection<?> handles) {
+        argumentIsNotNull(handles);
+
+        LiveNode root = null;
+        for (Object handle : handles) {
+            argumentIsNotNull(handle);
+            LiveNode node = edgeBuilder.buildNodeStubOrReuse(cdoFactory.create(handle, null));
+            buildStubs();
+
+            if (root == null) {
+                root = node;
+            }
+        }
+
+        return assembleGraph(root);
+    }
+
+    private void buildStubs() {
         //we can't use recursion here, it could cause StackOverflow for large graphs
         while(nodeReuser.hasMoreStubs()){
             LiveNode stub = nodeReuser.pollStub();
             buildEdges(stub); //edgeBuilder should append new stubs to queue
         }
+    }
 
+    private LiveGraph assembleGraph(LiveNode root) {
         logger.debug("live graph assembled, object nodes: {}, entities: {}, valueObjects: {}",
                 nodeReuser.nodesCount(), nodeReuser.entitiesCount(), nodeReuser.voCount());
 
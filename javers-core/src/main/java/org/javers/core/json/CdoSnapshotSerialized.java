@@ -18,6 +18,7 @@ public class CdoSnapshotSerialized {
     private long commitPk;
 
     //snapshot
+    private long snapshotPk;
     private long version;
     private String snapshotState; //JSON
     private String changedProperties; //JSON
@@ -67,6 +68,11 @@ public class CdoSnapshotSerialized {
     }
 
 
+    public CdoSnapshotSerialized withSnapshotPk(long snapshotPk) {
+        this.snapshotPk = snapshotPk;
+        return this;
+    }
+
     public CdoSnapshotSerialized withVersion(long version) {
         this.version = version;
         return this;
@@ -180,5 +186,8 @@ public class CdoSnapshotSerialized {
     public long getCommitPk() {
         return commitPk;
     }
-}
 
+    public long getSnapshotPk() {
+        return snapshotPk;
+    }
+}
@@ -1,6 +1,7 @@
 package org.javers.core.json;
 
 import com.google.gson.*;
+import com.google.gson.internal.bind.ReflectiveTypeAdapterFactory;
 import org.javers.core.json.typeadapter.commit.CdoSnapshotAssembler;
 import org.javers.core.metamodel.object.CdoSnapshot;
 import java.io.Reader;
@@ -68,6 +69,18 @@ public class JsonConverter {
         return gson.fromJson(json, expectedType);
     }
 
+    public Object fromJson(JsonElement json, Type expectedType) {
+        return gson.fromJson(json, expectedType);
+    }
+
+    /**
+     * true if Gson maps a given class field by field,
+     * so there is no custom TypeAdapter registered for it
+     */
+    public boolean hasReflectiveTypeAdapter(Class<?> clazz) {
+        return gson.getAdapter(clazz) instanceof ReflectiveTypeAdapterFactory.Adapter;
+    }
+
     public JsonElement fromJsonToJsonElement(String json){
         return gson.fromJson(json, JsonElement.class);
     }
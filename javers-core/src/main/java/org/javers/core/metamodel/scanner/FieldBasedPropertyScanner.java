@@ -2,6 +2,8 @@ package org.javers.core.metamodel.scanner;
 
 import org.javers.common.reflection.JaversMember;
 import org.javers.common.reflection.ReflectionUtil;
+import org.javers.core.CoreConfiguration;
+import org.javers.core.PropertyAccessStrategy;
 
 import java.util.List;
 
@@ -11,7 +13,11 @@ import java.util.List;
 class FieldBasedPropertyScanner extends PropertyScanner {
 
     FieldBasedPropertyScanner(AnnotationNamesProvider annotationNamesProvider) {
-        super(annotationNamesProvider);
+        super(annotationNamesProvider, PropertyAccessStrategy.REFLECTION);
+    }
+
+    FieldBasedPropertyScanner(AnnotationNamesProvider annotationNamesProvider, CoreConfiguration coreConfiguration) {
+        super(annotationNamesProvider, coreConfiguration.getPropertyAccessStrategy());
     }
 
     @Override
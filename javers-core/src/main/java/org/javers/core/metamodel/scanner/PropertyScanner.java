@@ -2,6 +2,7 @@ package org.javers.core.metamodel.scanner;
 
 import org.javers.common.collections.Sets;
 import org.javers.common.reflection.JaversMember;
+import org.javers.core.PropertyAccessStrategy;
 import org.javers.core.metamodel.annotation.DiffIgnoreProperties;
 import org.javers.core.metamodel.property.Property;
 
@@ -17,9 +18,11 @@ import java.util.Optional;
 abstract class PropertyScanner {
 
     private final AnnotationNamesProvider annotationNamesProvider;
+    private final PropertyAccessStrategy accessStrategy;
 
-    PropertyScanner(AnnotationNamesProvider annotationNamesProvider) {
+    PropertyScanner(AnnotationNamesProvider annotationNamesProvider, PropertyAccessStrategy accessStrategy) {
         this.annotationNamesProvider = annotationNamesProvider;
+        this.accessStrategy = accessStrategy;
     }
 
     public PropertyScan scan(Class<?> managedClass, boolean ignoreDeclaredProperties) {
@@ -32,6 +35,7 @@ abstract class PropertyScanner {
             boolean hasIncludeAnn = annotationNamesProvider.hasDiffIncludeAnn(member.getAnnotationTypes());
 
             Optional<String> customPropertyName = annotationNamesProvider.findPropertyNameAnnValue(member.getAnnotations());
+            member.useAccessStrategy(accessStrategy);
             properties.add(new Property(member, hasTransientAnn || isIgnoredInType, hasShallowReferenceAnn, customPropertyName, hasIncludeAnn));
         }
         return new PropertyScan(properties);
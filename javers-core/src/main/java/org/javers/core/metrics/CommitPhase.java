@@ -0,0 +1,31 @@
+package org.javers.core.metrics;
+
+/**
+ * @see JaversMetrics#recordCommitPhase(CommitPhase, long)
+ */
+public enum CommitPhase {
+    /**
+     * Building the live graph of committed objects
+     */
+    LIVE_GRAPH,
+
+    /**
+     * Loading latest snapshots of committed objects from a JaversRepository
+     */
+    LATEST_SNAPSHOTS,
+
+    /**
+     * Taking snapshots of changed objects
+     */
+    SNAPSHOTS,
+
+    /**
+     * Calculating the Diff between latest snapshots and the live graph
+     */
+    DIFF,
+
+    /**
+     * Persisting the Commit in a JaversRepository
+     */
+    PERSIST
+}
@@ -0,0 +1,65 @@
+package org.javers.core.metrics;
+
+import org.javers.repository.jql.ShadowStats;
+
+/**
+ * SPI for collecting JaVers timings and counters,
+ * register your implementation with {@link org.javers.core.JaversBuilder#withMetrics(JaversMetrics)}.
+ * <br/><br/>
+ *
+ * Methods are called synchronously, on the hot path, from threads calling JaVers,
+ * so implementations should be cheap and thread-safe.
+ * All methods are no-op by default.
+ * <br/><br/>
+ *
+ * Repository metrics (SQL queries and caches) are reported
+ * only by repositories implementing {@link org.javers.repository.api.MetricsAware}.
+ */
+public interface JaversMetrics {
+
+    /**
+     * Cache of GlobalId primary keys in JaversSqlRepository
+     */
+    String GLOBAL_ID_CACHE = "globalId";
+
+    /**
+     * Cache of latest snapshots in JaversSqlRepository and MongoRepository
+     */
+    String LATEST_SNAPSHOT_CACHE = "latestSnapshot";
+
+    /**
+     * Cache of snapshots by identifiers in JaversExtendedRepository,
+     * see {@link org.javers.core.JaversBuilder#withSnapshotCacheSize(int)}
+     */
+    String SNAPSHOT_CACHE = "snapshot";
+
+    JaversMetrics NONE = new JaversMetrics() {};
+
+    /**
+     * Called after each phase of a commit
+     */
+    default void recordCommitPhase(CommitPhase phase, long durationNanos) {
+    }
+
+    /**
+     * Called after each execution of an SQL statement
+     *
+     * @param queryName name of the statement, like <code>"find PKs of InstanceIds"</code>
+     */
+    default void recordSqlQuery(String queryName, long durationNanos) {
+    }
+
+    /**
+     * Called after each cache lookup, bulk lookups are reported as a single call
+     *
+     * @param cacheName {@link #GLOBAL_ID_CACHE}, {@link #LATEST_SNAPSHOT_CACHE} or {@link #SNAPSHOT_CACHE}
+     */
+    default void recordCacheAccess(String cacheName, int hits, int misses) {
+    }
+
+    /**
+     * Called after each Shadow query (each frame of a Shadow stream)
+     */
+    default void recordShadowQuery(ShadowStats stats) {
+    }
+}
@@ -4,11 +4,15 @@ import org.javers.common.validation.Validate;
 import org.javers.core.commit.CommitMetadata;
 import org.javers.core.graph.*;
 import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Builds snapshots for provided live objects.
@@ -32,12 +36,14 @@ public class ChangedCdoSnapshotsFactory {
     public List<CdoSnapshot> create(LiveGraph liveGraph, Set<CdoSnapshot> latestSnapshots, CommitMetadata commitMetadata) {
         Validate.argumentsAreNotNull(liveGraph, commitMetadata, latestSnapshots);
 
+        Map<GlobalId, CdoSnapshot> latestSnapshotsById = latestSnapshots.stream()
+                .collect(Collectors.toMap(CdoSnapshot::getGlobalId, Function.identity(), (a, b) -> a));
+
         List<CdoSnapshot> result = new ArrayList<>();
         for (ObjectNode node : liveGraph.nodes()) {
             LiveNode liveNode = (LiveNode) node;
-            Cdo currentCdo = node.getCdo();
 
-            Optional<CdoSnapshot> previousSnapshot = latestSnapshots.stream().filter(currentCdo::equals).findFirst();
+            Optional<CdoSnapshot> previousSnapshot = Optional.ofNullable(latestSnapshotsById.get(node.getGlobalId()));
             CdoSnapshot currentSnapshot = createSnapshot(commitMetadata, liveNode, previousSnapshot);
             if (isCdoChanged(previousSnapshot, currentSnapshot)) {
                 result.add(currentSnapshot);
@@ -7,16 +7,21 @@ import org.javers.core.commit.CommitMetadata;
 import org.javers.core.diff.Change;
 import org.javers.core.diff.Diff;
 import org.javers.core.diff.DiffFactory;
+import org.javers.core.diff.NodePair;
 import org.javers.core.diff.changetype.ObjectRemoved;
 import org.javers.core.metamodel.object.CdoSnapshot;
 import org.javers.repository.api.SnapshotIdentifier;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 
 public class SnapshotDiffer {
+    static final int PARALLEL_CHUNK_SIZE = 32;
 
     private final DiffFactory diffFactory;
     private final CoreConfiguration javersCoreConfiguration;
@@ -29,11 +34,47 @@ public class SnapshotDiffer {
     /**
      * Calculates changes introduced by a collection of snapshots. This method expects that
      * the previousSnapshots map contains predecessors of all non-initial and non-terminal snapshots.
+     * <br/>
+     * When {@link CoreConfiguration#getSnapshotDiffingExecutor()} is set,
+     * snapshots are diffed in parallel, in chunks of {@link #PARALLEL_CHUNK_SIZE}.
+     * Changes are returned in the same order as in the sequential mode.
      */
     public List<Change> calculateDiffs(List<CdoSnapshot> snapshots, Map<SnapshotIdentifier, CdoSnapshot> previousSnapshots) {
         Validate.argumentsAreNotNull(snapshots);
         Validate.argumentsAreNotNull(previousSnapshots);
 
+        Executor executor = javersCoreConfiguration.getSnapshotDiffingExecutor();
+        if (executor != null && snapshots.size() > PARALLEL_CHUNK_SIZE) {
+            return calculateDiffsInParallel(snapshots, previousSnapshots, executor);
+        }
+
+        return calculateDiffsSequentially(snapshots, previousSnapshots);
+    }
+
+    private List<Change> calculateDiffsInParallel(List<CdoSnapshot> snapshots,
+                                                  Map<SnapshotIdentifier, CdoSnapshot> previousSnapshots,
+                                                  Executor executor) {
+        List<CompletableFuture<List<Change>>> chunks = new ArrayList<>();
+        for (int from = 0; from < snapshots.size(); from += PARALLEL_CHUNK_SIZE) {
+            List<CdoSnapshot> chunk = snapshots.subList(from, Math.min(from + PARALLEL_CHUNK_SIZE, snapshots.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> calculateDiffsSequentially(chunk, previousSnapshots), executor));
+        }
+
+        List<Change> changes = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<Change>> chunk : chunks) {
+                changes.addAll(chunk.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return changes;
+    }
+
+    private List<Change> calculateDiffsSequentially(List<CdoSnapshot> snapshots, Map<SnapshotIdentifier, CdoSnapshot> previousSnapshots) {
         List<Change> changes = new ArrayList<>();
         for (CdoSnapshot snapshot : snapshots) {
             if (snapshot.isInitial()) {
@@ -52,8 +93,7 @@ public class SnapshotDiffer {
     }
 
     private List<Change> addInitialChanges(CdoSnapshot initialSnapshot) {
-        Diff initialDiff = diffFactory.create(emptySnapshotGraph(), snapshotGraph(initialSnapshot), commitMetadata(initialSnapshot));
-        return initialDiff.getChanges();
+        return diffFactory.createForNewNode(new SnapshotNode(initialSnapshot), commitMetadata(initialSnapshot));
     }
 
     private void addTerminalChanges(List<Change> changes, CdoSnapshot terminalSnapshot, CdoSnapshot previousSnapshot) {
@@ -64,19 +104,20 @@ public class SnapshotDiffer {
         }
     }
 
+    /**
+     * Snapshot pairs are compared directly, without graphs,
+     * and only properties with different values in the two states are passed to the change appenders.
+     */
     private void addChanges(List<Change> changes, CdoSnapshot previousSnapshot, CdoSnapshot currentSnapshot) {
-        Diff diff = diffFactory.create(snapshotGraph(previousSnapshot), snapshotGraph(currentSnapshot), commitMetadata(currentSnapshot));
-        changes.addAll(diff.getChanges());
+        NodePair pair = new NodePair(new SnapshotNode(previousSnapshot), new SnapshotNode(currentSnapshot), commitMetadata(currentSnapshot));
+        Set<String> differentProperties = new HashSet<>(currentSnapshot.getState().differentValues(previousSnapshot.getState()));
+        changes.addAll(diffFactory.createForNodePair(pair, differentProperties));
     }
 
     private SnapshotGraph snapshotGraph(CdoSnapshot snapshot) {
         return new SnapshotGraph(Sets.asSet(new SnapshotNode(snapshot)));
     }
 
-    private SnapshotGraph emptySnapshotGraph() {
-        return new SnapshotGraph(Collections.emptySet());
-    }
-
     private Optional<CommitMetadata> commitMetadata(CdoSnapshot snapshot) {
         return of(snapshot.getCommitMetadata());
     }
@@ -22,7 +22,16 @@ public class SnapshotGraphFactory {
     public SnapshotGraph createLatest(Set<GlobalId> globalIds){
         Validate.argumentIsNotNull(globalIds);
 
-        Set<SnapshotNode> snapshotNodes = javersRepository.getLatest(globalIds)
+        return create(javersRepository.getLatest(globalIds));
+    }
+
+    /**
+     * From latest snapshots loaded by the caller, for example, by an async repository
+     */
+    public SnapshotGraph create(Collection<CdoSnapshot> latestSnapshots){
+        Validate.argumentIsNotNull(latestSnapshots);
+
+        Set<SnapshotNode> snapshotNodes = latestSnapshots
                 .stream()
                 .map(SnapshotNode::new)
                 .collect(Collectors.toSet());
@@ -0,0 +1,71 @@
+package org.javers.repository.api;
+
+import org.javers.common.validation.Validate;
+import org.javers.core.commit.Commit;
+import org.javers.core.commit.CommitId;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking counterpart of {@link JaversRepository},
+ * used by {@link org.javers.core.JaversAsync}.
+ * <br/>
+ * Covers the write path, including the latest snapshots and the head id
+ * loaded before the diff is calculated.
+ * Returned stages should be completed by the database driver,
+ * without blocking the caller's thread.
+ * <br/><br/>
+ *
+ * Implementations:
+ * <ul>
+ *     <li/>{@link AsyncJaversRepositoryAdapter} &mdash; adapts any blocking JaversRepository, for example SQL,
+ *          runs it on an Executor
+ *     <li/>MongoAsyncRepository &mdash; native implementation on the MongoDB Reactive Streams driver,
+ *          in the javers-persistence-mongo module
+ * </ul>
+ *
+ * @see org.javers.core.JaversBuilder#registerAsyncJaversRepository(AsyncJaversRepository)
+ */
+public interface AsyncJaversRepository {
+
+    /**
+     * Async version of {@link JaversRepository#persist(Commit)}
+     */
+    CompletionStage<Void> persist(Commit commit);
+
+    /**
+     * Async version of {@link JaversRepository#getLatest(GlobalId)}
+     */
+    CompletionStage<Optional<CdoSnapshot>> getLatest(GlobalId globalId);
+
+    /**
+     * Async version of {@link JaversRepository#getLatest(Collection)}
+     */
+    default CompletionStage<List<CdoSnapshot>> getLatest(Collection<GlobalId> globalIds) {
+        Validate.argumentIsNotNull(globalIds);
+
+        List<CompletableFuture<Optional<CdoSnapshot>>> latest = globalIds.stream()
+                .map(id -> getLatest(id).toCompletableFuture())
+                .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(latest.toArray(new CompletableFuture[0]))
+                .thenApply(it -> latest.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Async version of {@link JaversRepository#getHeadId()},
+     * completed with null if the repository is empty
+     */
+    CompletionStage<CommitId> getHeadId();
+}
@@ -0,0 +1,95 @@
+package org.javers.repository.api;
+
+import org.javers.common.validation.Validate;
+import org.javers.core.commit.Commit;
+import org.javers.core.commit.CommitId;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Adapts a blocking {@link JaversRepository} (for example, JaversSqlRepository over JDBC)
+ * to {@link AsyncJaversRepository}.
+ * Blocking calls are made on the given Executor, so they don't park the caller's thread.
+ * <br/><br/>
+ *
+ * <b>Important!</b> Calls are made outside of the caller's transaction.
+ * If you are using SQL repository, its ConnectionProvider should give
+ * a connection on the Executor's threads.
+ *
+ * @see #defaultExecutor()
+ */
+public class AsyncJaversRepositoryAdapter implements AsyncJaversRepository {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncJaversRepositoryAdapter.class);
+
+    private final JaversRepository delegate;
+    private final Executor executor;
+
+    public AsyncJaversRepositoryAdapter(JaversRepository delegate, Executor executor) {
+        Validate.argumentsAreNotNull(delegate, executor);
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<Void> persist(Commit commit) {
+        return CompletableFuture.runAsync(() -> delegate.persist(commit), executor);
+    }
+
+    @Override
+    public CompletionStage<Optional<CdoSnapshot>> getLatest(GlobalId globalId) {
+        return CompletableFuture.supplyAsync(() -> delegate.getLatest(globalId), executor);
+    }
+
+    @Override
+    public CompletionStage<List<CdoSnapshot>> getLatest(Collection<GlobalId> globalIds) {
+        return CompletableFuture.supplyAsync(() -> delegate.getLatest(globalIds), executor);
+    }
+
+    @Override
+    public CompletionStage<CommitId> getHeadId() {
+        return CompletableFuture.supplyAsync(delegate::getHeadId, executor);
+    }
+
+    /**
+     * Virtual thread per task Executor when running on Java 21+,
+     * otherwise, a cached thread pool with daemon threads.
+     * <br/>
+     * Created once and shared by all JaversAsync instances,
+     * its threads don't keep the JVM alive, so it's never shut down.
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutorHolder.INSTANCE;
+    }
+
+    private static class DefaultExecutorHolder {
+        private static final Executor INSTANCE = createDefaultExecutor();
+    }
+
+    private static Executor createDefaultExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            logger.debug("using virtual threads for blocking repository calls");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            logger.debug("virtual threads are not available, using cached thread pool for blocking repository calls");
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "javers-async");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.javers.core.snapshot.SnapshotDiffer;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.javers.common.validation.Validate.argumentIsNotNull;
 import static org.javers.common.validation.Validate.argumentsAreNotNull;
@@ -26,10 +27,12 @@ public class JaversExtendedRepository implements JaversRepository {
     private final JaversRepository delegate;
     private final SnapshotDiffer snapshotDiffer;
     private final PreviousSnapshotsCalculator previousSnapshotsCalculator;
+    private final SnapshotCache snapshotCache;
 
-    public JaversExtendedRepository(JaversRepository delegate, SnapshotDiffer snapshotDiffer) {
+    public JaversExtendedRepository(JaversRepository delegate, SnapshotDiffer snapshotDiffer, SnapshotCache snapshotCache) {
         this.delegate = delegate;
         this.snapshotDiffer = snapshotDiffer;
+        this.snapshotCache = snapshotCache;
         previousSnapshotsCalculator = new PreviousSnapshotsCalculator(input -> getSnapshots(input));
     }
 
@@ -68,7 +71,7 @@ public class JaversExtendedRepository implements JaversRepository {
     public List<CdoSnapshot> getStateHistory(GlobalId globalId, QueryParams queryParams) {
         argumentsAreNotNull(globalId, queryParams);
 
-        List<CdoSnapshot> snapshots = delegate.getStateHistory(globalId, queryParams);
+        List<CdoSnapshot> snapshots = cached(delegate.getStateHistory(globalId, queryParams), queryParams);
 
         if (globalId instanceof InstanceId && queryParams.isAggregate()) {
             return loadMasterEntitySnapshotIfNecessary((InstanceId) globalId, snapshots);
@@ -81,16 +84,21 @@ public class JaversExtendedRepository implements JaversRepository {
     public List<CdoSnapshot> getValueObjectStateHistory(EntityType ownerEntity, String path, QueryParams queryParams) {
         argumentsAreNotNull(ownerEntity, path, queryParams);
 
-        return delegate.getValueObjectStateHistory(ownerEntity, path, queryParams);
+        return cached(delegate.getValueObjectStateHistory(ownerEntity, path, queryParams), queryParams);
     }
 
     @Override
     public Optional<CdoSnapshot> getLatest(GlobalId globalId) {
         argumentIsNotNull(globalId);
 
-        return delegate.getLatest(globalId);
+        Optional<CdoSnapshot> latest = delegate.getLatest(globalId);
+        latest.ifPresent(it -> snapshotCache.putAll(Collections.singletonList(it)));
+        return latest;
     }
 
+    /**
+     * Not cached, repositories may load these snapshots without commit properties
+     */
     @Override
     public List<CdoSnapshot> getLatest(Collection<GlobalId> globalIds) {
         argumentIsNotNull(globalIds);
@@ -104,10 +112,11 @@ public class JaversExtendedRepository implements JaversRepository {
     public List<CdoSnapshot> getHistoricals(GlobalId globalId, CommitId timePoint, boolean withChildValueObjects, int limit) {
         argumentsAreNotNull(globalId, timePoint);
 
-        return delegate.getStateHistory(globalId, QueryParamsBuilder
-                        .withLimit(limit)
-                        .withChildValueObjects(withChildValueObjects)
-                        .toCommitId(timePoint).build());
+        QueryParams queryParams = QueryParamsBuilder
+                .withLimit(limit)
+                .withChildValueObjects(withChildValueObjects)
+                .toCommitId(timePoint).build();
+        return cached(delegate.getStateHistory(globalId, queryParams), queryParams);
     }
 
     /**
@@ -123,42 +132,81 @@ public class JaversExtendedRepository implements JaversRepository {
     public List<CdoSnapshot> getHistoricals(GlobalId globalId, LocalDateTime timePoint, boolean withChildValueObjects, int limit) {
         argumentsAreNotNull(globalId, timePoint);
 
-        return delegate.getStateHistory(globalId, QueryParamsBuilder
-                        .withLimit(limit)
-                        .withChildValueObjects(withChildValueObjects)
-                        .to(timePoint).build());
-
+        QueryParams queryParams = QueryParamsBuilder
+                .withLimit(limit)
+                .withChildValueObjects(withChildValueObjects)
+                .to(timePoint).build();
+        return cached(delegate.getStateHistory(globalId, queryParams), queryParams);
     }
 
     @Override
     public List<CdoSnapshot> getSnapshots(QueryParams queryParams) {
         argumentsAreNotNull(queryParams);
 
-        return delegate.getSnapshots(queryParams);
+        return cached(delegate.getSnapshots(queryParams), queryParams);
+    }
+
+    @Override
+    public Stream<CdoSnapshot> getSnapshotsStream(QueryParams queryParams) {
+        argumentsAreNotNull(queryParams);
+
+        return delegate.getSnapshotsStream(queryParams);
     }
 
+    @Override
+    public Stream<CdoSnapshot> getStateHistoryStream(Set<ManagedType> givenClasses, QueryParams queryParams) {
+        argumentsAreNotNull(givenClasses, queryParams);
+
+        return delegate.getStateHistoryStream(givenClasses, queryParams);
+    }
+
+    /**
+     * Snapshots found in the cache are merged with snapshots loaded by the delegate
+     * and ordered like snapshots loaded from a database, in reverse chronological order
+     */
     @Override
     public List<CdoSnapshot> getSnapshots(Collection<SnapshotIdentifier> snapshotIdentifiers) {
         argumentIsNotNull(snapshotIdentifiers);
 
-        return delegate.getSnapshots(snapshotIdentifiers);
+        if (snapshotCache.isDisabled() || snapshotIdentifiers.isEmpty()) {
+            return delegate.getSnapshots(snapshotIdentifiers);
+        }
+
+        List<SnapshotIdentifier> misses = new ArrayList<>();
+        List<CdoSnapshot> snapshots = snapshotCache.getAll(snapshotIdentifiers, misses);
+        if (!misses.isEmpty()) {
+            List<CdoSnapshot> loaded = delegate.getSnapshots(misses);
+            snapshotCache.putAll(loaded);
+            snapshots.addAll(loaded);
+        }
+        snapshots.sort(Comparator.comparing(CdoSnapshot::getCommitId)
+                .thenComparingLong(CdoSnapshot::getVersion)
+                .reversed());
+        return snapshots;
     }
 
     @Override
     public List<CdoSnapshot> getStateHistory(Set<ManagedType> givenClasses, QueryParams queryParams) {
-        return delegate.getStateHistory(givenClasses, queryParams);
+        return cached(delegate.getStateHistory(givenClasses, queryParams), queryParams);
     }
 
     @Override
     public void persist(Commit commit) {
         delegate.persist(commit);
+        snapshotCache.putAll(commit.getSnapshots());
     }
 
+
     @Override
     public CommitId getHeadId() {
         return delegate.getHeadId();
     }
 
+    @Override
+    public long reserveCommitIdBlock(int blockSize, long headMajorId) {
+        return delegate.reserveCommitIdBlock(blockSize, headMajorId);
+    }
+
     @Override
     public void setJsonConverter(JsonConverter jsonConverter) {
     }
@@ -168,6 +216,17 @@ public class JaversExtendedRepository implements JaversRepository {
         delegate.ensureSchema();
     }
 
+    /**
+     * Snapshots loaded without commit properties are not cached,
+     * the cache serves only complete snapshots
+     */
+    private List<CdoSnapshot> cached(List<CdoSnapshot> loaded, QueryParams queryParams) {
+        if (queryParams.isLoadCommitProps()) {
+            snapshotCache.putAll(loaded);
+        }
+        return loaded;
+    }
+
     private List<Change> filterChangesByPropertyNames(List<Change> changes, final QueryParams queryParams) {
         if (queryParams.changedProperties().size() == 0){
             return changes;
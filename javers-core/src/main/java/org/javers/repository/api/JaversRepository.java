@@ -3,6 +3,8 @@ package org.javers.repository.api;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import org.javers.common.exception.JaversException;
+import org.javers.common.exception.JaversExceptionCode;
 import org.javers.common.validation.Validate;
 import org.javers.core.commit.Commit;
 import org.javers.core.commit.CommitId;
@@ -18,6 +20,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JaversRepository is responsible for persisting {@link Commit}s calculated by Javers core.
@@ -66,6 +69,14 @@ public interface JaversRepository {
      */
     List<CdoSnapshot> getStateHistory(Set<ManagedType> givenClasses, QueryParams queryParams);
 
+    /**
+     * Streamed version of {@link #getStateHistory(Set, QueryParams)},
+     * see {@link #getSnapshotsStream(QueryParams)}
+     */
+    default Stream<CdoSnapshot> getStateHistoryStream(Set<ManagedType> givenClasses, QueryParams queryParams) {
+        return getStateHistory(givenClasses, queryParams).stream();
+    }
+
     /**
      * Latest snapshot of a given object.
      * <br/><br/>
@@ -90,6 +101,21 @@ public interface JaversRepository {
      */
     List<CdoSnapshot> getSnapshots(QueryParams queryParams);
 
+    /**
+     * Streamed version of {@link #getSnapshots(QueryParams)}.
+     * <br/><br/>
+     *
+     * Implementations should read snapshots from a database cursor
+     * and deserialize them lazily, one by one, during the stream consumption.
+     * The stream holds database resources until it's closed.
+     * <br/><br/>
+     *
+     * By default, snapshots are loaded eagerly by {@link #getSnapshots(QueryParams)}.
+     */
+    default Stream<CdoSnapshot> getSnapshotsStream(QueryParams queryParams) {
+        return getSnapshots(queryParams).stream();
+    }
+
     /**
      * Snapshots with specified globalId and version
      */
@@ -99,6 +125,24 @@ public interface JaversRepository {
 
     CommitId getHeadId();
 
+    /**
+     * Used by {@link org.javers.core.CommitIdGenerator#BLOCK_SEQUENCE}.
+     * Reserves <code>blockSize</code> consecutive commit major ids,
+     * which are never reserved again, also by other application instances.
+     * <br/><br/>
+     *
+     * Reserved ids should be greater than <code>headMajorId</code>
+     * and greater than ids in blocks reserved before.
+     * <br/><br/>
+     *
+     * Not supported by default.
+     *
+     * @return the first major id in the reserved block
+     */
+    default long reserveCommitIdBlock(int blockSize, long headMajorId) {
+        throw new JaversException(JaversExceptionCode.COMMIT_ID_BLOCKS_NOT_SUPPORTED, getClass().getName());
+    }
+
     void setJsonConverter(JsonConverter jsonConverter);
 
     /**
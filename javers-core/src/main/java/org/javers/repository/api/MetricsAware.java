@@ -0,0 +1,8 @@
+package org.javers.repository.api;
+
+import org.javers.core.metrics.JaversMetrics;
+
+public interface MetricsAware {
+
+    void setMetrics(JaversMetrics metrics);
+}
@@ -37,8 +37,9 @@ public class QueryParams {
     private final SnapshotType snapshotType;
     private final boolean loadCommitProps;
     private final Integer snapshotQueryLimit;
+    private final SnapshotIdentifier afterSnapshot;
 
-    QueryParams(int limit, int skip, LocalDateTime from, Instant fromInstant, LocalDateTime to, Instant toInstant, Set<CommitId> commitIds, Long version, String author, String authorLikeIgnoreCase, Map<String, Collection<String>> commitProperties, Map<String,String> commitPropertiesLike, boolean aggregate, Set<String> changedProperties, CommitId toCommitId, SnapshotType snapshotType, boolean loadCommitProps, Integer snapshotQueryLimit) {
+    QueryParams(int limit, int skip, LocalDateTime from, Instant fromInstant, LocalDateTime to, Instant toInstant, Set<CommitId> commitIds, Long version, String author, String authorLikeIgnoreCase, Map<String, Collection<String>> commitProperties, Map<String,String> commitPropertiesLike, boolean aggregate, Set<String> changedProperties, CommitId toCommitId, SnapshotType snapshotType, boolean loadCommitProps, Integer snapshotQueryLimit, SnapshotIdentifier afterSnapshot) {
         this.snapshotQueryLimit = snapshotQueryLimit;
         this.limit = limit;
         this.skip = skip;
@@ -57,6 +58,7 @@ public class QueryParams {
         this.toCommitId = toCommitId;
         this.snapshotType = snapshotType;
         this.loadCommitProps = loadCommitProps;
+        this.afterSnapshot = afterSnapshot;
     }
 
     public QueryParams changeAggregate(boolean newAggregate) {
@@ -195,6 +197,13 @@ public class QueryParams {
         return Optional.ofNullable(snapshotType);
     }
 
+    /**
+     * @see QueryBuilder#afterSnapshot(SnapshotIdentifier)
+     */
+    public Optional<SnapshotIdentifier> afterSnapshot() {
+        return Optional.ofNullable(afterSnapshot);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.toString(this,
@@ -211,6 +220,7 @@ public class QueryParams {
                 "snapshotType", snapshotType,
                 "limit", limit,
                 "skip", skip,
+                "afterSnapshot", afterSnapshot,
                 "snapshotQueryLimit", snapshotQueryLimit);
     }
 }
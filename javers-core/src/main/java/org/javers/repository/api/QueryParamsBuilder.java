@@ -32,6 +32,7 @@ public class QueryParamsBuilder {
     private SnapshotType snapshotType;
     private boolean loadCommitProps = true;
     private Integer snapshotQueryLimit;
+    private SnapshotIdentifier afterSnapshot;
 
     public static QueryParamsBuilder copy(QueryParams that) {
         QueryParamsBuilder copy =  new QueryParamsBuilder(that.limit()).skip(that.skip());
@@ -52,6 +53,7 @@ public class QueryParamsBuilder {
         that.snapshotType().ifPresent((it -> copy.withSnapshotType(it)));
         copy.loadCommitProps = that.isLoadCommitProps();
         that.snapshotQueryLimit().ifPresent((it -> copy.snapshotQueryLimit(it)));
+        that.afterSnapshot().ifPresent((it -> copy.afterSnapshot(it)));
 
         return copy;
     }
@@ -213,6 +215,14 @@ public class QueryParamsBuilder {
         return this;
     }
 
+    /**
+     * @see QueryBuilder#afterSnapshot(SnapshotIdentifier)
+     */
+    public QueryParamsBuilder afterSnapshot(SnapshotIdentifier afterSnapshot) {
+        this.afterSnapshot = afterSnapshot;
+        return this;
+    }
+
     /**
      * @see QueryBuilder#withChangedPropertyIn(String...)
      */
@@ -242,6 +252,6 @@ public class QueryParamsBuilder {
     }
 
     public QueryParams build() {
-        return new QueryParams(limit, skip, from, fromInstant, to, toInstant, commitIds, version, author, authorLikeIgnoreCase, commitProperties, commitPropertiesLike, aggregate, changedProperties, toCommitId, snapshotType, loadCommitProps, snapshotQueryLimit);
+        return new QueryParams(limit, skip, from, fromInstant, to, toInstant, commitIds, version, author, authorLikeIgnoreCase, commitProperties, commitPropertiesLike, aggregate, changedProperties, toCommitId, snapshotType, loadCommitProps, snapshotQueryLimit, afterSnapshot);
     }
 }
@@ -0,0 +1,117 @@
+package org.javers.repository.api;
+
+import org.javers.core.CoreConfiguration;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metrics.JaversMetrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded, in-memory LRU cache of snapshots keyed by {@link SnapshotIdentifier},
+ * enabled with {@link org.javers.core.JaversBuilder#withSnapshotCacheSize(int)}.
+ * <br/>
+ * Populated by {@link JaversExtendedRepository} with persisted and loaded snapshots,
+ * used for lookups by identifiers.
+ * <br/><br/>
+ *
+ * The cache is bounded by weight, a snapshot weighs 1 + the number of its properties,
+ * so a few large snapshots can't take the memory of thousands of small ones.
+ * <br/><br/>
+ *
+ * Committed snapshots are immutable, but the cache is non-transactional,
+ * so it has to be evicted on transaction rollback.
+ */
+public class SnapshotCache {
+    private final LinkedHashMap<SnapshotIdentifier, CdoSnapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxWeight;
+    private final JaversMetrics metrics;
+    private long weight;
+    private long hitCount;
+    private long missCount;
+
+    public SnapshotCache(CoreConfiguration javersCoreConfiguration, JaversMetrics metrics) {
+        this.maxWeight = javersCoreConfiguration.getSnapshotCacheSize();
+        this.metrics = metrics;
+    }
+
+    public boolean isDisabled() {
+        return maxWeight == 0;
+    }
+
+    /**
+     * @param snapshotIdentifiers requested snapshots
+     * @param misses identifiers of snapshots not found in the cache are added here
+     * @return cached snapshots
+     */
+    List<CdoSnapshot> getAll(Collection<SnapshotIdentifier> snapshotIdentifiers, Collection<SnapshotIdentifier> misses) {
+        List<CdoSnapshot> found = new ArrayList<>();
+        synchronized (this) {
+            for (SnapshotIdentifier snapshotIdentifier : snapshotIdentifiers) {
+                CdoSnapshot cached = snapshots.get(snapshotIdentifier);
+                if (cached != null) {
+                    found.add(cached);
+                } else {
+                    misses.add(snapshotIdentifier);
+                }
+            }
+            hitCount += found.size();
+            missCount += misses.size();
+        }
+        metrics.recordCacheAccess(JaversMetrics.SNAPSHOT_CACHE, found.size(), misses.size());
+        return found;
+    }
+
+    void putAll(Collection<CdoSnapshot> loaded) {
+        if (isDisabled() || loaded.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            for (CdoSnapshot snapshot : loaded) {
+                CdoSnapshot previous = snapshots.put(SnapshotIdentifier.from(snapshot), snapshot);
+                if (previous != null) {
+                    weight -= weight(previous);
+                }
+                weight += weight(snapshot);
+            }
+            evictEldest();
+        }
+    }
+
+    public synchronized void evict() {
+        snapshots.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return snapshots.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    private void evictEldest() {
+        Iterator<Map.Entry<SnapshotIdentifier, CdoSnapshot>> eldest = snapshots.entrySet().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= weight(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    private static int weight(CdoSnapshot snapshot) {
+        return 1 + snapshot.size();
+    }
+}
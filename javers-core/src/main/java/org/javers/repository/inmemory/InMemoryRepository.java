@@ -26,6 +26,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Fake impl of JaversRepository
+ * <br/>
+ * By default, snapshots are kept as JSON strings,
+ * see {@link InMemorySnapshotStorage} for the indexed alternative.
  *
  * @author bartosz walacik
  */
@@ -38,16 +41,27 @@ public class InMemoryRepository implements JaversRepository {
     private AtomicInteger counter = new AtomicInteger();
 
     private CommitId head;
+    private long lastReservedMajorId;
     private JsonConverter jsonConverter;
 
+    private final SnapshotIndexes indexes;
+
     public InMemoryRepository() {
+        this(InMemorySnapshotStorage.JSON);
+    }
+
+    public InMemoryRepository(InMemorySnapshotStorage storage) {
+        Validate.argumentIsNotNull(storage);
+        this.indexes = storage == InMemorySnapshotStorage.INDEXED_OBJECTS ? new SnapshotIndexes() : null;
     }
 
     @Override
     public List<CdoSnapshot> getValueObjectStateHistory(final EntityType ownerEntity, final String path, QueryParams queryParams) {
         Validate.argumentsAreNotNull(ownerEntity, path, queryParams);
 
-        List<CdoSnapshot> result =  Lists.positiveFilter(getAll(), input -> {
+        List<CdoSnapshot> candidates = isIndexed() ? indexes.getByOwnerTypeName(ownerEntity.getName()) : getAll();
+
+        List<CdoSnapshot> result =  Lists.positiveFilter(candidates, input -> {
             if (!(input.getGlobalId() instanceof ValueObjectId)) {
                 return false;
             }
@@ -64,6 +78,10 @@ public class InMemoryRepository implements JaversRepository {
     public List<CdoSnapshot> getStateHistory(GlobalId globalId, QueryParams queryParams) {
         Validate.argumentsAreNotNull(globalId, queryParams);
 
+        if (isIndexed()) {
+            return applyQueryParams(indexes.getStateHistory(globalId, queryParams.isAggregate()), queryParams);
+        }
+
         List<CdoSnapshot> filtered = new ArrayList<>();
 
         for (CdoSnapshot snapshot : getAll()) {
@@ -92,6 +110,19 @@ public class InMemoryRepository implements JaversRepository {
     @Override
     public List<CdoSnapshot> getStateHistory(Set<ManagedType> givenClasses, QueryParams queryParams) {
         Validate.argumentsAreNotNull(givenClasses, queryParams);
+
+        if (isIndexed()) {
+            Set<String> typeNames = new HashSet<>();
+            Set<String> ownerTypeNames = new HashSet<>();
+            for (ManagedType givenClass : givenClasses) {
+                typeNames.add(givenClass.getName());
+                if (queryParams.isAggregate() && givenClass instanceof EntityType) {
+                    ownerTypeNames.add(givenClass.getName());
+                }
+            }
+            return applyQueryParams(indexes.getStateHistory(typeNames, ownerTypeNames), queryParams);
+        }
+
         List<CdoSnapshot> filtered = new ArrayList<>();
 
         for (CdoSnapshot snapshot : getAll()) {
@@ -149,6 +180,9 @@ public class InMemoryRepository implements JaversRepository {
         }
         snapshots = filterSnapshotsByCommitProperties(snapshots, queryParams.commitProperties());
         snapshots = filterSnapshotsByCommitPropertiesLike(snapshots, queryParams.commitPropertiesLike());
+        if (queryParams.afterSnapshot().isPresent()) {
+            snapshots = filterSnapshotsAfter(snapshots, queryParams.afterSnapshot().get());
+        }
 
         return trimResultsToRequestedSlice(snapshots, queryParams.skip(), queryParams.limit());
     }
@@ -220,6 +254,21 @@ public class InMemoryRepository implements JaversRepository {
         );
     }
 
+    private List<CdoSnapshot> filterSnapshotsAfter(List<CdoSnapshot> snapshots, SnapshotIdentifier afterSnapshot) {
+        if (isIndexed()) {
+            return indexes.filterPersistedBefore(snapshots, afterSnapshot);
+        }
+
+        List<SnapshotIdentifier> allInOrder = Lists.transform(getAll(), SnapshotIdentifier::from);
+        int afterIdx = allInOrder.indexOf(afterSnapshot);
+        if (afterIdx < 0) {
+            return Collections.emptyList();
+        }
+
+        Set<SnapshotIdentifier> after = new HashSet<>(allInOrder.subList(afterIdx + 1, allInOrder.size()));
+        return Lists.positiveFilter(snapshots, snapshot -> after.contains(SnapshotIdentifier.from(snapshot)));
+    }
+
     private List<CdoSnapshot> trimResultsToRequestedSlice(List<CdoSnapshot> snapshots, int from, int size) {
         int fromIndex = Math.min(from, snapshots.size());
         int toIndex = Math.min(from + size, snapshots.size());
@@ -230,6 +279,10 @@ public class InMemoryRepository implements JaversRepository {
     public Optional<CdoSnapshot> getLatest(GlobalId globalId) {
         Validate.argumentsAreNotNull(globalId);
 
+        if (isIndexed()) {
+            return indexes.getLatest(globalId);
+        }
+
         if (contains(globalId)) {
             return Optional.of(readSnapshots(globalId).peek());
         }
@@ -241,11 +294,21 @@ public class InMemoryRepository implements JaversRepository {
     public List<CdoSnapshot> getSnapshots(QueryParams queryParams) {
         Validate.argumentIsNotNull(queryParams);
 
+        if (isIndexed()) {
+            return applyQueryParams(indexes.getSnapshots(queryParams), queryParams);
+        }
+
         return applyQueryParams(getAll(), queryParams);
     }
 
     @Override
     public List<CdoSnapshot> getSnapshots(Collection<SnapshotIdentifier> snapshotIdentifiers) {
+        if (isIndexed()) {
+            List<CdoSnapshot> result = new ArrayList<>();
+            snapshotIdentifiers.forEach(it -> indexes.get(it).ifPresent(result::add));
+            return result;
+        }
+
         return Lists.transform(getPersistedIdentifiers(snapshotIdentifiers), snapshotIdentifier -> {
             List<CdoSnapshot> objectSnapshots = readSnapshots(snapshotIdentifier.getGlobalId());
             return objectSnapshots.get(objectSnapshots.size() - ((int)snapshotIdentifier.getVersion()));
@@ -262,8 +325,12 @@ public class InMemoryRepository implements JaversRepository {
         Validate.argumentsAreNotNull(commit);
 
         List<CdoSnapshot> snapshots = commit.getSnapshots();
-        for (CdoSnapshot s : snapshots){
-            persist(s);
+        if (isIndexed()) {
+            indexes.add(snapshots);
+        } else {
+            for (CdoSnapshot s : snapshots) {
+                persist(s);
+            }
         }
         logger.debug("{} snapshot(s) persisted", snapshots.size());
         head = commit.getId();
@@ -275,6 +342,13 @@ public class InMemoryRepository implements JaversRepository {
         return head;
     }
 
+    @Override
+    public synchronized long reserveCommitIdBlock(int blockSize, long headMajorId) {
+        long first = Math.max(lastReservedMajorId, headMajorId) + 1;
+        lastReservedMajorId = first + blockSize - 1;
+        return first;
+    }
+
     @Override
     public void setJsonConverter(JsonConverter jsonConverter) {
         this.jsonConverter = jsonConverter;
@@ -293,6 +367,10 @@ public class InMemoryRepository implements JaversRepository {
         return all;
     }
 
+    private boolean isIndexed() {
+        return indexes != null;
+    }
+
     private int getSeq(CommitId commitId) {
         return commits.get(commitId);
     }
@@ -0,0 +1,25 @@
+package org.javers.repository.inmemory;
+
+/**
+ * How {@link InMemoryRepository} keeps snapshots.
+ *
+ * @see InMemoryRepository#InMemoryRepository(InMemorySnapshotStorage)
+ */
+public enum InMemorySnapshotStorage {
+    /**
+     * Default. Snapshots are kept as JSON strings
+     * and deserialized on each query, like in persistent repositories.
+     * Query cost grows with the total history size.
+     */
+    JSON,
+
+    /**
+     * Snapshots are kept as deserialized, immutable {@link org.javers.core.metamodel.object.CdoSnapshot} objects,
+     * with secondary indexes by GlobalId, managed type, owner Entity, commit id and commit date.
+     * A query touches only the relevant snapshots and does no JSON parsing.
+     * <br/>
+     * Snapshots share Value instances with the committed objects,
+     * so your Values should be immutable.
+     */
+    INDEXED_OBJECTS
+}
@@ -0,0 +1,204 @@
+package org.javers.repository.inmemory;
+
+import org.javers.core.commit.CommitId;
+import org.javers.core.commit.CommitMetadata;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
+import org.javers.core.metamodel.object.ValueObjectId;
+import org.javers.repository.api.QueryParams;
+import org.javers.repository.api.SnapshotIdentifier;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Snapshots with secondary indexes, used by {@link InMemoryRepository}
+ * in the {@link InMemorySnapshotStorage#INDEXED_OBJECTS} mode.
+ * <br/>
+ * Each index keeps snapshots in the persist order, queries return them newest first.
+ */
+class SnapshotIndexes {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<CdoSnapshot> all = new ArrayList<>();
+    private final Map<SnapshotIdentifier, Integer> sequence = new HashMap<>();
+
+    private final Map<String, List<CdoSnapshot>> byGlobalId = new HashMap<>();
+    private final Map<String, List<CdoSnapshot>> byTypeName = new HashMap<>();
+    private final Map<String, List<CdoSnapshot>> byOwnerId = new HashMap<>();
+    private final Map<String, List<CdoSnapshot>> byOwnerTypeName = new HashMap<>();
+    private final Map<CommitId, List<CdoSnapshot>> byCommitId = new HashMap<>();
+    private final NavigableMap<LocalDateTime, List<CdoSnapshot>> byCommitDate = new TreeMap<>();
+    private final NavigableMap<Instant, List<CdoSnapshot>> byCommitDateInstant = new TreeMap<>();
+
+    void add(List<CdoSnapshot> snapshots) {
+        lock.writeLock().lock();
+        try {
+            snapshots.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(CdoSnapshot snapshot) {
+        sequence.put(SnapshotIdentifier.from(snapshot), all.size());
+        all.add(snapshot);
+
+        GlobalId globalId = snapshot.getGlobalId();
+        addTo(byGlobalId, globalId.value(), snapshot);
+        addTo(byTypeName, globalId.getTypeName(), snapshot);
+        if (globalId instanceof ValueObjectId) {
+            GlobalId ownerId = ((ValueObjectId) globalId).getOwnerId();
+            addTo(byOwnerId, ownerId.value(), snapshot);
+            addTo(byOwnerTypeName, ownerId.getTypeName(), snapshot);
+        }
+
+        CommitMetadata commitMetadata = snapshot.getCommitMetadata();
+        addTo(byCommitId, commitMetadata.getId(), snapshot);
+        addTo(byCommitDate, commitMetadata.getCommitDate(), snapshot);
+        if (commitMetadata.getCommitDateInstant() != null) {
+            addTo(byCommitDateInstant, commitMetadata.getCommitDateInstant(), snapshot);
+        }
+    }
+
+    Optional<CdoSnapshot> getLatest(GlobalId globalId) {
+        return read(() -> {
+            List<CdoSnapshot> history = byGlobalId.get(globalId.value());
+            if (history == null) {
+                return Optional.empty();
+            }
+            return Optional.of(history.get(history.size() - 1));
+        });
+    }
+
+    /**
+     * Looked up by the identifier itself, versions of loaded or imported snapshots
+     * don't have to match their positions in the history
+     */
+    Optional<CdoSnapshot> get(SnapshotIdentifier snapshotIdentifier) {
+        return read(() -> Optional.ofNullable(sequence.get(snapshotIdentifier)).map(all::get));
+    }
+
+    List<CdoSnapshot> getStateHistory(GlobalId globalId, boolean withChildValueObjects) {
+        return read(() -> {
+            List<List<CdoSnapshot>> found = new ArrayList<>();
+            found.add(byGlobalId.get(globalId.value()));
+            if (withChildValueObjects) {
+                found.add(byOwnerId.get(globalId.value()));
+            }
+            return newestFirst(found);
+        });
+    }
+
+    List<CdoSnapshot> getStateHistory(Set<String> typeNames, Set<String> ownerTypeNames) {
+        return read(() -> {
+            List<List<CdoSnapshot>> found = new ArrayList<>();
+            typeNames.forEach(it -> found.add(byTypeName.get(it)));
+            ownerTypeNames.forEach(it -> found.add(byOwnerTypeName.get(it)));
+            return newestFirst(found);
+        });
+    }
+
+    List<CdoSnapshot> getByOwnerTypeName(String ownerTypeName) {
+        return read(() -> newestFirst(Collections.singletonList(byOwnerTypeName.get(ownerTypeName))));
+    }
+
+    /**
+     * Candidates for the given query, selected by the most selective index available.
+     * All the query filters still have to be applied.
+     */
+    List<CdoSnapshot> getSnapshots(QueryParams queryParams) {
+        return read(() -> {
+            if (queryParams.commitIds().size() > 0) {
+                List<List<CdoSnapshot>> found = new ArrayList<>();
+                queryParams.commitIds().forEach(it -> found.add(byCommitId.get(it)));
+                return newestFirst(found);
+            }
+            if (queryParams.fromInstant().isPresent() || queryParams.toInstant().isPresent()) {
+                return newestFirst(range(byCommitDateInstant, queryParams.fromInstant(), queryParams.toInstant()));
+            }
+            if (queryParams.from().isPresent() || queryParams.to().isPresent()) {
+                return newestFirst(range(byCommitDate, queryParams.from(), queryParams.to()));
+            }
+
+            List<CdoSnapshot> result = new ArrayList<>(all);
+            Collections.reverse(result);
+            return result;
+        });
+    }
+
+    /**
+     * @return snapshots persisted before the given one, keeping the order
+     */
+    List<CdoSnapshot> filterPersistedBefore(List<CdoSnapshot> snapshots, SnapshotIdentifier afterSnapshot) {
+        return read(() -> {
+            Integer afterSeq = sequence.get(afterSnapshot);
+            if (afterSeq == null) {
+                return Collections.emptyList();
+            }
+
+            List<CdoSnapshot> result = new ArrayList<>();
+            for (CdoSnapshot snapshot : snapshots) {
+                if (getSeq(snapshot) < afterSeq) {
+                    result.add(snapshot);
+                }
+            }
+            return result;
+        });
+    }
+
+    private List<CdoSnapshot> newestFirst(Collection<List<CdoSnapshot>> found) {
+        Set<CdoSnapshot> unique = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<CdoSnapshot> result = new ArrayList<>();
+        for (List<CdoSnapshot> snapshots : found) {
+            if (snapshots == null) {
+                continue;
+            }
+            for (CdoSnapshot snapshot : snapshots) {
+                if (unique.add(snapshot)) {
+                    result.add(snapshot);
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingInt(this::getSeq).reversed());
+        return result;
+    }
+
+    private int getSeq(CdoSnapshot snapshot) {
+        return sequence.get(SnapshotIdentifier.from(snapshot));
+    }
+
+    private static <K extends Comparable<? super K>> Collection<List<CdoSnapshot>> range(
+            NavigableMap<K, List<CdoSnapshot>> index, Optional<K> from, Optional<K> to) {
+        if (from.isPresent() && to.isPresent() && from.get().compareTo(to.get()) > 0) {
+            return Collections.emptyList();
+        }
+
+        NavigableMap<K, List<CdoSnapshot>> result = index;
+        if (from.isPresent()) {
+            result = result.tailMap(from.get(), true);
+        }
+        if (to.isPresent()) {
+            result = result.headMap(to.get(), true);
+        }
+        return result.values();
+    }
+
+    private static <K> void addTo(Map<K, List<CdoSnapshot>> index, K key, CdoSnapshot snapshot) {
+        index.computeIfAbsent(key, k -> new ArrayList<>()).add(snapshot);
+    }
+
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
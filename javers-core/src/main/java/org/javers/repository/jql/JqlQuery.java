@@ -11,7 +11,6 @@ import org.javers.core.metamodel.type.ManagedType;
 import org.javers.core.metamodel.type.TypeMapper;
 import org.javers.repository.api.QueryParams;
 import org.javers.repository.api.QueryParamsBuilder;
-import org.javers.repository.jql.ShadowQueryRunner.ShadowStats;
 import org.javers.repository.jql.ShadowStreamQueryRunner.ShadowStreamStats;
 
 import java.util.Optional;
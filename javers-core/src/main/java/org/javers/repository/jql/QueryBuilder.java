@@ -9,6 +9,7 @@ import org.javers.core.commit.CommitMetadata;
 import org.javers.core.metamodel.object.CdoSnapshot;
 import org.javers.core.metamodel.object.SnapshotType;
 import org.javers.repository.api.QueryParamsBuilder;
+import org.javers.repository.api.SnapshotIdentifier;
 import org.javers.repository.jql.FilterDefinition.*;
 
 import java.time.Instant;
@@ -370,6 +371,36 @@ public class QueryBuilder {
         return this;
     }
 
+    /**
+     * Keyset (seek) alternative for {@link #skip(int)}.
+     * Only Snapshots which come after a given one in the query result order
+     * (that is, Snapshots persisted before it) are loaded.
+     * <br/><br/>
+     *
+     * Use an identifier of the last Snapshot from the previous page as a continuation token
+     * for the next page. Unlike skip(), it's translated into an index range predicate,
+     * so the cost of loading a page doesn't depend on how deep the page is.
+     * <br/><br/>
+     *
+     * If a given Snapshot doesn't exist in a JaversRepository, the query result is empty.
+     * <br/><br/>
+     *
+     * Example:
+     * <pre>
+     * List&lt;CdoSnapshot&gt; page = javers.findSnapshots(QueryBuilder.anyDomainObject().limit(100).build());
+     *
+     * List&lt;CdoSnapshot&gt; nextPage = javers.findSnapshots(QueryBuilder.anyDomainObject().limit(100)
+     *     .afterSnapshot(SnapshotIdentifier.from(page.get(page.size() - 1))).build());
+     * </pre>
+     *
+     * See {@link #limit(int)}
+     */
+    public QueryBuilder afterSnapshot(SnapshotIdentifier snapshotIdentifier) {
+        Validate.argumentIsNotNull(snapshotIdentifier);
+        queryParamsBuilder.afterSnapshot(snapshotIdentifier);
+        return this;
+    }
+
     /**
      * Limits to snapshots created after this date or exactly at this date.
      *
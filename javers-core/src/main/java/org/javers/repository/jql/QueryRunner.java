@@ -41,6 +41,11 @@ public class QueryRunner {
         return snapshotQueryRunner.queryForSnapshots(query);
     }
 
+    public Stream<CdoSnapshot> queryForSnapshotsStream(JqlQuery query) {
+        validateSnapshotQueryLimit(query, "findSnapshotsAndStream()");
+        return snapshotQueryRunner.queryForSnapshotsStream(query);
+    }
+
     public List<Change> queryForChanges(JqlQuery query) {
         validateSnapshotQueryLimit(query, "findChanges()");
         return changesQueryRunner.queryForChanges(query);
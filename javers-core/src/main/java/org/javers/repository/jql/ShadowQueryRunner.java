@@ -1,8 +1,5 @@
 package org.javers.repository.jql;
 
-import org.javers.common.collections.Consumer;
-import org.javers.common.collections.Lists;
-import org.javers.common.string.ToStringBuilder;
 import org.javers.common.validation.Validate;
 import org.javers.core.CommitIdGenerator;
 import org.javers.core.CoreConfiguration;
@@ -12,13 +9,12 @@ import org.javers.core.metamodel.object.CdoSnapshot;
 import org.javers.core.metamodel.object.GlobalId;
 import org.javers.core.metamodel.object.InstanceId;
 import org.javers.core.metamodel.object.ValueObjectId;
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.repository.api.JaversExtendedRepository;
 import org.javers.repository.api.QueryParams;
 import org.javers.repository.api.QueryParamsBuilder;
 import org.javers.shadow.Shadow;
 import org.javers.shadow.ShadowFactory;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -26,24 +22,23 @@ import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
-import static org.javers.repository.jql.JqlQuery.JQL_LOGGER_NAME;
 
 /**
  * @author bartosz.walacik
  */
 class ShadowQueryRunner {
-    private static final Logger logger = LoggerFactory.getLogger(JQL_LOGGER_NAME);
-
     private final SnapshotQueryRunner snapshotQueryRunner;
     private final JaversExtendedRepository repository;
     private final ShadowFactory shadowFactory;
     private final CoreConfiguration javersCoreConfiguration;
+    private final JaversMetrics metrics;
 
-    ShadowQueryRunner(SnapshotQueryRunner snapshotQueryRunner, JaversExtendedRepository repository, ShadowFactory shadowFactory, CoreConfiguration javersCoreConfiguration) {
+    ShadowQueryRunner(SnapshotQueryRunner snapshotQueryRunner, JaversExtendedRepository repository, ShadowFactory shadowFactory, CoreConfiguration javersCoreConfiguration, JaversMetrics metrics) {
         this.snapshotQueryRunner = snapshotQueryRunner;
         this.repository = repository;
         this.shadowFactory = shadowFactory;
         this.javersCoreConfiguration = javersCoreConfiguration;
+        this.metrics = metrics;
     }
 
     ShadowQueryResult queryForShadows(JqlQuery query, List<CdoSnapshot> gapsFilledInPreviousQuery) {
@@ -68,6 +63,7 @@ class ShadowQueryRunner {
                 .collect(toList());
 
         queryStats.stop();
+        metrics.recordShadowQuery(queryStats);
         ShadowQueryResult result = new ShadowQueryResult(shadows, commitTable.getFilledGapsSnapshots(), queryStats);
         return result;
     }
@@ -97,6 +93,7 @@ class ShadowQueryRunner {
     private class CommitTable {
         private final int maxGapsToFill;
         private final Map<CommitMetadata, CommitEntry> commitsMap;
+        private final Map<GlobalId, TreeMap<CommitMetadata, CdoSnapshot>> snapshotsIndex = new HashMap<>();
         private final JqlQuery query;
         private int filledGapsCount;
         private final List<CdoSnapshot> filledGapsSnapshots = new ArrayList<>();
@@ -105,7 +102,7 @@ class ShadowQueryRunner {
         CommitTable(List<CdoSnapshot> coreSnapshots, int maxGapsToFill, JqlQuery query, ShadowStats queryStats) {
             this.maxGapsToFill = maxGapsToFill;
             this.query = query;
-            this.commitsMap = new TreeMap<>(javersCoreConfiguration.getCommitIdGenerator().getComparator());
+            this.commitsMap = new TreeMap<>(commitComparator());
             appendSnapshots(coreSnapshots);
             this.queryStats = queryStats;
         }
@@ -160,20 +157,18 @@ class ShadowQueryRunner {
             return filledGapsSnapshots;
         }
 
+        /**
+         * Floor lookup in the per-GlobalId index,
+         * finds the snapshot from the latest commit which is not after the reference timepoint
+         */
         private CdoSnapshot findLatestToInCommitTable(SnapshotReference reference) {
-            final List<CdoSnapshot> found = new ArrayList<>();
-
-            iterateUntil(ce -> {
-                if (ce.getAny(reference.targetId()) != null) {
-                    found.add(ce.getAny(reference.targetId()));
-                }
-            }, reference.timepointCommitId());
-
-            if (found.size() == 0) {
+            TreeMap<CommitMetadata, CdoSnapshot> history = snapshotsIndex.get(reference.targetId());
+            if (history == null) {
                 return null;
-            } else {
-                return found.get(found.size() - 1);
             }
+
+            Map.Entry<CommitMetadata, CdoSnapshot> floor = history.floorEntry(reference.timepoint());
+            return floor == null ? null : floor.getValue();
         }
 
         private boolean isInChildValueObjectScope(SnapshotReference snapshotReference) {
@@ -214,7 +209,7 @@ class ShadowQueryRunner {
                 commitEntry.getMissingParents().stream()
                         .filter(movingLatest::containsKey)
                         .forEach(voId -> {
-                            commitEntry.append(movingLatest.get(voId));
+                            appendToEntry(commitEntry, movingLatest.get(voId));
                         });
 
                 //update movingLatest
@@ -232,18 +227,20 @@ class ShadowQueryRunner {
                 entry = new CommitEntry(snapshot.getCommitMetadata());
                 commitsMap.put(snapshot.getCommitMetadata(), entry);
             }
-            entry.append(snapshot);
+            appendToEntry(entry, snapshot);
             return entry;
         }
 
-        void iterateUntil(Consumer<CommitEntry> consumer, CommitId bound) {
-            for(CommitEntry ce : commitsMap.values()) {
-                consumer.consume(ce);
-                if (ce.commitMetadata.getId().equals(bound)) {
-                    break;
-                }
+        private void appendToEntry(CommitEntry entry, CdoSnapshot snapshot) {
+            if (entry.append(snapshot)) {
+                snapshotsIndex.computeIfAbsent(snapshot.getGlobalId(), k -> new TreeMap<>(commitComparator()))
+                              .put(entry.commitMetadata, snapshot);
             }
         }
+
+        private Comparator<CommitMetadata> commitComparator() {
+            return javersCoreConfiguration.getCommitIdGenerator().getComparator();
+        }
     }
 
     private static class CommitEntry {
@@ -255,21 +252,20 @@ class ShadowQueryRunner {
             this.commitMetadata = commitMetadata;
         }
 
-        void append(CdoSnapshot snapshot){
+        /**
+         * @return false if snapshot is ignored, i.e. it's not an Entity or ValueObject snapshot
+         */
+        boolean append(CdoSnapshot snapshot){
             if (snapshot.getGlobalId() instanceof InstanceId) {
                 entities.put(snapshot.getGlobalId(), snapshot);
+                return true;
             }
 
             if (snapshot.getGlobalId() instanceof ValueObjectId) {
-                valueObjects.put((ValueObjectId)snapshot.getGlobalId(), snapshot);;
-            }
-        }
-
-        CdoSnapshot getAny(GlobalId globalId) {
-            if (entities.containsKey(globalId)) {
-                return entities.get(globalId);
+                valueObjects.put((ValueObjectId)snapshot.getGlobalId(), snapshot);
+                return true;
             }
-            return valueObjects.get(globalId);
+            return false;
         }
 
         Collection<CdoSnapshot> getEntities() {
@@ -354,147 +350,4 @@ class ShadowQueryRunner {
             return queryStats;
         }
     }
-
-    static class ShadowStats {
-        private long startTimestamp = System.currentTimeMillis();
-        private long endTimestamp;
-        private int dbQueriesCount;
-        private int allSnapshotsCount;
-        private int shallowSnapshotsCount;
-        private int deepPlusSnapshotsCount;
-        private int commitDeepSnapshotsCount;
-        private int childVOSnapshotsCount;
-        private int deepPlusGapsFilled;
-        private int deepPlusGapsLeft;
-
-        void logQueryInChildValueObjectScope(GlobalId reference, CommitId context, int snapshotsLoaded) {
-            validateChange();
-            logger.debug("CHILD_VALUE_OBJECT query for '{}' at timepointCommitId {}, {} snapshot(s) loaded",
-                    reference.toString(),
-                    context.value(),
-                    snapshotsLoaded);
-
-            dbQueriesCount++;
-            allSnapshotsCount += snapshotsLoaded;
-            childVOSnapshotsCount += snapshotsLoaded;
-        }
-
-        void logMaxGapsToFillExceededInfo(GlobalId reference) {
-            validateChange();
-            deepPlusGapsLeft++;
-            logger.debug("warning: object '" + reference.toString() +
-                    "' is outside of the DEEP_PLUS+{} scope" +
-                    ", references to this object will be nulled. " +
-                    "Increase maxGapsToFill and fill all gaps in your object graph.", deepPlusGapsFilled);
-        }
-
-        void logQueryInDeepPlusScope(GlobalId reference, CommitId context, int snapshotsLoaded) {
-            validateChange();
-            dbQueriesCount++;
-            allSnapshotsCount += snapshotsLoaded;
-            deepPlusSnapshotsCount += snapshotsLoaded;
-            deepPlusGapsFilled++;
-
-            logger.debug("DEEP_PLUS query for '{}' at timepointCommitId {}, {} snapshot(s) loaded, gaps filled so far: {}",
-                    reference.toString(),
-                    context.value(),
-                    snapshotsLoaded,
-                    deepPlusGapsFilled);
-        }
-
-        void logShallowQuery(List<CdoSnapshot> snapshots) {
-            validateChange();
-            logger.debug("SHALLOW query (core snapshots): {} snapshots loaded (entities: {}, valueObjects: {})", snapshots.size(),
-                    snapshots.stream().filter(it -> it.getGlobalId() instanceof InstanceId).count(),
-                    snapshots.stream().filter(it -> it.getGlobalId() instanceof ValueObjectId).count());
-            dbQueriesCount++;
-            allSnapshotsCount += snapshots.size();
-            shallowSnapshotsCount += snapshots.size();
-        }
-
-        void logQueryInCommitDeepScope(List<CdoSnapshot> snapshots) {
-            validateChange();
-            logger.debug("COMMIT_DEEP query: {} snapshots loaded", snapshots.size());
-            dbQueriesCount++;
-            allSnapshotsCount += snapshots.size();
-            commitDeepSnapshotsCount+=snapshots.size();
-        }
-
-        void stop() {
-            validateChange();
-            endTimestamp = System.currentTimeMillis();
-        }
-
-        @Override
-        public String toString() {
-            if (getEndTimestamp() == 0){
-                return ToStringBuilder.toString(this,
-                        "still running", "?");
-            }
-            return ToStringBuilder.toStringBlockStyle(this, "  ", toStringProps().toArray());
-        }
-
-        List<Object> toStringProps() {
-            return Lists.asList(
-                    "executed in millis", getEndTimestamp()-getStartTimestamp(),
-                    "DB queries", getDbQueriesCount(),
-                    "snapshots loaded", getAllSnapshotsCount(),
-                    "SHALLOW snapshots", getShallowSnapshotsCount(),
-                    "COMMIT_DEEP snapshots", getCommitDeepSnapshotsCount(),
-                    "CHILD_VALUE_OBJECT snapshots", getChildVOSnapshotsCount(),
-                    "DEEP_PLUS snapshots", getDeepPlusSnapshotsCount(),
-                    "gaps filled", getDeepPlusGapsFilled(),
-                    "gaps left!", getDeepPlusGapsLeft()
-            );
-        }
-
-        public int getDbQueriesCount() {
-            return dbQueriesCount;
-        }
-
-        /**
-         * number of all snapshots loaded from a JaversRepository
-         */
-        public int getAllSnapshotsCount() {
-            return allSnapshotsCount;
-        }
-
-        public long getStartTimestamp() {
-            return startTimestamp;
-        }
-
-        public long getEndTimestamp() {
-            return endTimestamp;
-        }
-
-        public int getShallowSnapshotsCount() {
-            return shallowSnapshotsCount;
-        }
-
-        public int getDeepPlusSnapshotsCount() {
-            return deepPlusSnapshotsCount;
-        }
-
-        public int getCommitDeepSnapshotsCount() {
-            return commitDeepSnapshotsCount;
-        }
-
-        public int getChildVOSnapshotsCount() {
-            return childVOSnapshotsCount;
-        }
-
-        public int getDeepPlusGapsFilled() {
-            return deepPlusGapsFilled;
-        }
-
-        public int getDeepPlusGapsLeft() {
-            return deepPlusGapsLeft;
-        }
-
-        private void validateChange() {
-            if (endTimestamp > 0) {
-                throw new RuntimeException(new IllegalAccessException("executed query can't be changed"));
-            }
-        }
-    }
 }
@@ -0,0 +1,165 @@
+package org.javers.repository.jql;
+
+import org.javers.common.collections.Lists;
+import org.javers.common.string.ToStringBuilder;
+import org.javers.core.commit.CommitId;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
+import org.javers.core.metamodel.object.InstanceId;
+import org.javers.core.metamodel.object.ValueObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.javers.repository.jql.JqlQuery.JQL_LOGGER_NAME;
+
+/**
+ * Stats of a Shadow query
+ *
+ * @see JqlQuery#firstFrameStats()
+ */
+public class ShadowStats {
+    private static final Logger logger = LoggerFactory.getLogger(JQL_LOGGER_NAME);
+
+    private long startTimestamp = System.currentTimeMillis();
+    private long endTimestamp;
+    private int dbQueriesCount;
+    private int allSnapshotsCount;
+    private int shallowSnapshotsCount;
+    private int deepPlusSnapshotsCount;
+    private int commitDeepSnapshotsCount;
+    private int childVOSnapshotsCount;
+    private int deepPlusGapsFilled;
+    private int deepPlusGapsLeft;
+
+    void logQueryInChildValueObjectScope(GlobalId reference, CommitId context, int snapshotsLoaded) {
+        validateChange();
+        logger.debug("CHILD_VALUE_OBJECT query for '{}' at timepointCommitId {}, {} snapshot(s) loaded",
+                reference.toString(),
+                context.value(),
+                snapshotsLoaded);
+
+        dbQueriesCount++;
+        allSnapshotsCount += snapshotsLoaded;
+        childVOSnapshotsCount += snapshotsLoaded;
+    }
+
+    void logMaxGapsToFillExceededInfo(GlobalId reference) {
+        validateChange();
+        deepPlusGapsLeft++;
+        logger.debug("warning: object '" + reference.toString() +
+                "' is outside of the DEEP_PLUS+{} scope" +
+                ", references to this object will be nulled. " +
+                "Increase maxGapsToFill and fill all gaps in your object graph.", deepPlusGapsFilled);
+    }
+
+    void logQueryInDeepPlusScope(GlobalId reference, CommitId context, int snapshotsLoaded) {
+        validateChange();
+        dbQueriesCount++;
+        allSnapshotsCount += snapshotsLoaded;
+        deepPlusSnapshotsCount += snapshotsLoaded;
+        deepPlusGapsFilled++;
+
+        logger.debug("DEEP_PLUS query for '{}' at timepointCommitId {}, {} snapshot(s) loaded, gaps filled so far: {}",
+                reference.toString(),
+                context.value(),
+                snapshotsLoaded,
+                deepPlusGapsFilled);
+    }
+
+    void logShallowQuery(List<CdoSnapshot> snapshots) {
+        validateChange();
+        logger.debug("SHALLOW query (core snapshots): {} snapshots loaded (entities: {}, valueObjects: {})", snapshots.size(),
+                snapshots.stream().filter(it -> it.getGlobalId() instanceof InstanceId).count(),
+                snapshots.stream().filter(it -> it.getGlobalId() instanceof ValueObjectId).count());
+        dbQueriesCount++;
+        allSnapshotsCount += snapshots.size();
+        shallowSnapshotsCount += snapshots.size();
+    }
+
+    void logQueryInCommitDeepScope(List<CdoSnapshot> snapshots) {
+        validateChange();
+        logger.debug("COMMIT_DEEP query: {} snapshots loaded", snapshots.size());
+        dbQueriesCount++;
+        allSnapshotsCount += snapshots.size();
+        commitDeepSnapshotsCount+=snapshots.size();
+    }
+
+    void stop() {
+        validateChange();
+        endTimestamp = System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString() {
+        if (getEndTimestamp() == 0){
+            return ToStringBuilder.toString(this,
+                    "still running", "?");
+        }
+        return ToStringBuilder.toStringBlockStyle(this, "  ", toStringProps().toArray());
+    }
+
+    List<Object> toStringProps() {
+        return Lists.asList(
+                "executed in millis", getEndTimestamp()-getStartTimestamp(),
+                "DB queries", getDbQueriesCount(),
+                "snapshots loaded", getAllSnapshotsCount(),
+                "SHALLOW snapshots", getShallowSnapshotsCount(),
+                "COMMIT_DEEP snapshots", getCommitDeepSnapshotsCount(),
+                "CHILD_VALUE_OBJECT snapshots", getChildVOSnapshotsCount(),
+                "DEEP_PLUS snapshots", getDeepPlusSnapshotsCount(),
+                "gaps filled", getDeepPlusGapsFilled(),
+                "gaps left!", getDeepPlusGapsLeft()
+        );
+    }
+
+    public int getDbQueriesCount() {
+        return dbQueriesCount;
+    }
+
+    /**
+     * number of all snapshots loaded from a JaversRepository
+     */
+    public int getAllSnapshotsCount() {
+        return allSnapshotsCount;
+    }
+
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    public long getEndTimestamp() {
+        return endTimestamp;
+    }
+
+    public int getShallowSnapshotsCount() {
+        return shallowSnapshotsCount;
+    }
+
+    public int getDeepPlusSnapshotsCount() {
+        return deepPlusSnapshotsCount;
+    }
+
+    public int getCommitDeepSnapshotsCount() {
+        return commitDeepSnapshotsCount;
+    }
+
+    public int getChildVOSnapshotsCount() {
+        return childVOSnapshotsCount;
+    }
+
+    public int getDeepPlusGapsFilled() {
+        return deepPlusGapsFilled;
+    }
+
+    public int getDeepPlusGapsLeft() {
+        return deepPlusGapsLeft;
+    }
+
+    private void validateChange() {
+        if (endTimestamp > 0) {
+            throw new RuntimeException(new IllegalAccessException("executed query can't be changed"));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.javers.repository.api.JaversExtendedRepository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 class SnapshotQueryRunner {
     private final QueryCompiler queryCompiler;
@@ -48,4 +49,16 @@ class SnapshotQueryRunner {
 
         return result;
     }
+
+    Stream<CdoSnapshot> queryForSnapshotsStream(JqlQuery query){
+        queryCompiler.compile(query);
+
+        if (query.isAnyDomainObjectQuery()) {
+            return repository.getSnapshotsStream(query.getQueryParams());
+        }
+        if (query.isClassQuery()){
+            return repository.getStateHistoryStream(query.getClassFilter(), query.getQueryParams());
+        }
+        return queryForSnapshots(query).stream();
+    }
 }
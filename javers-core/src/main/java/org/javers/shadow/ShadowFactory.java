@@ -16,14 +16,16 @@ public class ShadowFactory {
 
     private final JsonConverter jsonConverter;
     private final TypeMapper typeMapper;
+    private final ShadowInstantiator shadowInstantiator;
 
     public ShadowFactory(JsonConverter jsonConverter, TypeMapper typeMapper) {
         this.jsonConverter = jsonConverter;
         this.typeMapper = typeMapper;
+        this.shadowInstantiator = new ShadowInstantiator(jsonConverter);
     }
 
     public Shadow createShadow(CdoSnapshot cdoSnapshot, CommitMetadata rootContext, BiFunction<CommitMetadata, GlobalId, CdoSnapshot> referenceResolver) {
-        ShadowGraphBuilder builder = new ShadowGraphBuilder(jsonConverter, referenceResolver, typeMapper, rootContext);
+        ShadowGraphBuilder builder = new ShadowGraphBuilder(jsonConverter, referenceResolver, typeMapper, rootContext, shadowInstantiator);
         return new Shadow(rootContext, builder.buildDeepShadow(cdoSnapshot));
     }
 
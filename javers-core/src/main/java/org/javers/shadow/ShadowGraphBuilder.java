@@ -2,7 +2,9 @@ package org.javers.shadow;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
+import org.javers.common.exception.JaversException;
 import org.javers.common.validation.Validate;
 import org.javers.core.commit.CommitMetadata;
 import org.javers.core.json.JsonConverter;
@@ -11,7 +13,10 @@ import org.javers.core.metamodel.type.*;
 
 import java.time.format.DateTimeParseException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 import static org.javers.core.metamodel.object.CdoSnapshotStateBuilder.cdoSnapshotState;
@@ -28,9 +33,11 @@ class ShadowGraphBuilder {
     private Map<GlobalId, ShadowBuilder> builtNodes = new HashMap<>();
     private final TypeMapper typeMapper;
     private final CommitMetadata rootContext;
+    private final ShadowInstantiator shadowInstantiator;
 
-    ShadowGraphBuilder(JsonConverter jsonConverter, BiFunction<CommitMetadata, GlobalId, CdoSnapshot> referenceResolver, TypeMapper typeMapper, CommitMetadata rootContext) {
+    ShadowGraphBuilder(JsonConverter jsonConverter, BiFunction<CommitMetadata, GlobalId, CdoSnapshot> referenceResolver, TypeMapper typeMapper, CommitMetadata rootContext, ShadowInstantiator shadowInstantiator) {
         this.jsonConverter = jsonConverter;
+        this.shadowInstantiator = shadowInstantiator;
         this.referenceResolver = referenceResolver;
         this.typeMapper = typeMapper;
         this.rootContext = rootContext;
@@ -73,16 +80,60 @@ class ShadowGraphBuilder {
         ShadowBuilder shadowBuilder = new ShadowBuilder(cdoSnapshot, null);
         builtNodes.put(cdoSnapshot.getGlobalId(), shadowBuilder);
 
-        JsonObject jsonElement = toJson(cdoSnapshot.stateWithAllPrimitives());
-        mapCustomPropertyNamesToJavaOrigin(cdoSnapshot.getManagedType(), jsonElement);
-        followReferences(shadowBuilder, jsonElement);
+        Set<String> wiredProperties = followReferences(shadowBuilder);
+
+        Object shadowStub = shadowInstantiator.newInstance(cdoSnapshot.getManagedType())
+                .map(emptyShadow -> populateShadowStub(emptyShadow, cdoSnapshot, wiredProperties))
+                .orElseGet(() -> deserializeShadowStub(cdoSnapshot, wiredProperties));
 
-        shadowBuilder.withStub(
-                deserializeObjectFromJsonElement(cdoSnapshot.getManagedType(), jsonElement));
+        shadowBuilder.withStub(shadowStub);
 
         return shadowBuilder;
     }
 
+    /**
+     * Sets snapshot state directly on an empty Shadow.
+     * Immutable values are passed as is, containers of immutable values are copied,
+     * all other values are converted to JSON and back, property by property
+     */
+    private Object populateShadowStub(Object emptyShadow, CdoSnapshot cdoSnapshot, Set<String> wiredProperties) {
+        for (JaversProperty property : cdoSnapshot.getManagedType().getProperties()) {
+            if (wiredProperties.contains(property.getName())) {
+                continue;
+            }
+
+            Object value = cdoSnapshot.getPropertyValue(property);
+            if (value == null) {
+                continue;
+            }
+
+            Optional<Object> shadowValue = ShadowValues.copyOfImmutable(value, property.getGenericType());
+            if (shadowValue.isPresent()) {
+                try {
+                    property.set(emptyShadow, shadowValue.get());
+                    continue;
+                } catch (JaversException e) {
+                    //type mismatch, let Gson try to convert it
+                }
+            }
+
+            try {
+                property.set(emptyShadow, jsonConverter.fromJson(jsonConverter.toJsonElement(value), property.getGenericType()));
+            } catch (JaversException | JsonParseException | DateTimeParseException e) {
+                //skipped, as in sanitizedDeserialization()
+            }
+        }
+        return emptyShadow;
+    }
+
+    private Object deserializeShadowStub(CdoSnapshot cdoSnapshot, Set<String> wiredProperties) {
+        JsonObject jsonElement = toJson(cdoSnapshot.stateWithAllPrimitives());
+        wiredProperties.forEach(jsonElement::remove);
+        mapCustomPropertyNamesToJavaOrigin(cdoSnapshot.getManagedType(), jsonElement);
+
+        return deserializeObjectFromJsonElement(cdoSnapshot.getManagedType(), jsonElement);
+    }
+
     private Object deserializeObjectFromJsonElement(ManagedType managedType, JsonObject jsonElement) {
         try {
             return jsonConverter.fromJson(jsonElement, managedType.getBaseJavaClass());
@@ -114,8 +165,12 @@ class ShadowGraphBuilder {
         });
     }
 
-    private void followReferences(ShadowBuilder currentNode, JsonObject jsonElement) {
+    /**
+     * @return names of properties wired by ShadowBuilder
+     */
+    private Set<String> followReferences(ShadowBuilder currentNode) {
         CdoSnapshot cdoSnapshot = currentNode.getCdoSnapshot();
+        Set<String> wiredProperties = new HashSet<>();
 
         cdoSnapshot.getManagedType().forEachProperty( property -> {
             if (cdoSnapshot.isNull(property)) {
@@ -130,7 +185,7 @@ class ShadowGraphBuilder {
                     currentNode.addReferenceWiring(property, target);
                 }
 
-                jsonElement.remove(property.getName());
+                wiredProperties.add(property.getName());
             }
 
             if (typeMapper.isContainerOfManagedTypes(property.getType()) ||
@@ -142,10 +197,12 @@ class ShadowGraphBuilder {
                 if (!propertyType.isEmpty(containerWithRefs)) {
                     currentNode.addEnumerableWiring(property, propertyType
                                .map(containerWithRefs, (value) -> passValueOrCreateNodeFromRef(value, property), true));
-                    jsonElement.remove(property.getName());
+                    wiredProperties.add(property.getName());
                 }
             }
         });
+
+        return wiredProperties;
     }
 
     private Object passValueOrCreateNodeFromRef(Object value, JaversProperty property) {
@@ -0,0 +1,102 @@
+package org.javers.shadow;
+
+import org.javers.common.reflection.JaversField;
+import org.javers.core.json.JsonConverter;
+import org.javers.core.metamodel.type.ManagedType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Creates empty instances of Shadow classes, without JSON deserialization.
+ * <br/>
+ * Instantiation strategy is resolved once per class and cached:
+ * zero-arg constructor (any visibility) or, if there is no such constructor,
+ * <code>sun.misc.Unsafe.allocateInstance()</code>, as Gson does.
+ * <br/><br/>
+ *
+ * Only classes with field-based properties and without custom Gson TypeAdapters
+ * are eligible, for others, {@link #newInstance(ManagedType)} returns empty Optional
+ * and Shadows are deserialized from JSON.
+ * The same happens when instantiation fails.
+ */
+class ShadowInstantiator {
+    private static final Logger logger = LoggerFactory.getLogger(ShadowInstantiator.class);
+
+    private final JsonConverter jsonConverter;
+    private final Map<Class<?>, Optional<Supplier<Object>>> instantiators = new ConcurrentHashMap<>();
+
+    ShadowInstantiator(JsonConverter jsonConverter) {
+        this.jsonConverter = jsonConverter;
+    }
+
+    Optional<Object> newInstance(ManagedType managedType) {
+        return instantiators.computeIfAbsent(managedType.getBaseJavaClass(), c -> createInstantiator(managedType))
+                .map(Supplier::get);
+    }
+
+    private Optional<Supplier<Object>> createInstantiator(ManagedType managedType) {
+        Class<?> clazz = managedType.getBaseJavaClass();
+
+        if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers()) ||
+            clazz.isArray() || clazz.isEnum() || clazz.isPrimitive()) {
+            return Optional.empty();
+        }
+
+        boolean fieldBased = managedType.getProperties().stream()
+                .allMatch(p -> p.getMember() instanceof JaversField);
+        if (!fieldBased || !jsonConverter.hasReflectiveTypeAdapter(clazz)) {
+            return Optional.empty();
+        }
+
+        Optional<Supplier<Object>> instantiator = zeroArgConstructor(clazz);
+        if (!instantiator.isPresent()) {
+            instantiator = unsafeAllocator(clazz);
+        }
+        return instantiator;
+    }
+
+    private static Optional<Supplier<Object>> zeroArgConstructor(Class<?> clazz) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return Optional.of(() -> {
+                try {
+                    return constructor.newInstance();
+                } catch (ReflectiveOperationException e) {
+                    return null;
+                }
+            });
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Supplier<Object>> unsafeAllocator(Class<?> clazz) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            Method allocateInstance = unsafeClass.getMethod("allocateInstance", Class.class);
+            return Optional.of(() -> {
+                try {
+                    return allocateInstance.invoke(unsafe, clazz);
+                } catch (ReflectiveOperationException e) {
+                    return null;
+                }
+            });
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("sun.misc.Unsafe is not available, Shadows of {} will be deserialized from JSON", clazz.getName());
+            return Optional.empty();
+        }
+    }
+}
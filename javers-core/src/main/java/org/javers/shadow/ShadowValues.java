@@ -0,0 +1,147 @@
+package org.javers.shadow;
+
+import org.javers.common.collections.Lists;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.*;
+import java.util.*;
+
+/**
+ * Values from snapshot state which can be set on Shadows without JSON conversion
+ */
+class ShadowValues {
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Lists.asList(
+            String.class,
+            Boolean.class,
+            Character.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            BigDecimal.class,
+            BigInteger.class,
+            UUID.class,
+            Currency.class,
+            URI.class,
+            Locale.class,
+            LocalDate.class,
+            LocalDateTime.class,
+            LocalTime.class,
+            Instant.class,
+            ZonedDateTime.class,
+            OffsetDateTime.class,
+            OffsetTime.class,
+            Duration.class,
+            Period.class,
+            Year.class,
+            YearMonth.class,
+            MonthDay.class
+    ));
+
+    private ShadowValues() {
+    }
+
+    /**
+     * @param value snapshot state value
+     * @param expectedType generic type of a Shadow property
+     * @return the value itself when it is immutable,
+     *         a mutable copy of List, Set, Map or Optional when all its items are immutable,
+     *         or empty Optional, if the value should be converted by Gson
+     */
+    static Optional<Object> copyOfImmutable(Object value, Type expectedType) {
+        Class<?> expectedClass = rawClass(expectedType);
+        if (expectedClass == null) {
+            return Optional.empty();
+        }
+
+        if (isImmutable(value, expectedClass)) {
+            return Optional.of(value);
+        }
+
+        if (value instanceof Optional && expectedClass == Optional.class) {
+            Optional<?> optional = (Optional) value;
+            if (!optional.isPresent() || isImmutable(optional.get(), typeArgument(expectedType, 0))) {
+                return Optional.of(value);
+            }
+        }
+
+        if (value instanceof List && expectedClass.isAssignableFrom(ArrayList.class) ||
+            value instanceof Set && expectedClass.isAssignableFrom(LinkedHashSet.class)) {
+            Collection<?> collection = (Collection) value;
+            Class<?> itemClass = typeArgument(expectedType, 0);
+            if (collection.stream().allMatch(item -> isImmutable(item, itemClass))) {
+                return Optional.of(value instanceof List ? new ArrayList<>(collection) : new LinkedHashSet<>(collection));
+            }
+        }
+
+        if (value instanceof Map && expectedClass.isAssignableFrom(LinkedHashMap.class)) {
+            Map<?, ?> map = (Map) value;
+            Class<?> keyClass = typeArgument(expectedType, 0);
+            Class<?> valueClass = typeArgument(expectedType, 1);
+            if (map.entrySet().stream().allMatch(e -> isImmutable(e.getKey(), keyClass) && isImmutable(e.getValue(), valueClass))) {
+                return Optional.of(new LinkedHashMap<>(map));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static boolean isImmutable(Object value, Class<?> expectedClass) {
+        if (value == null || expectedClass == null || !box(expectedClass).isInstance(value)) {
+            return false;
+        }
+        return IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum;
+    }
+
+    private static Class<?> typeArgument(Type type, int index) {
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+        return index < arguments.length ? rawClass(arguments[index]) : null;
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class) type;
+        }
+        if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() instanceof Class) {
+            return (Class) ((ParameterizedType) type).getRawType();
+        }
+        return null;
+    }
+
+    private static Class<?> box(Class<?> clazz) {
+        if (!clazz.isPrimitive()) {
+            return clazz;
+        }
+        if (clazz == int.class) {
+            return Integer.class;
+        }
+        if (clazz == long.class) {
+            return Long.class;
+        }
+        if (clazz == double.class) {
+            return Double.class;
+        }
+        if (clazz == boolean.class) {
+            return Boolean.class;
+        }
+        if (clazz == float.class) {
+            return Float.class;
+        }
+        if (clazz == short.class) {
+            return Short.class;
+        }
+        if (clazz == byte.class) {
+            return Byte.class;
+        }
+        return Character.class;
+    }
+}
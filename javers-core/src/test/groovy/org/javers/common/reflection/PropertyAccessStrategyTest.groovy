@@ -0,0 +1,69 @@
+package org.javers.common.reflection
+
+import org.javers.core.JaversBuilder
+import org.javers.core.MappingStyle
+import org.javers.core.metamodel.property.MissingProperty
+import org.javers.core.model.DummyUser
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static org.javers.core.PropertyAccessStrategy.*
+
+class PropertyAccessStrategyTest extends Specification {
+
+    @Unroll
+    def "should read getters and fields with #strategy"() {
+        given:
+        def entity = new ConcreteIdentified(id: 1, version: 2, name: "a")
+        def getters = ReflectionUtil.getAllGetters(ConcreteIdentified)
+        def fields = ReflectionUtil.getAllFields(ConcreteIdentified)
+
+        when:
+        (getters + fields).each { it.useAccessStrategy(strategy) }
+
+        then:
+        (getters + fields).every { it.hasGeneratedGetter() == generated }
+        getters.collectEntries { [it.propertyName(), it.getEvenIfPrivate(entity)] }.subMap(["id", "version", "name"]) ==
+                [id: 1, version: 2, name: "a"]
+        fields.collectEntries { [it.propertyName(), it.getEvenIfPrivate(entity)] }.subMap(["id", "version", "name"]) ==
+                [id: 1, version: 2, name: "a"]
+
+        where:
+        strategy << [REFLECTION, METHOD_HANDLE, LAMBDA_METAFACTORY]
+        generated << [false, true, true]
+    }
+
+    @Unroll
+    def "should return MissingProperty for a target of unrelated type with #strategy"() {
+        given:
+        def getter = ReflectionUtil.getAllGetters(ConcreteIdentified).find { it.propertyName() == "name" }
+        getter.useAccessStrategy(strategy)
+
+        expect:
+        getter.getEvenIfPrivate(new AbstractIdentified(id: 1)) == MissingProperty.INSTANCE
+
+        where:
+        strategy << [REFLECTION, METHOD_HANDLE, LAMBDA_METAFACTORY]
+    }
+
+    @Unroll
+    def "should calculate the same diff with #strategy and #mappingStyle mapping style"() {
+        given:
+        def javers = JaversBuilder.javers()
+                .withMappingStyle(mappingStyle)
+                .withPropertyAccessStrategy(strategy)
+                .build()
+
+        when:
+        def diff = javers.compare(new DummyUser(name: "kaz", age: 10), new DummyUser(name: "kaz", age: 11))
+
+        then:
+        diff.changes.size() == 1
+        diff.changes[0].propertyName == "age"
+        diff.changes[0].left == 10
+        diff.changes[0].right == 11
+
+        where:
+        [strategy, mappingStyle] << [[REFLECTION, METHOD_HANDLE, LAMBDA_METAFACTORY], MappingStyle.values()].combinations()
+    }
+}
@@ -0,0 +1,55 @@
+package org.javers.core
+
+import org.javers.core.model.SnapshotEntity
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+
+import static org.javers.repository.jql.QueryBuilder.byClass
+import static org.javers.repository.jql.QueryBuilder.byInstanceId
+
+class JaversAsyncTest extends Specification {
+
+    def "should commit concurrently and read committed state"() {
+        given:
+        def javers = JaversBuilder.javers().buildAsync()
+
+        when:
+        def commits = (1..10).collect { javers.commit("author", new SnapshotEntity(id: it, intProperty: it)).toCompletableFuture() }
+        CompletableFuture.allOf(commits as CompletableFuture[]).join()
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 100)).toCompletableFuture().join()
+
+        then:
+        commits.collect { it.join().id }.unique().size() == 10
+        javers.getLatestSnapshot(1, SnapshotEntity).toCompletableFuture().join().get().getPropertyValue("intProperty") == 100
+        javers.findSnapshots(byClass(SnapshotEntity).build()).toCompletableFuture().join().size() == 11
+        javers.<SnapshotEntity>findShadows(byInstanceId(1, SnapshotEntity).build()).toCompletableFuture().join()[0].get().intProperty == 100
+    }
+
+    def "should not persist empty commit"() {
+        given:
+        def javers = JaversBuilder.javers().buildAsync()
+        javers.commit("author", new SnapshotEntity(id: 1)).toCompletableFuture().join()
+
+        when:
+        def commit = javers.commit("author", new SnapshotEntity(id: 1)).toCompletableFuture().join()
+
+        then:
+        commit.snapshots.isEmpty()
+        javers.blocking().findSnapshots(byInstanceId(1, SnapshotEntity).build()).size() == 1
+    }
+
+    def "should use given executor"() {
+        given:
+        def executed = 0
+        def javers = JaversBuilder.javers()
+                .withAsyncExecutor({ executed++; it.run() })
+                .buildAsync()
+
+        when:
+        javers.commit("author", new SnapshotEntity(id: 1)).toCompletableFuture().join()
+
+        then:
+        executed > 0
+    }
+}
@@ -290,6 +290,45 @@ class JaversCommitE2ETest extends Specification {
         !secondCommit.diff.changes
     }
 
+    def "should commit many roots in a single commit"() {
+        given:
+        def javers = javers().build()
+        def sharedRef = new SnapshotEntity(id: 10)
+        def roots = (1..3).collect { new SnapshotEntity(id: it, intProperty: it, entityRef: sharedRef) }
+        javers.commitAll("author", roots)
+
+        when:
+        roots[1].intProperty = 20
+        sharedRef.intProperty = 100
+        def commit = javers.commitAll("author", roots + [roots[0]], ["batch":"2"])
+
+        then:
+        commit.properties == ["batch":"2"]
+        CommitAssert.assertThat(commit)
+                    .hasId("2.00")
+                    .hasSnapshots(2)
+                    .hasSnapshot(instanceId(2, SnapshotEntity), [id:2, intProperty:20, entityRef:instanceId(10, SnapshotEntity)])
+                    .hasSnapshot(instanceId(10, SnapshotEntity), [id:10, intProperty:100])
+                    .hasChanges(2)
+        commit.changes.collect { [it.affectedGlobalId, it.left, it.right] } as Set ==
+                [[instanceId(2, SnapshotEntity), 2, 20], [instanceId(10, SnapshotEntity), 0, 100]] as Set
+    }
+
+    def "should give the same snapshots for commitAll() as for separate commits"() {
+        given:
+        def roots = { (1..3).collect { new SnapshotEntity(id: it, intProperty: it, entityRef: new SnapshotEntity(id: it + 10)) } }
+        def javers = javers().build()
+        def separateJavers = javers().build()
+
+        when:
+        def commit = javers.commitAll("author", roots())
+        def separateSnapshots = roots().collect { separateJavers.commit("author", it).snapshots }.flatten()
+
+        then:
+        commit.snapshots.size() == 6
+        commit.snapshots.collect { [it.globalId, it.state] } as Set == separateSnapshots.collect { [it.globalId, it.state] } as Set
+    }
+
     def "should not support Map of <ValueObject,?>, no good idea how to handle this"() {
         given:
         def javers = javers().build()
@@ -0,0 +1,70 @@
+package org.javers.core
+
+import org.javers.core.metrics.CommitPhase
+import org.javers.core.metrics.JaversMetrics
+import org.javers.core.model.SnapshotEntity
+import org.javers.repository.jql.ShadowStats
+import spock.lang.Specification
+
+import static org.javers.repository.jql.QueryBuilder.byInstanceId
+
+class JaversMetricsTest extends Specification {
+
+    static class RecordingMetrics implements JaversMetrics {
+        List<CommitPhase> commitPhases = []
+        List<ShadowStats> shadowQueries = []
+
+        @Override
+        void recordCommitPhase(CommitPhase phase, long durationNanos) {
+            assert durationNanos >= 0
+            commitPhases << phase
+        }
+
+        @Override
+        void recordShadowQuery(ShadowStats stats) {
+            shadowQueries << stats
+        }
+    }
+
+    def "should record all commit phases"() {
+        given:
+        def metrics = new RecordingMetrics()
+        def javers = JaversBuilder.javers().withMetrics(metrics).build()
+
+        when:
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 1))
+
+        then:
+        metrics.commitPhases == CommitPhase.values() as List
+    }
+
+    def "should not record persist phase of empty commit"() {
+        given:
+        def metrics = new RecordingMetrics()
+        def javers = JaversBuilder.javers().withMetrics(metrics).build()
+        javers.commit("author", new SnapshotEntity(id: 1))
+        metrics.commitPhases.clear()
+
+        when:
+        javers.commit("author", new SnapshotEntity(id: 1))
+
+        then:
+        !metrics.commitPhases.contains(CommitPhase.PERSIST)
+    }
+
+    def "should record stats of each Shadow query"() {
+        given:
+        def metrics = new RecordingMetrics()
+        def javers = JaversBuilder.javers().withMetrics(metrics).build()
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 1))
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 2))
+
+        when:
+        javers.findShadows(byInstanceId(1, SnapshotEntity).build())
+
+        then:
+        metrics.shadowQueries.size() == 1
+        metrics.shadowQueries[0].allSnapshotsCount == 2
+        metrics.shadowQueries[0].endTimestamp > 0
+    }
+}
@@ -28,6 +28,7 @@ import java.time.LocalDateTime
 import java.time.ZoneId
 import java.time.ZoneOffset
 import java.time.ZonedDateTime
+import java.util.stream.Collectors
 
 import static groovyx.gpars.GParsPool.withPool
 import static GlobalIdTestBuilder.instanceId
@@ -994,6 +995,75 @@ class JaversRepositoryE2ETest extends Specification {
         ]
     }
 
+    @Unroll
+    def "should stream #what snapshots in the same order as findSnapshots()"() {
+        given:
+        (1..250).each {
+            javers.commit("author", new SnapshotEntity(id: it % 50, intProperty: it), ["seq": it.toString()])
+            javers.commit("author", new DummyUserDetails(id: it % 10))
+        }
+
+        when:
+        def expected = javers.findSnapshots(query)
+        def streamed = javers.findSnapshotsAndStream(query).withCloseable { it.collect(Collectors.toList()) }
+
+        then:
+        streamed.size() == expectedSize
+        streamed*.globalId == expected*.globalId
+        streamed*.version == expected*.version
+        streamed*.commitMetadata*.properties == expected*.commitMetadata*.properties
+        streamed*.state == expected*.state
+
+        where:
+        what << ["Entity", "any"]
+        query << [
+            byClass(SnapshotEntity).limit(1000).build(),
+            anyDomainObject().limit(1000).build()
+        ]
+        expectedSize << [250, 260]
+    }
+
+    def "should page #what snapshots with afterSnapshot() in the same order as findSnapshots()"() {
+        given:
+        (1..20).each {
+            javers.commit("author", new SnapshotEntity(id: it % 8, intProperty: it,
+                    entityRef: new SnapshotEntity(id: 100 + it % 3, intProperty: it),
+                    valueObjectRef: new DummyAddress("city " + it)))
+        }
+
+        when:
+        def expected = javers.findSnapshots(queryBuilder().limit(1000).build())
+
+        def paged = []
+        def page = javers.findSnapshots(queryBuilder().limit(7).build())
+        while (page) {
+            paged.addAll(page)
+            page = javers.findSnapshots(queryBuilder().limit(7)
+                    .afterSnapshot(SnapshotIdentifier.from(page.last())).build())
+        }
+
+        then:
+        paged.size() == expectedSize
+        paged*.globalId == expected*.globalId
+        paged*.version == expected*.version
+
+        where:
+        what << ["Entity", "any"]
+        queryBuilder << [{ byClass(SnapshotEntity) }, { anyDomainObject() }]
+        expectedSize << [40, 60]
+    }
+
+    def "should return no snapshots after a snapshot which doesn't exist"() {
+        given:
+        javers.commit("author", new SnapshotEntity(id: 1))
+
+        expect:
+        javers.findSnapshots(anyDomainObject()
+                .afterSnapshot(new SnapshotIdentifier(instanceId(1, SnapshotEntity), 2)).build()).isEmpty()
+        javers.findSnapshots(anyDomainObject()
+                .afterSnapshot(new SnapshotIdentifier(instanceId(2, SnapshotEntity), 1)).build()).isEmpty()
+    }
+
     def "should return empty map of commit properties if snapshot was commited without properties"() {
         given:
         javers.commit("author", new SnapshotEntity(id :1))
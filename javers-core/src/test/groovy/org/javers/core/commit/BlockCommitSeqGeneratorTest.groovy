@@ -0,0 +1,85 @@
+package org.javers.core.commit
+
+import org.javers.core.CommitIdGenerator
+import org.javers.core.JaversBuilder
+import org.javers.core.model.SnapshotEntity
+import org.javers.repository.inmemory.InMemoryRepository
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class BlockCommitSeqGeneratorTest extends Specification {
+
+    static class CountingRepository extends InMemoryRepository {
+        int reservations
+
+        @Override
+        synchronized long reserveCommitIdBlock(int blockSize, long headMajorId) {
+            reservations++
+            super.reserveCommitIdBlock(blockSize, headMajorId)
+        }
+    }
+
+    def "should hand out sequential ids from reserved blocks"() {
+        given:
+        def repository = new CountingRepository()
+        def javers = JaversBuilder.javers()
+                .registerJaversRepository(repository)
+                .withCommitIdGenerator(CommitIdGenerator.BLOCK_SEQUENCE)
+                .withCommitIdBlockSize(2)
+                .build()
+
+        when:
+        def ids = (1..5).collect { javers.commit("author", new SnapshotEntity(intProperty: it)).id }
+
+        then:
+        ids.collect { it.value() } == ["1.00", "2.00", "3.00", "4.00", "5.00"]
+        repository.reservations == 3
+    }
+
+    def "should start above the head id when switching from SYNCHRONIZED_SEQUENCE"() {
+        given:
+        def repository = new InMemoryRepository()
+        def javers = JaversBuilder.javers().registerJaversRepository(repository).build()
+        3.times { javers.commit("author", new SnapshotEntity(intProperty: it)) }
+
+        when:
+        javers = JaversBuilder.javers()
+                .registerJaversRepository(repository)
+                .withCommitIdGenerator(CommitIdGenerator.BLOCK_SEQUENCE)
+                .build()
+        def commit = javers.commit("author", new SnapshotEntity(intProperty: 5))
+
+        then:
+        commit.id == new CommitId(4, 0)
+    }
+
+    def "should hand out unique and increasing ids to concurrent threads"() {
+        given:
+        def threads = 8
+        def commitsPerThread = 50
+        def javers = JaversBuilder.javers()
+                .withCommitIdGenerator(CommitIdGenerator.BLOCK_SEQUENCE)
+                .withCommitIdBlockSize(10)
+                .build()
+        def executor = Executors.newFixedThreadPool(threads)
+
+        when:
+        def futures = (1..threads).collect { t ->
+            executor.submit({
+                (1..commitsPerThread).collect {
+                    javers.commit("author", new SnapshotEntity(id: t, intProperty: it)).id
+                }
+            } as Callable<List<CommitId>>)
+        }
+        def idsPerThread = futures.collect { it.get() }
+        executor.shutdown()
+
+        then:
+        idsPerThread.flatten().unique().size() == threads * commitsPerThread
+        idsPerThread.each { ids ->
+            assert ids == ids.sort(false)
+        }
+    }
+}
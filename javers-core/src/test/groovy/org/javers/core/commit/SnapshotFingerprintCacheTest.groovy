@@ -0,0 +1,117 @@
+package org.javers.core.commit
+
+import org.javers.core.JaversBuilder
+import org.javers.core.diff.changetype.ValueChange
+import org.javers.core.metamodel.object.CdoSnapshot
+import org.javers.core.metamodel.object.GlobalId
+import org.javers.core.metamodel.object.SnapshotType
+import org.javers.core.model.SnapshotEntity
+import org.javers.repository.inmemory.InMemoryRepository
+import org.javers.repository.jql.QueryBuilder
+import spock.lang.Specification
+
+class SnapshotFingerprintCacheTest extends Specification {
+
+    static class CountingRepository extends InMemoryRepository {
+        int loadedLatest
+
+        @Override
+        List<CdoSnapshot> getLatest(Collection<GlobalId> globalIds) {
+            loadedLatest += globalIds.size()
+            super.getLatest(globalIds)
+        }
+    }
+
+    def "should not load latest snapshots of unchanged objects"() {
+        given:
+        def repository = new CountingRepository()
+        def javers = JaversBuilder.javers()
+                .registerJaversRepository(repository)
+                .withSnapshotFingerprintCacheSize(1000)
+                .build()
+        def root = aggregate(100)
+        javers.commit("author", root)
+        repository.loadedLatest = 0
+
+        when:
+        def commit = javers.commit("author", root)
+
+        then:
+        commit.snapshots.isEmpty()
+        repository.loadedLatest == 0
+
+        when:
+        root.listOfEntities[5].intProperty = 50
+        commit = javers.commit("author", root)
+
+        then:
+        repository.loadedLatest == 1
+        commit.snapshots.size() == 1
+        commit.snapshots[0].type == SnapshotType.UPDATE
+        commit.snapshots[0].changed == ["intProperty"]
+        commit.changes.size() == 1
+        with(commit.changes[0]) {
+            it instanceof ValueChange
+            left == 5
+            right == 50
+        }
+    }
+
+    def "should evict removed objects"() {
+        given:
+        def repository = new CountingRepository()
+        def javers = JaversBuilder.javers()
+                .registerJaversRepository(repository)
+                .withSnapshotFingerprintCacheSize(1000)
+                .build()
+        def entity = new SnapshotEntity(id: 1, intProperty: 1)
+        javers.commit("author", entity)
+
+        when:
+        javers.commitShallowDelete("author", entity)
+        def commit = javers.commit("author", entity)
+
+        then:
+        commit.snapshots.size() == 1
+        commit.snapshots[0].type == SnapshotType.UPDATE
+        javers.findSnapshots(QueryBuilder.byInstance(entity).build()).size() == 3
+    }
+
+    def "should load latest snapshots of all objects when disabled"() {
+        given:
+        def repository = new CountingRepository()
+        def javers = JaversBuilder.javers().registerJaversRepository(repository).build()
+        def root = aggregate(100)
+        javers.commit("author", root)
+        repository.loadedLatest = 0
+
+        when:
+        def commit = javers.commit("author", root)
+
+        then:
+        commit.snapshots.isEmpty()
+        repository.loadedLatest == 101
+    }
+
+    def "should keep fingerprints of recently committed objects only"() {
+        given:
+        def repository = new CountingRepository()
+        def javers = JaversBuilder.javers()
+                .registerJaversRepository(repository)
+                .withSnapshotFingerprintCacheSize(10)
+                .build()
+        def root = aggregate(100)
+        javers.commit("author", root)
+        repository.loadedLatest = 0
+
+        when:
+        javers.commit("author", root)
+
+        then:
+        repository.loadedLatest == 91
+    }
+
+    private SnapshotEntity aggregate(int size) {
+        new SnapshotEntity(id: 0, listOfEntities: (1..size).collect { new SnapshotEntity(id: it, intProperty: it) })
+    }
+}
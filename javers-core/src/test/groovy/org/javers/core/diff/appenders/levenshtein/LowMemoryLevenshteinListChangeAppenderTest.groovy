@@ -0,0 +1,77 @@
+package org.javers.core.diff.appenders.levenshtein
+
+import org.javers.core.JaversBuilder
+import org.javers.core.diff.ListCompareAlgorithm
+import org.javers.core.model.DummyUser
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static org.javers.core.model.DummyUser.dummyUser
+
+class LowMemoryLevenshteinListChangeAppenderTest extends Specification {
+
+    @Unroll
+    def "should give the same changes as LEVENSHTEIN_DISTANCE when bandWidth is #bandWidth"() {
+        given:
+        def levenshtein = JaversBuilder.javers()
+                .withListCompareAlgorithm(ListCompareAlgorithm.LEVENSHTEIN_DISTANCE).build()
+        def lowMemory = JaversBuilder.javers()
+                .withListCompareAlgorithm(ListCompareAlgorithm.LEVENSHTEIN_DISTANCE_LOW_MEMORY)
+                .withLevenshteinBandWidth(bandWidth).build()
+        def random = new Random(bandWidth)
+
+        expect:
+        200.times {
+            def leftList = randomList(random)
+            def rightList = random.nextBoolean() ? randomList(random) : edit(leftList, random)
+
+            def expected = levenshtein.compare(user(leftList), user(rightList)).changes
+            def actual = lowMemory.compare(user(leftList), user(rightList)).changes
+
+            assert actual.toString() == expected.toString()
+        }
+
+        where:
+        bandWidth << [0, 1, 3, 10]
+    }
+
+    def "should compare long lists without allocating the full matrix"() {
+        given:
+        def javers = JaversBuilder.javers()
+                .withListCompareAlgorithm(ListCompareAlgorithm.LEVENSHTEIN_DISTANCE_LOW_MEMORY)
+                .withLevenshteinBandWidth(100).build()
+        def leftList = (0..<20000).collect()
+        def rightList = leftList.collect { it % 1000 == 3 ? -it : it }.findAll { it % 1000 != 7 }
+
+        when:
+        def changes = javers.compare(user(leftList), user(rightList)).getPropertyChanges("integerList")
+
+        then:
+        changes.size() == 1
+        changes[0].changes.size() == 40
+    }
+
+    DummyUser user(List<Integer> list) {
+        dummyUser().withIntegerList(list)
+    }
+
+    List<Integer> randomList(Random random) {
+        (0..<random.nextInt(20)).collect { random.nextInt(4) }
+    }
+
+    List<Integer> edit(List<Integer> list, Random random) {
+        def result = new ArrayList(list)
+        random.nextInt(4).times {
+            if (result.isEmpty()) {
+                return
+            }
+            def idx = random.nextInt(result.size())
+            switch (random.nextInt(3)) {
+                case 0: result.remove(idx); break
+                case 1: result.add(idx, random.nextInt(4)); break
+                default: result.set(idx, random.nextInt(4))
+            }
+        }
+        result
+    }
+}
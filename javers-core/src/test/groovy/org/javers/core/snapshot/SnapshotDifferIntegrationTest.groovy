@@ -1,5 +1,8 @@
 package org.javers.core.snapshot
 
+import org.javers.core.CoreConfiguration
+import org.javers.core.JaversTestBuilder
+import org.javers.core.diff.DiffFactory
 import org.javers.core.diff.changetype.NewObject
 import org.javers.core.diff.changetype.ObjectRemoved
 import org.javers.core.diff.changetype.ReferenceChange
@@ -8,11 +11,13 @@ import org.javers.core.model.DummyAddress
 import org.javers.core.model.DummyUser
 import org.javers.core.model.DummyUserDetails
 import org.javers.core.model.SnapshotEntity
+import org.javers.repository.api.SnapshotIdentifier
 import org.javers.repository.jql.QueryBuilder
 import spock.lang.Specification
 import spock.lang.Unroll
 
 import java.time.LocalDate
+import java.util.concurrent.Executor
 
 import static org.javers.core.GlobalIdTestBuilder.instanceId
 import static org.javers.core.JaversBuilder.javers
@@ -139,4 +144,69 @@ class SnapshotDifferIntegrationTest extends Specification {
         expectedRightValue << [5, LocalDate.of(2002, 2, 2), instanceId(5,SnapshotEntity)]
     }
 
+    @Unroll
+    def "should calculate the same changes in the parallel mode (#executorName) as in the sequential mode"() {
+        given:
+        def sequential = javers().build()
+        def parallel = javers().withParallelSnapshotDiffing(executor).build()
+
+        [sequential, parallel].each { javers ->
+            (1..200).each {
+                javers.commit("author", new SnapshotEntity(id: it % 20, intProperty: it, valueObjectRef: new DummyAddress("city " + it)))
+            }
+            javers.commitShallowDelete("author", new SnapshotEntity(id: 1))
+        }
+
+        when:
+        def query = QueryBuilder.anyDomainObject().limit(1000).build()
+        def expected = sequential.findChanges(query)
+        def actual = parallel.findChanges(query)
+
+        then:
+        actual.size() > SnapshotDiffer.PARALLEL_CHUNK_SIZE
+        actual.collect { it.toString() } == expected.collect { it.toString() }
+        actual*.affectedGlobalId == expected*.affectedGlobalId
+        actual*.commitMetadata*.get()*.id == expected*.commitMetadata*.get()*.id
+
+        where:
+        executorName << ["common pool", "given executor"]
+        executor << [true, { Runnable r -> new Thread(r).start() } as Executor]
+    }
+
+    def "should calculate the same changes as DiffFactory for single-node snapshot graphs"() {
+        given:
+        def javersTestBuilder = JaversTestBuilder.javersTestAssembly()
+        def javers = javersTestBuilder.javers()
+        def diffFactory = javersTestBuilder.javersBuilder.getContainerComponent(DiffFactory)
+
+        (1..60).each {
+            javers.commit("author", new SnapshotEntity(id: it % 5,
+                    intProperty: it % 3,
+                    dob: it % 4 ? LocalDate.of(2000, 1, it % 28 + 1) : null,
+                    entityRef: it % 2 ? new SnapshotEntity(id: 100) : null,
+                    valueObjectRef: new DummyAddress("city " + it % 3),
+                    arrayOfIntegers: [it % 2, 1] as Integer[],
+                    listOfIntegers: (0..(it % 4)).collect(),
+                    setOfIntegers: [it % 3, 5] as Set,
+                    optionalInteger: Optional.ofNullable(it % 2 ? it : null),
+                    mapOfPrimitives: ["a": it % 2, ("k" + it % 3): 1]))
+        }
+
+        def snapshots = javers.findSnapshots(QueryBuilder.byClass(SnapshotEntity).limit(1000).build())
+        def previousSnapshots = snapshots.collectEntries { [(SnapshotIdentifier.from(it)): it] }
+
+        when:
+        def changes = new SnapshotDiffer(diffFactory, javersTestBuilder.javersBuilder.getContainerComponent(CoreConfiguration))
+                .calculateDiffs(snapshots, previousSnapshots)
+
+        then:
+        def expected = snapshots.collectMany { snapshot ->
+            def previous = previousSnapshots[SnapshotIdentifier.from(snapshot).previous()]
+            def left = previous ? new SnapshotGraph([new SnapshotNode(previous)] as Set) : new SnapshotGraph([] as Set)
+            def right = new SnapshotGraph([new SnapshotNode(snapshot)] as Set)
+            diffFactory.create(left, right, Optional.of(snapshot.commitMetadata)).changes
+        }
+        changes.size() > 100
+        changes.collect { it.toString() } == expected.collect { it.toString() }
+    }
 }
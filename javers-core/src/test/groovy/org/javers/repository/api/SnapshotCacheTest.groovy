@@ -0,0 +1,128 @@
+package org.javers.repository.api
+
+import org.javers.core.JaversBuilder
+import org.javers.core.metamodel.object.CdoSnapshot
+import org.javers.core.metrics.JaversMetrics
+import org.javers.core.model.SnapshotEntity
+import org.javers.repository.inmemory.InMemoryRepository
+import spock.lang.Specification
+
+import static org.javers.repository.jql.QueryBuilder.byClass
+import static org.javers.repository.jql.QueryBuilder.byInstanceId
+
+class SnapshotCacheTest extends Specification {
+
+    static class CountingRepository extends InMemoryRepository {
+        int loadedByIdentifiers
+
+        @Override
+        List<CdoSnapshot> getSnapshots(Collection<SnapshotIdentifier> snapshotIdentifiers) {
+            loadedByIdentifiers += snapshotIdentifiers.size()
+            super.getSnapshots(snapshotIdentifiers)
+        }
+    }
+
+    static class CountingMetrics implements JaversMetrics {
+        Map<String, Integer> hits = [:].withDefault { 0 }
+        Map<String, Integer> misses = [:].withDefault { 0 }
+
+        @Override
+        void recordCacheAccess(String cacheName, int hits, int misses) {
+            this.hits[cacheName] += hits
+            this.misses[cacheName] += misses
+        }
+    }
+
+    def "should load previous snapshots from the cache"() {
+        given:
+        def repository = new CountingRepository()
+        def metrics = new CountingMetrics()
+        def javers = JaversBuilder.javers()
+                .registerJaversRepository(repository)
+                .withSnapshotCacheSize(cacheSize)
+                .withMetrics(metrics)
+                .build()
+        3.times { version ->
+            10.times { javers.commit("author", new SnapshotEntity(id: it, intProperty: version)) }
+        }
+
+        when:
+        def changes = javers.findChanges(byClass(SnapshotEntity).limit(10).build())
+
+        then:
+        changes.size() == 10
+        changes.every { it.left == 1 && it.right == 2 }
+        repository.loadedByIdentifiers == expectedLoaded
+        metrics.hits[JaversMetrics.SNAPSHOT_CACHE] == expectedHits
+
+        where:
+        cacheSize | expectedLoaded | expectedHits
+        0         | 10             | 0
+        1000      | 0              | 10
+    }
+
+    def "should evict least recently used snapshots when max weight is exceeded"() {
+        given:
+        def javers = JaversBuilder.javers().build()
+        def snapshots = (1..10).collect { javers.commit("author", new SnapshotEntity(id: it)).snapshots[0] }
+        def cache = new SnapshotCache(
+                JaversBuilder.javers().withSnapshotCacheSize(snapshots[0].size() * 5 + 5).build().coreConfiguration,
+                JaversMetrics.NONE)
+
+        when:
+        cache.putAll(snapshots)
+        def misses = []
+        def found = cache.getAll(snapshots.collect { SnapshotIdentifier.from(it) }, misses)
+
+        then:
+        cache.size() == 5
+        found == snapshots[5..9]
+        misses == snapshots[0..4].collect { SnapshotIdentifier.from(it) }
+
+        when:
+        cache.evict()
+
+        then:
+        cache.size() == 0
+        cache.weight() == 0
+    }
+
+    def "should merge cached and loaded snapshots in reverse chronological order"() {
+        given:
+        def repository = new InMemoryRepository()
+        def javers = JaversBuilder.javers().registerJaversRepository(repository).build()
+        3.times { javers.commit("author", new SnapshotEntity(id: 1, intProperty: it)) }
+        def snapshots = javers.findSnapshots(byInstanceId(1, SnapshotEntity).build())
+        def cache = new SnapshotCache(
+                JaversBuilder.javers().withSnapshotCacheSize(1000).build().coreConfiguration,
+                JaversMetrics.NONE)
+        cache.putAll([snapshots[1]])
+        def extendedRepository = new JaversExtendedRepository(repository, null, cache)
+
+        when:
+        def loaded = extendedRepository.getSnapshots(snapshots.reverse().collect { SnapshotIdentifier.from(it) })
+
+        then:
+        loaded*.version == [3, 2, 1]
+        cache.hitCount() == 1
+        cache.size() == 3
+    }
+
+    def "should not cache snapshots loaded without commit properties"() {
+        given:
+        def repository = new InMemoryRepository()
+        def javers = JaversBuilder.javers().registerJaversRepository(repository).build()
+        3.times { javers.commit("author", new SnapshotEntity(id: it)) }
+        def cache = new SnapshotCache(
+                JaversBuilder.javers().withSnapshotCacheSize(1000).build().coreConfiguration,
+                JaversMetrics.NONE)
+        def extendedRepository = new JaversExtendedRepository(repository, null, cache)
+
+        when:
+        extendedRepository.getSnapshots(QueryParamsBuilder.withLimit(10).withCommitProps(false).build())
+        extendedRepository.getLatest(javers.findSnapshots(byClass(SnapshotEntity).build())*.globalId)
+
+        then:
+        cache.size() == 0
+    }
+}
@@ -0,0 +1,104 @@
+package org.javers.repository.inmemory
+
+import org.javers.core.Javers
+import org.javers.core.JaversBuilder
+import org.javers.core.commit.Commit
+import org.javers.core.commit.CommitId
+import org.javers.core.model.DummyAddress
+import org.javers.core.model.SnapshotEntity
+import org.javers.repository.api.SnapshotIdentifier
+import org.javers.repository.jql.JqlQuery
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static org.javers.repository.jql.QueryBuilder.*
+
+class InMemoryRepositoryIndexedObjectsTest extends Specification {
+
+    InMemoryRepository indexedRepository = new InMemoryRepository(InMemorySnapshotStorage.INDEXED_OBJECTS)
+    Javers jsonJavers = javers(new InMemoryRepository())
+    Javers indexedJavers = javers(indexedRepository)
+
+    def setup() {
+        [jsonJavers, indexedJavers].each { javers ->
+            (1..12).each {
+                def entity = new SnapshotEntity(id: it % 3, intProperty: it,
+                        listOfValueObjects: [new DummyAddress("city" + it), new DummyAddress("city")])
+                javers.commit("author" + it % 2, entity, ["tenant": "t" + it % 4])
+            }
+        }
+    }
+
+    @Unroll
+    def "should find the same snapshots as the JSON storage for #query"() {
+        expect:
+        snapshotIds(indexedJavers, query) == snapshotIds(jsonJavers, query)
+
+        where:
+        query << [
+                byInstanceId(1, SnapshotEntity).build(),
+                byInstanceId(1, SnapshotEntity).withChildValueObjects().build(),
+                byClass(SnapshotEntity).build(),
+                byClass(SnapshotEntity).withChildValueObjects().limit(100).build(),
+                byValueObject(SnapshotEntity, "listOfValueObjects/1").build(),
+                anyDomainObject().limit(100).build(),
+                anyDomainObject().withCommitId(new CommitId(4, 0)).build(),
+                anyDomainObject().byAuthor("author1").withCommitProperty("tenant", "t3").build(),
+                byInstanceId(2, SnapshotEntity).withVersion(3).build()
+        ]
+    }
+
+    def "should get latest snapshot and snapshots by identifiers"() {
+        given:
+        def globalId = indexedJavers.getLatestSnapshot(1, SnapshotEntity).get().globalId
+
+        when:
+        def found = indexedRepository.getSnapshots([new SnapshotIdentifier(globalId, 2), new SnapshotIdentifier(globalId, 100)])
+
+        then:
+        indexedJavers.getLatestSnapshot(1, SnapshotEntity).get().version == 4
+        found.size() == 1
+        found[0].version == 2
+        found[0].getPropertyValue("intProperty") == 4
+    }
+
+    def "should get snapshots by identifiers when versions don't match positions in history"() {
+        given:
+        def repository = new InMemoryRepository(InMemorySnapshotStorage.INDEXED_OBJECTS)
+        def history = jsonJavers.findSnapshots(byInstanceId(1, SnapshotEntity).build())
+        history[0..1].reverse().each { repository.persist(new Commit(it.commitMetadata, [it], null)) }
+        def globalId = history[0].globalId
+
+        when:
+        def found = repository.getSnapshots([new SnapshotIdentifier(globalId, 1), new SnapshotIdentifier(globalId, 4)])
+
+        then:
+        found*.version == [4]
+    }
+
+    def "should not use JsonConverter"() {
+        given:
+        def repository = new InMemoryRepository(InMemorySnapshotStorage.INDEXED_OBJECTS)
+        def javers = javers(repository)
+        repository.setJsonConverter(null)
+
+        when:
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 1))
+
+        then:
+        javers.findSnapshots(byInstanceId(1, SnapshotEntity).build()).size() == 1
+    }
+
+    private Javers javers(InMemoryRepository repository) {
+        JaversBuilder.javers().registerJaversRepository(repository).build()
+    }
+
+    /**
+     * Snapshots of one commit can be returned in a different order
+     */
+    private List<Set<String>> snapshotIds(Javers javers, JqlQuery query) {
+        javers.findSnapshots(query)
+              .groupBy { it.commitId }
+              .collect { commitId, snapshots -> snapshots.collect { it.globalId.value() + "/" + it.version } as Set }
+    }
+}
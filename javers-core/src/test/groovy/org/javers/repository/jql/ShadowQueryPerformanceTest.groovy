@@ -0,0 +1,47 @@
+package org.javers.repository.jql
+
+import org.javers.core.Javers
+import org.javers.core.JaversBuilder
+import org.javers.core.model.SnapshotEntity
+import spock.lang.Specification
+
+/**
+ * Reference resolution in ShadowQueryRunner should be a floor lookup,
+ * so query time grows linearly with the number of commits.
+ * <br/>
+ * Only checks correctness on a short history, timing is measured by QueryBenchmark.findShadowsDeepPlus
+ */
+class ShadowQueryPerformanceTest extends Specification {
+
+    Javers javers = JaversBuilder.javers().build()
+
+    def "should resolve references for long history in DEEP_PLUS scope, #n commits"() {
+        given:
+        def ref = new SnapshotEntity(id: 2)
+        def root = new SnapshotEntity(id: 1, entityRef: ref)
+        (1..n).each {
+            if (it % 2 == 1) {
+                ref.intProperty = it
+            }
+            root.intProperty = it
+            javers.commit("author", root)
+        }
+
+        when:
+        def shadows = javers.findShadows(QueryBuilder.byInstanceId(1, SnapshotEntity)
+                .withScopeDeepPlus(n)
+                .limit(n)
+                .snapshotQueryLimit(n)
+                .build())
+
+        then:
+        shadows.size() == n
+        shadows.every {
+            def shadow = it.get()
+            shadow.entityRef.intProperty == (shadow.intProperty % 2 == 1 ? shadow.intProperty : shadow.intProperty - 1)
+        }
+
+        where:
+        n << [50, 200]
+    }
+}
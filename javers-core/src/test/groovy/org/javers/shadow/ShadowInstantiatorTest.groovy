@@ -0,0 +1,127 @@
+package org.javers.shadow
+
+import com.google.gson.JsonDeserializationContext
+import com.google.gson.JsonElement
+import com.google.gson.JsonPrimitive
+import com.google.gson.JsonSerializationContext
+import org.javers.core.JaversBuilder
+import org.javers.core.MappingStyle
+import org.javers.core.json.JsonAdvancedTypeAdapter
+import org.javers.core.metamodel.annotation.Id
+import org.javers.core.metamodel.annotation.PropertyName
+import org.javers.repository.jql.QueryBuilder
+import spock.lang.Specification
+
+import java.lang.reflect.Type
+import java.time.LocalDate
+
+class ShadowInstantiatorTest extends Specification {
+
+    static class Money {
+        BigDecimal amount
+        String currency
+    }
+
+    static class Employee {
+        @Id String name
+        int salary
+        LocalDate dob
+        List<String> tags = []
+        Map<String, Integer> counters
+        Map<String, Money> bonuses
+        Optional<String> nick
+        int[] scores
+        @PropertyName("nickname") String customName
+        String initialized = "initial"
+
+        Employee(String name) {
+            this.name = name
+        }
+    }
+
+    static class Tag {
+        @Id String id
+        String value
+    }
+
+    static class TagJsonAdapter implements JsonAdvancedTypeAdapter<Tag> {
+        Tag fromJson(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
+            new Tag(id: json.asString)
+        }
+
+        JsonElement toJson(Tag sourceValue, Type typeOfT, JsonSerializationContext context) {
+            new JsonPrimitive(sourceValue.id)
+        }
+
+        Class<Tag> getTypeSuperclass() {
+            Tag
+        }
+    }
+
+    def "should set snapshot state directly on Shadows"() {
+        given:
+        def javers = JaversBuilder.javers().build()
+        def employee = new Employee("bob")
+        employee.with {
+            salary = 100
+            dob = LocalDate.of(2000, 1, 1)
+            tags = ["a", "b"]
+            counters = [c: 1]
+            bonuses = [b: new Money(amount: 1.5, currency: "EUR")]
+            nick = Optional.of("bobby")
+            scores = [1, 2] as int[]
+            customName = "custom"
+            initialized = null
+        }
+        javers.commit("author", employee)
+
+        when:
+        Employee shadow = javers.findShadows(QueryBuilder.byInstanceId("bob", Employee).build())[0].get()
+
+        then:
+        !shadow.is(employee)
+        shadow.salary == 100
+        shadow.dob == LocalDate.of(2000, 1, 1)
+        shadow.tags == ["a", "b"]
+        shadow.counters == [c: 1]
+        shadow.bonuses.b.amount == 1.5
+        shadow.bonuses.b.currency == "EUR"
+        shadow.nick == Optional.of("bobby")
+        shadow.scores == [1, 2] as int[]
+        shadow.customName == "custom"
+        shadow.initialized == null
+
+        when:
+        shadow.tags.add("c")
+        shadow.counters.put("d", 2)
+
+        then:
+        noExceptionThrown()
+    }
+
+    def "should deserialize Shadows from JSON when a class has custom TypeAdapter"() {
+        given:
+        def javers = JaversBuilder.javers()
+                .registerEntity(Tag)
+                .registerJsonAdvancedTypeAdapter(new TagJsonAdapter())
+                .build()
+        def shadowInstantiator = new ShadowInstantiator(javers.jsonConverter)
+
+        expect:
+        !shadowInstantiator.newInstance(javers.getTypeMapping(Tag)).isPresent()
+    }
+
+    def "should instantiate Shadows of field-based classes only"() {
+        given:
+        def javers = JaversBuilder.javers().withMappingStyle(mappingStyle).build()
+        def shadowInstantiator = new ShadowInstantiator(javers.jsonConverter)
+
+        expect:
+        shadowInstantiator.newInstance(javers.getTypeMapping(Employee)).isPresent() == expectedInstantiated
+
+        where:
+        mappingStyle        | expectedInstantiated
+        MappingStyle.FIELD  | true
+        MappingStyle.BEAN   | false
+    }
+}
@@ -0,0 +1,205 @@
+package org.javers.repository.mongo;
+
+import com.google.gson.*;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.javers.core.json.JsonConverter;
+import org.javers.core.metamodel.object.CdoSnapshot;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+import static org.javers.repository.mongo.MongoSchemaManager.GLOBAL_ID_KEY;
+import static org.javers.repository.mongo.MongoSchemaManager.OBJECT_ID;
+
+/**
+ * Reads and writes snapshots directly from and to BSON,
+ * without building intermediate {@link org.bson.Document} trees.
+ * <br/>
+ * Produces the same BSON as {@link DocumentConverter} with {@link MapKeyDotReplacer}
+ * and the same JSON for {@link JsonConverter}, so both can be used for the same collection.
+ * Dots in map keys are replaced while streaming.
+ */
+class CdoSnapshotCodec implements Codec<CdoSnapshot> {
+    private static final String STATE_FIELD = "state";
+    private static final String DOT = ".";
+    private static final String DOT_REPLACEMENT = "#dot#";
+
+    private final JsonConverter jsonConverter;
+
+    CdoSnapshotCodec(JsonConverter jsonConverter) {
+        this.jsonConverter = jsonConverter;
+    }
+
+    @Override
+    public CdoSnapshot decode(BsonReader reader, DecoderContext decoderContext) {
+        return jsonConverter.fromJson(readDocument(reader, Level.SNAPSHOT), CdoSnapshot.class);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, CdoSnapshot snapshot, EncoderContext encoderContext) {
+        JsonObject json = (JsonObject) jsonConverter.toJsonElement(snapshot);
+
+        writer.writeStartDocument();
+        writer.writeObjectId(OBJECT_ID, new ObjectId());
+        writeMembers(writer, json, Level.SNAPSHOT);
+        writer.writeString(GLOBAL_ID_KEY, snapshot.getGlobalId().value());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<CdoSnapshot> getEncoderClass() {
+        return CdoSnapshot.class;
+    }
+
+    /**
+     * Map keys are escaped only in Map properties of snapshot state,
+     * see {@link MapKeyDotReplacer}
+     */
+    private enum Level {
+        SNAPSHOT, STATE, MAP_PROPERTY, NESTED;
+
+        Level child(String name) {
+            if (this == SNAPSHOT && STATE_FIELD.equals(name)) {
+                return STATE;
+            }
+            if (this == STATE) {
+                return MAP_PROPERTY;
+            }
+            return NESTED;
+        }
+    }
+
+    private static JsonObject readDocument(BsonReader reader, Level level) {
+        JsonObject jsonObject = new JsonObject();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            JsonElement value = readValue(reader, level.child(name));
+            if (level == Level.MAP_PROPERTY) {
+                name = name.replace(DOT_REPLACEMENT, DOT);
+            }
+            jsonObject.add(name, value);
+        }
+        reader.readEndDocument();
+        return jsonObject;
+    }
+
+    private static JsonElement readValue(BsonReader reader, Level level) {
+        BsonType type = reader.getCurrentBsonType();
+        switch (type) {
+            case DOCUMENT:
+                return readDocument(reader, level);
+            case ARRAY:
+                JsonArray array = new JsonArray();
+                reader.readStartArray();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    array.add(readValue(reader, Level.NESTED));
+                }
+                reader.readEndArray();
+                return array;
+            case STRING:
+                return new JsonPrimitive(reader.readString());
+            case INT32:
+                return new JsonPrimitive(reader.readInt32());
+            case INT64:
+                return new JsonPrimitive(reader.readInt64());
+            case DOUBLE:
+                return new JsonPrimitive(reader.readDouble());
+            case DECIMAL128:
+                return new JsonPrimitive(reader.readDecimal128().bigDecimalValue());
+            case BOOLEAN:
+                return new JsonPrimitive(reader.readBoolean());
+            case NULL:
+                reader.readNull();
+                return JsonNull.INSTANCE;
+            case OBJECT_ID:
+                JsonObject id = new JsonObject();
+                id.addProperty("$oid", reader.readObjectId().toHexString());
+                return id;
+            default:
+                throw new IllegalArgumentException("unsupported BSON type - " + type);
+        }
+    }
+
+    private static void writeMembers(BsonWriter writer, JsonObject jsonObject, Level level) {
+        for (Map.Entry<String, JsonElement> e : jsonObject.entrySet()) {
+            String name = e.getKey();
+            if (level == Level.MAP_PROPERTY) {
+                name = name.replace(DOT, DOT_REPLACEMENT);
+            }
+            writer.writeName(name);
+            writeValue(writer, e.getValue(), level.child(e.getKey()));
+        }
+    }
+
+    private static void writeValue(BsonWriter writer, JsonElement jsonElement, Level level) {
+        if (jsonElement.isJsonNull()) {
+            writer.writeNull();
+        }
+        else if (jsonElement.isJsonObject()) {
+            writer.writeStartDocument();
+            writeMembers(writer, jsonElement.getAsJsonObject(), level);
+            writer.writeEndDocument();
+        }
+        else if (jsonElement.isJsonArray()) {
+            writer.writeStartArray();
+            for (JsonElement e : jsonElement.getAsJsonArray()) {
+                writeValue(writer, e, Level.NESTED);
+            }
+            writer.writeEndArray();
+        }
+        else {
+            writePrimitive(writer, jsonElement.getAsJsonPrimitive());
+        }
+    }
+
+    private static void writePrimitive(BsonWriter writer, JsonPrimitive jsonPrimitive) {
+        if (jsonPrimitive.isString()) {
+            writer.writeString(jsonPrimitive.getAsString());
+        }
+        else if (jsonPrimitive.isBoolean()) {
+            writer.writeBoolean(jsonPrimitive.getAsBoolean());
+        }
+        else {
+            writeNumber(writer, jsonPrimitive.getAsNumber());
+        }
+    }
+
+    private static void writeNumber(BsonWriter writer, Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            writer.writeInt32(number.intValue());
+        }
+        else if (number instanceof Long) {
+            writer.writeInt64(number.longValue());
+        }
+        else if (number instanceof Double || number instanceof Float) {
+            writer.writeDouble(number.doubleValue());
+        }
+        else {
+            //BigDecimal, as written by DocumentConverter
+            BigDecimal value = toBigDecimal(number);
+            try {
+                writer.writeInt64(value.longValueExact());
+            } catch (ArithmeticException e) {
+                writer.writeDouble(value.doubleValue());
+            }
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        return new BigDecimal(number.toString());
+    }
+}
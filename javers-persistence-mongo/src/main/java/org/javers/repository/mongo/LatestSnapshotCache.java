@@ -5,6 +5,7 @@ import com.google.common.cache.CacheBuilder;
 import java.util.Optional;
 import org.javers.core.metamodel.object.CdoSnapshot;
 import org.javers.core.metamodel.object.GlobalId;
+import org.javers.core.metrics.JaversMetrics;
 
 import java.util.function.Function;
 
@@ -15,6 +16,7 @@ class LatestSnapshotCache {
     private final Cache<GlobalId, Optional<CdoSnapshot>> cache;
     private final Function<GlobalId, Optional<CdoSnapshot>> source;
     private final boolean disabled;
+    private JaversMetrics metrics = JaversMetrics.NONE;
 
     LatestSnapshotCache(int size, Function<GlobalId, Optional<CdoSnapshot>> source) {
         cache = CacheBuilder.newBuilder()
@@ -33,14 +35,20 @@ class LatestSnapshotCache {
         Optional<CdoSnapshot> fromCache = cache.getIfPresent(globalId);
 
         if (fromCache != null) {
+            metrics.recordCacheAccess(JaversMetrics.LATEST_SNAPSHOT_CACHE, 1, 0);
             return fromCache;
         }
+        metrics.recordCacheAccess(JaversMetrics.LATEST_SNAPSHOT_CACHE, 0, 1);
 
         Optional<CdoSnapshot> fromDb = source.apply(globalId);
         cache.put(globalId, fromDb);
         return fromDb;
     }
 
+    void setMetrics(JaversMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     void put(CdoSnapshot cdoSnapshot) {
         if (disabled) {
             return;
@@ -0,0 +1,145 @@
+package org.javers.repository.mongo;
+
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.Document;
+import org.javers.common.validation.Validate;
+import org.javers.core.commit.Commit;
+import org.javers.core.commit.CommitId;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
+import org.javers.repository.api.AsyncJaversRepository;
+import org.javers.repository.mongo.model.MongoHeadId;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import static org.javers.repository.mongo.MongoSchemaManager.COMMIT_ID;
+import static org.javers.repository.mongo.MongoSchemaManager.DESC;
+import static org.javers.repository.mongo.MongoSchemaManager.OBJECT_ID;
+import static org.javers.repository.mongo.SingleResultSubscriber.first;
+
+/**
+ * Native {@link AsyncJaversRepository} implementation on the MongoDB Reactive Streams driver.
+ * Nothing is blocked while waiting for MongoDB.
+ * <br/><br/>
+ *
+ * Works together with {@link MongoRepository} pointing to the same database,
+ * which is used by queries and to calculate diffs.
+ * Collection names, head id tracking and JSON mapping are taken from it,
+ * and snapshots persisted here are put to its latest snapshot cache.
+ * <br/><br/>
+ *
+ * Usage:
+ * <pre>
+ * MongoRepository mongoRepository = new MongoRepository(mongoDatabase);
+ * JaversAsync javers = JaversBuilder.javers()
+ *         .registerJaversRepository(mongoRepository)
+ *         .registerAsyncJaversRepository(new MongoAsyncRepository(reactiveMongoDatabase, mongoRepository))
+ *         .buildAsync();
+ * </pre>
+ *
+ * Requires <code>org.mongodb:mongodb-driver-reactivestreams</code> on the classpath.
+ */
+public class MongoAsyncRepository implements AsyncJaversRepository {
+    private final MongoRepository mongoRepository;
+    private final MongoCollection<Document> snapshots;
+    private final MongoCollection<Document> head;
+
+    public MongoAsyncRepository(MongoDatabase mongo, MongoRepository mongoRepository) {
+        Validate.argumentsAreNotNull(mongo, mongoRepository);
+        this.mongoRepository = mongoRepository;
+        this.snapshots = mongo.getCollection(mongoRepository.getSchemaManager().getSnapshotCollectionName());
+        this.head = mongo.getCollection(mongoRepository.getSchemaManager().getHeadCollectionName());
+    }
+
+    @Override
+    public CompletionStage<Void> persist(Commit commit) {
+        return persistSnapshots(commit).thenCompose(it -> persistHeadId(commit));
+    }
+
+    /**
+     * See MongoRepository.persistSnapshots()
+     */
+    private CompletableFuture<Void> persistSnapshots(Commit commit) {
+        if (commit.getSnapshots().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<Document> documents = commit.getSnapshots().stream()
+                .map(mongoRepository::writeToDBObject)
+                .collect(Collectors.toList());
+
+        return first(snapshots.insertMany(documents, new InsertManyOptions().ordered(false)))
+                .thenAccept(result -> {
+                    if (result.map(InsertManyResult::wasAcknowledged).orElse(false)) {
+                        mongoRepository.cacheLatest(commit.getSnapshots());
+                    }
+                });
+    }
+
+    /**
+     * See MongoRepository.persistHeadId()
+     */
+    private CompletableFuture<Void> persistHeadId(Commit commit) {
+        MongoHeadId newHeadId = new MongoHeadId(commit.getId());
+
+        switch (mongoRepository.getHeadIdTracking()) {
+            case SNAPSHOT_QUERY:
+                return CompletableFuture.completedFuture(null);
+            case ATOMIC_DOCUMENT:
+                return first(head.findOneAndUpdate(mongoRepository.atomicHeadIdFilter(),
+                        newHeadId.getMaxUpdateCommand(), new FindOneAndUpdateOptions().upsert(true)))
+                        .thenAccept(it -> {});
+            default:
+                return first(head.find(mongoRepository.legacyHeadIdFilter()).first()).thenCompose(oldHead -> {
+                    if (oldHead.isPresent()) {
+                        return first(head.updateOne(mongoRepository.objectIdFiler(oldHead.get()), newHeadId.getUpdateCommand()))
+                                .thenAccept(it -> {});
+                    }
+                    return first(head.insertOne(newHeadId.toDocument())).thenAccept(it -> {});
+                });
+        }
+    }
+
+    @Override
+    public CompletionStage<Optional<CdoSnapshot>> getLatest(GlobalId globalId) {
+        Validate.argumentIsNotNull(globalId);
+
+        return first(snapshots.find(mongoRepository.createIdQuery(globalId))
+                .sort(new Document(mongoRepository.orderField(), DESC).append(OBJECT_ID, DESC))
+                .limit(1)
+                .first())
+                .thenApply(it -> it.map(mongoRepository::readFromDBObject));
+    }
+
+    /**
+     * See MongoRepository.getHeadId()
+     */
+    @Override
+    public CompletionStage<CommitId> getHeadId() {
+        switch (mongoRepository.getHeadIdTracking()) {
+            case SNAPSHOT_QUERY:
+                return first(snapshots.find()
+                        .sort(new Document(COMMIT_ID, DESC))
+                        .projection(new Document(COMMIT_ID, 1))
+                        .limit(1)
+                        .first())
+                        .thenApply(it -> it.map(MongoRepository::commitIdOfSnapshot).orElse(null));
+            default:
+                CompletableFuture<Optional<CommitId>> legacyHeadId = first(head.find(mongoRepository.legacyHeadIdFilter()).first())
+                        .thenApply(it -> it.map(headId -> new MongoHeadId(headId).toCommitId()));
+                CompletableFuture<Optional<CommitId>> atomicHeadId = first(head.find(mongoRepository.atomicHeadIdFilter()).first())
+                        .thenApply(it -> it.map(headId -> MongoHeadId.fromAtomicDocument(headId).toCommitId()));
+
+                return legacyHeadId.thenCombine(atomicHeadId,
+                        (legacy, atomic) -> MongoRepository.maxHeadId(legacy.orElse(null), atomic.orElse(null)));
+        }
+    }
+}
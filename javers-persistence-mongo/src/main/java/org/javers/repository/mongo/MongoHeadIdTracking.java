@@ -0,0 +1,34 @@
+package org.javers.repository.mongo;
+
+/**
+ * How MongoRepository keeps track of the head commit id,
+ * used by {@link org.javers.core.CommitIdGenerator#SYNCHRONIZED_SEQUENCE}.
+ *
+ * @see MongoRepositoryConfigurationBuilder#withHeadIdTracking(MongoHeadIdTracking)
+ */
+public enum MongoHeadIdTracking {
+    /**
+     * Default. The head id document is read and then updated on each commit.
+     * <br/>
+     * Compatible with previous JaVers versions, but it's a contention point for concurrent writers
+     * and the read-then-update pair isn't atomic.
+     */
+    DOCUMENT,
+
+    /**
+     * The head id document is updated on each commit
+     * with one atomic <code>findOneAndUpdate</code> with <code>$max</code>,
+     * so the head never goes backwards.
+     * <br/>
+     * The legacy head id document stays in the same collection, the greater of both is taken as the head,
+     * so switching between DOCUMENT and ATOMIC_DOCUMENT is safe in both directions.
+     */
+    ATOMIC_DOCUMENT,
+
+    /**
+     * No head id document, nothing extra is written on commit.
+     * The head id is derived on demand from the snapshot with the greatest commit id,
+     * using the <code>commitMetadata.id</code> index.
+     */
+    SNAPSHOT_QUERY
+}
@@ -3,9 +3,17 @@ package org.javers.repository.mongo;
 import com.mongodb.client.*;
 import com.google.gson.JsonObject;
 import com.mongodb.BasicDBObject;
+import com.mongodb.MongoException;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.result.InsertManyResult;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
 import org.javers.common.string.RegexEscape;
 import org.javers.common.validation.Validate;
 import org.javers.core.CommitIdGenerator;
@@ -19,27 +27,41 @@ import org.javers.core.metamodel.object.GlobalId;
 import org.javers.core.metamodel.type.EntityType;
 import org.javers.core.metamodel.type.ManagedType;
 import org.javers.core.metamodel.type.ValueObjectType;
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.repository.api.*;
 import org.javers.repository.mongo.model.MongoHeadId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 import static org.javers.common.collections.Lists.toImmutableList;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 import static org.javers.common.validation.Validate.conditionFulfilled;
 import static org.javers.repository.mongo.DocumentConverter.fromDocument;
 import static org.javers.repository.mongo.DocumentConverter.toDocument;
 import static org.javers.repository.mongo.MongoDialect.DOCUMENT_DB;
+import static org.javers.repository.mongo.MongoDialect.MONGO_DB;
 import static org.javers.repository.mongo.MongoRepositoryConfigurationBuilder.mongoRepositoryConfiguration;
 import static org.javers.repository.mongo.MongoSchemaManager.*;
 
 /**
  * @author pawel szymczyk
  */
-public class MongoRepository implements JaversRepository, ConfigurationAware {
+public class MongoRepository implements JaversRepository, ConfigurationAware, MetricsAware {
     private final static double COMMIT_ID_PRECISION = 0.005;
+    private final static String COMMIT_ID_BLOCK = "commitIdBlock";
+    private final static String LAST_RESERVED_MAJOR_ID = "lastReservedMajorId";
+    private final static int DEFAULT_BATCH_SIZE = 0; //chosen by MongoDB
+    private static final Logger logger = LoggerFactory.getLogger(MongoRepository.class);
 
-    private static final int DESC = -1;
     private final MongoSchemaManager mongoSchemaManager;
     private JsonConverter jsonConverter;
     private CoreConfiguration coreConfiguration;
@@ -47,6 +69,11 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
     private final LatestSnapshotCache cache;
     private MongoDialect mongoDialect;
     private final boolean schemaManagementEnabled;
+    private final int streamBatchSize;
+    private final MongoHeadIdTracking headIdTracking;
+    private final boolean queryPlanCheckEnabled;
+    private final boolean bsonSnapshotCodecEnabled;
+    private MongoCollection<CdoSnapshot> snapshotsCollectionWithCodec;
 
     public MongoRepository(MongoDatabase mongo) {
         this(mongo, mongoRepositoryConfiguration().build());
@@ -89,6 +116,10 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
         int cacheSize = mongoRepositoryConfiguration.getCacheSize();
         this.cache = new LatestSnapshotCache(cacheSize, input -> getLatest(createIdQuery(input)));
         this.schemaManagementEnabled = mongoRepositoryConfiguration.isSchemaManagementEnabled();
+        this.streamBatchSize = mongoRepositoryConfiguration.getStreamBatchSize();
+        this.headIdTracking = mongoRepositoryConfiguration.getHeadIdTracking();
+        this.queryPlanCheckEnabled = mongoRepositoryConfiguration.isQueryPlanCheckEnabled();
+        this.bsonSnapshotCodecEnabled = mongoRepositoryConfiguration.isBsonSnapshotCodecEnabled();
     }
 
     @Override
@@ -128,6 +159,22 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
         return queryForSnapshots(new BasicDBObject(), Optional.of(queryParams));
     }
 
+    /**
+     * Snapshots are read from a Mongo cursor in batches of
+     * {@link MongoRepositoryConfigurationBuilder#withStreamBatchSize(int)}.
+     * Closing the stream closes the cursor.
+     */
+    @Override
+    public Stream<CdoSnapshot> getSnapshotsStream(QueryParams queryParams) {
+        return streamSnapshots(new BasicDBObject(), queryParams);
+    }
+
+    @Override
+    public Stream<CdoSnapshot> getStateHistoryStream(Set<ManagedType> givenClasses, QueryParams queryParams) {
+        Bson query = createManagedTypeQuery(givenClasses, queryParams.isAggregate());
+        return streamSnapshots(query, queryParams);
+    }
+
     @Override
     public List<CdoSnapshot> getSnapshots(Collection<SnapshotIdentifier> snapshotIdentifiers) {
         return snapshotIdentifiers.isEmpty() ? Collections.<CdoSnapshot>emptyList() :
@@ -150,18 +197,90 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
 
     @Override
     public CommitId getHeadId() {
-        Document headId = headCollection().find().first();
+        if (headIdTracking == MongoHeadIdTracking.SNAPSHOT_QUERY) {
+            return getHeadIdFromSnapshots();
+        }
+
+        // both head id documents are read, so switching between DOCUMENT and ATOMIC_DOCUMENT
+        // (in either direction) never moves the head backwards
+        CommitId legacyHeadId = Optional.ofNullable(headCollection().find(legacyHeadIdFilter()).first())
+                .map(it -> new MongoHeadId(it).toCommitId())
+                .orElse(null);
+        CommitId atomicHeadId = Optional.ofNullable(headCollection().find(atomicHeadIdFilter()).first())
+                .map(it -> MongoHeadId.fromAtomicDocument(it).toCommitId())
+                .orElse(null);
+
+        return maxHeadId(legacyHeadId, atomicHeadId);
+    }
+
+    static CommitId maxHeadId(CommitId legacyHeadId, CommitId atomicHeadId) {
+        if (legacyHeadId == null) {
+            return atomicHeadId;
+        }
+        if (atomicHeadId == null) {
+            return legacyHeadId;
+        }
+        return legacyHeadId.compareTo(atomicHeadId) >= 0 ? legacyHeadId : atomicHeadId;
+    }
+
+    private CommitId getHeadIdFromSnapshots() {
+        Document latest = snapshotsCollection()
+                .find()
+                .sort(new Document(COMMIT_ID, DESC))
+                .projection(new Document(COMMIT_ID, 1))
+                .limit(1)
+                .first();
 
-        if (headId == null) {
+        if (latest == null) {
             return null;
         }
 
-        return new MongoHeadId(headId).toCommitId();
+        return commitIdOfSnapshot(latest);
+    }
+
+    static CommitId commitIdOfSnapshot(Document snapshot) {
+        Number commitId = (Number) ((Document) snapshot.get("commitMetadata")).get("id");
+        return CommitId.valueOf(BigDecimal.valueOf(commitId.doubleValue()));
+    }
+
+    Bson atomicHeadIdFilter() {
+        return Filters.eq(OBJECT_ID, MongoHeadId.ATOMIC_HEAD_ID);
+    }
+
+    /**
+     * The legacy head id document shares the collection with the atomic one,
+     * it's the one with the string <code>id</code>
+     */
+    Bson legacyHeadIdFilter() {
+        return Filters.exists(MongoHeadId.KEY);
+    }
+
+    /**
+     * The last reserved id is kept in the <code>jv_head_id_block</code> collection
+     * and updated atomically, with <code>$max</code> and <code>$inc</code>,
+     * so blocks are never reserved twice, also by other application instances.
+     */
+    @Override
+    public long reserveCommitIdBlock(int blockSize, long headMajorId) {
+        MongoCollection<Document> blocks = mongoSchemaManager.commitIdBlockCollection();
+        Bson blockFilter = Filters.eq(OBJECT_ID, COMMIT_ID_BLOCK);
+
+        blocks.updateOne(blockFilter, Updates.max(LAST_RESERVED_MAJOR_ID, headMajorId), new UpdateOptions().upsert(true));
+        Document reserved = blocks.findOneAndUpdate(blockFilter, Updates.inc(LAST_RESERVED_MAJOR_ID, (long) blockSize),
+                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER));
+
+        return reserved.getLong(LAST_RESERVED_MAJOR_ID) - blockSize + 1;
     }
 
     @Override
     public void setJsonConverter(JsonConverter jsonConverter) {
         this.jsonConverter = jsonConverter;
+        if (bsonSnapshotCodecEnabled) {
+            MongoCollection<Document> snapshots = snapshotsCollection();
+            this.snapshotsCollectionWithCodec = snapshots
+                    .withDocumentClass(CdoSnapshot.class)
+                    .withCodecRegistry(fromRegistries(fromCodecs(new CdoSnapshotCodec(jsonConverter)), snapshots.getCodecRegistry()));
+        }
     }
 
     @Override
@@ -169,14 +288,60 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
         this.coreConfiguration = coreConfiguration;
     }
 
+    @Override
+    public void setMetrics(JaversMetrics metrics) {
+        cache.setMetrics(metrics);
+    }
+
     @Override
     public void ensureSchema() {
         if(schemaManagementEnabled) {
-            mongoSchemaManager.ensureSchema(mongoDialect);
+            mongoSchemaManager.ensureSchema(mongoDialect, orderField());
+        }
+        if (queryPlanCheckEnabled && mongoDialect == MONGO_DB) {
+            checkQueryPlans();
+        }
+    }
+
+    /**
+     * Logs a warning for each typical query which needs a blocking SORT stage,
+     * in MongoDB, it's limited by the memory available for sorting
+     * and slow for objects with long history.
+     */
+    private void checkQueryPlans() {
+        //query shape -> fields to be indexed together with the sort fields
+        Map<Bson, String> queries = new LinkedHashMap<>();
+        queries.put(new BasicDBObject(GLOBAL_ID_KEY, "?"), GLOBAL_ID_KEY);
+        queries.put(createEntityTypeQuery(false, "?"), GLOBAL_ID_ENTITY);
+        queries.put(createEntityTypeQuery(true, "?"), GLOBAL_ID_ENTITY + ", " + GLOBAL_ID_OWNER_ID_ENTITY);
+        queries.put(createValueObjectTypeQuery("?"), GLOBAL_ID_VALUE_OBJECT);
+
+        try {
+            queries.forEach((query, fields) -> {
+                Document plan = findMongoSnapshots(query, Optional.empty()).explain();
+                if (hasStage(plan, "SORT")) {
+                    logger.warn("JQL queries by {} need a blocking SORT stage in MongoDB collection '{}', " +
+                                "create compound indexes (<field>: 1, {}: -1, _id: -1) for these fields",
+                            fields, mongoSchemaManager.getSnapshotCollectionName(), orderField());
+                }
+            });
+        } catch (MongoException e) {
+            logger.warn("can't check query plans in MongoDB, " + e.getMessage());
+        }
+    }
+
+    private static boolean hasStage(Object plan, String stage) {
+        if (plan instanceof Document) {
+            Document doc = (Document) plan;
+            return stage.equals(doc.get("stage")) || doc.values().stream().anyMatch(it -> hasStage(it, stage));
         }
+        if (plan instanceof List) {
+            return ((List<?>) plan).stream().anyMatch(it -> hasStage(it, stage));
+        }
+        return false;
     }
 
-    private Bson createIdQuery(GlobalId id) {
+    Bson createIdQuery(GlobalId id) {
         return new BasicDBObject(GLOBAL_ID_KEY, id.value());
     }
 
@@ -200,31 +365,36 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
     private Bson createManagedTypeQuery(Set<ManagedType> managedTypes, boolean aggregate) {
         List<Bson> classFilters = managedTypes.stream().map( managedType -> {
                 if (managedType instanceof ValueObjectType) {
-                    return createValueObjectTypeQuery(managedType);
+                    return createValueObjectTypeQuery(managedType.getName());
                 } else {
-                    return createEntityTypeQuery(aggregate, managedType);
+                    return createEntityTypeQuery(aggregate, managedType.getName());
                 }
             }).collect(toImmutableList());
         return Filters.or(classFilters);
     }
 
-    private Bson createValueObjectTypeQuery(ManagedType managedType) {
-        return new BasicDBObject(GLOBAL_ID_VALUE_OBJECT, managedType.getName());
+    private Bson createValueObjectTypeQuery(String typeName) {
+        return new BasicDBObject(GLOBAL_ID_VALUE_OBJECT, typeName);
     }
 
-    private Bson createEntityTypeQuery(boolean aggregate, ManagedType managedType) {
-        Bson entityTypeQuery = prefixQuery(GLOBAL_ID_KEY, managedType.getName() + "/");
-        if (!aggregate) {
-            entityTypeQuery = Filters.and(entityTypeQuery, Filters.exists(GLOBAL_ID_ENTITY));
+    /**
+     * Equality on <code>globalId.entity</code> and <code>globalId.ownerId.entity</code>
+     * (instead of a prefix match on <code>globalId_key</code>),
+     * so results are sorted by the compound indexes, see {@link MongoSchemaManager#ensureSchema(MongoDialect, String)}
+     */
+    private Bson createEntityTypeQuery(boolean aggregate, String typeName) {
+        Bson entityTypeQuery = new BasicDBObject(GLOBAL_ID_ENTITY, typeName);
+        if (aggregate) {
+            entityTypeQuery = Filters.or(entityTypeQuery, new BasicDBObject(GLOBAL_ID_OWNER_ID_ENTITY, typeName));
         }
         return entityTypeQuery;
     }
 
-    private CdoSnapshot readFromDBObject(Document dbObject) {
+    CdoSnapshot readFromDBObject(Document dbObject) {
         return jsonConverter.fromJson(fromDocument(mapKeyDotReplacer.back(dbObject)), CdoSnapshot.class);
     }
 
-    private Document writeToDBObject(CdoSnapshot snapshot){
+    Document writeToDBObject(CdoSnapshot snapshot){
         conditionFulfilled(jsonConverter != null, "MongoRepository: jsonConverter is null");
         Document dbObject = toDocument((JsonObject)jsonConverter.toJsonElement(snapshot));
         dbObject = mapKeyDotReplacer.replaceInSnapshotState(dbObject);
@@ -236,23 +406,73 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
         return mongoSchemaManager.snapshotsCollection();
     }
 
+    MongoSchemaManager getSchemaManager() {
+        return mongoSchemaManager;
+    }
+
+    MongoHeadIdTracking getHeadIdTracking() {
+        return headIdTracking;
+    }
+
+    /**
+     * Puts snapshots persisted by {@link MongoAsyncRepository} to the latest snapshot cache
+     */
+    void cacheLatest(List<CdoSnapshot> snapshots) {
+        snapshots.forEach(cache::put);
+    }
+
     private MongoCollection<Document> headCollection() {
         return mongoSchemaManager.headCollection();
     }
 
+    /**
+     * All snapshots of a commit are written in one unordered <code>insertMany</code> round-trip.
+     * The cache is updated only when the write is acknowledged.
+     */
     private void persistSnapshots(Commit commit, Optional<ClientSession> clientSession) {
-        MongoCollection<Document> collection = snapshotsCollection();
-        commit.getSnapshots().forEach(snapshot -> {
-            transactionalInsert(collection, writeToDBObject(snapshot), clientSession);
+        if (commit.getSnapshots().isEmpty()) {
+            return;
+        }
+
+        InsertManyOptions unordered = new InsertManyOptions().ordered(false);
+        InsertManyResult result;
+        if (bsonSnapshotCodecEnabled) {
+            result = insertMany(snapshotsCollectionWithCodec, commit.getSnapshots(), unordered, clientSession);
+        } else {
+            List<Document> documents = commit.getSnapshots().stream()
+                    .map(this::writeToDBObject)
+                    .collect(Collectors.toList());
+            result = insertMany(snapshotsCollection(), documents, unordered, clientSession);
+        }
+
+        if (result.wasAcknowledged()) {
             //TODO should be evicted on transaction rollback
-            cache.put(snapshot);
-        });
+            commit.getSnapshots().forEach(cache::put);
+        }
+    }
+
+    private static <T> InsertManyResult insertMany(MongoCollection<T> collection, List<T> documents,
+                                                   InsertManyOptions options, Optional<ClientSession> clientSession) {
+        return clientSession.map(s -> collection.insertMany(s, documents, options))
+                .orElseGet(() -> collection.insertMany(documents, options));
     }
 
     private void persistHeadId(Commit commit, Optional<ClientSession> clientSession) {
+        if (headIdTracking == MongoHeadIdTracking.SNAPSHOT_QUERY) {
+            return;
+        }
+
         MongoCollection<Document> headIdCollection = headCollection();
 
-        Document oldHead = headIdCollection.find().first();
+        if (headIdTracking == MongoHeadIdTracking.ATOMIC_DOCUMENT) {
+            Bson update = new MongoHeadId(commit.getId()).getMaxUpdateCommand();
+            FindOneAndUpdateOptions upsert = new FindOneAndUpdateOptions().upsert(true);
+            clientSession.map(s -> headIdCollection.findOneAndUpdate(s, atomicHeadIdFilter(), update, upsert))
+                    .orElseGet(() -> headIdCollection.findOneAndUpdate(atomicHeadIdFilter(), update, upsert));
+            return;
+        }
+
+        Document oldHead = headIdCollection.find(legacyHeadIdFilter()).first();
         MongoHeadId newHeadId = new MongoHeadId(commit.getId());
 
         if (oldHead == null) {
@@ -262,22 +482,65 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
         }
     }
 
-    private Bson objectIdFiler(Document document) {
+    Bson objectIdFiler(Document document) {
         return Filters.eq(OBJECT_ID, document.getObjectId("_id"));
     }
 
-    private MongoCursor<Document> getMongoSnapshotsCursor(Bson query, Optional<QueryParams> queryParams) {
-        FindIterable<Document> findIterable = snapshotsCollection()
+    private MongoCursor<CdoSnapshot> getMongoSnapshotsCursor(Bson query, Optional<QueryParams> queryParams, int batchSize) {
+        if (bsonSnapshotCodecEnabled) {
+            return findMongoSnapshots(snapshotsCollectionWithCodec, query, queryParams)
+                    .batchSize(batchSize)
+                    .iterator();
+        }
+        return findMongoSnapshots(snapshotsCollection(), query, queryParams)
+                .batchSize(batchSize)
+                .map(this::readFromDBObject)
+                .iterator();
+    }
+
+    private FindIterable<Document> findMongoSnapshots(Bson query, Optional<QueryParams> queryParams) {
+        return findMongoSnapshots(snapshotsCollection(), query, queryParams);
+    }
+
+    private <T> FindIterable<T> findMongoSnapshots(MongoCollection<T> collection, Bson query, Optional<QueryParams> queryParams) {
+        FindIterable<T> findIterable = collection
             .find(applyQueryParams(query, queryParams));
 
+        findIterable.sort(new Document(orderField(), DESC).append(OBJECT_ID, DESC));
+
+        return applyQueryParams(findIterable, queryParams);
+    }
+
+    /**
+     * Snapshots are sorted by this field and then by _id,
+     * so the order is total and can be used for keyset paging
+     */
+    String orderField() {
         if (coreConfiguration.getCommitIdGenerator() == CommitIdGenerator.SYNCHRONIZED_SEQUENCE) {
-            findIterable.sort(new Document(COMMIT_ID, DESC));
+            return COMMIT_ID;
         }
-        else {
-            findIterable.sort(new Document(COMMIT_DATE_INSTANT, DESC));
+        return COMMIT_DATE_INSTANT;
+    }
+
+    /**
+     * Keyset predicate, consistent with the sort order, see {@link #orderField()}.
+     * Matches nothing if there is no such snapshot.
+     */
+    private Bson afterSnapshotFilter(SnapshotIdentifier afterSnapshot) {
+        Document after = snapshotsCollection()
+                .find(Filters.and(createIdQuery(afterSnapshot.getGlobalId()), createVersionQuery(afterSnapshot.getVersion())))
+                .first();
+
+        if (after == null) {
+            return Filters.exists(OBJECT_ID, false);
         }
 
-        return applyQueryParams(findIterable, queryParams).iterator();
+        Object orderValue = after.getEmbedded(Arrays.asList(orderField().split("\\.")), Object.class);
+        ObjectId objectId = after.getObjectId(OBJECT_ID);
+
+        return Filters.or(
+                Filters.lt(orderField(), orderValue),
+                Filters.and(Filters.eq(orderField(), orderValue), Filters.lt(OBJECT_ID, objectId)));
     }
 
     private Bson applyQueryParams(Bson query, Optional<QueryParams> queryParams) {
@@ -326,6 +589,9 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
             if (params.snapshotType().isPresent()) {
                 query = Filters.and(query, new BasicDBObject(SNAPSHOT_TYPE, params.snapshotType().get().name()));
             }
+            if (params.afterSnapshot().isPresent()) {
+                query = Filters.and(query, afterSnapshotFilter(params.afterSnapshot().get()));
+            }
 
         }
         return query;
@@ -342,7 +608,7 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
         return Filters.eq(COMMIT_ID, commitId.getMajorId());
     }
 
-    private FindIterable<Document> applyQueryParams(FindIterable<Document> findIterable, Optional<QueryParams> queryParams) {
+    private <T> FindIterable<T> applyQueryParams(FindIterable<T> findIterable, Optional<QueryParams> queryParams) {
         if (queryParams.isPresent()) {
             QueryParams params = queryParams.get();
             findIterable = findIterable
@@ -374,22 +640,24 @@ public class MongoRepository implements JaversRepository, ConfigurationAware {
 
     private Optional<CdoSnapshot> getLatest(Bson idQuery) {
         QueryParams queryParams = QueryParamsBuilder.withLimit(1).build();
-        MongoCursor<Document> mongoLatest = getMongoSnapshotsCursor(idQuery, Optional.of(queryParams));
-
-        return getOne(mongoLatest).map(d -> readFromDBObject(d));
+        return getOne(getMongoSnapshotsCursor(idQuery, Optional.of(queryParams), DEFAULT_BATCH_SIZE));
     }
 
     private List<CdoSnapshot> queryForSnapshots(Bson query, Optional<QueryParams> queryParams) {
         List<CdoSnapshot> snapshots = new ArrayList<>();
-        try (MongoCursor<Document> mongoSnapshots = getMongoSnapshotsCursor(query, queryParams)) {
-            while (mongoSnapshots.hasNext()) {
-                Document dbObject = mongoSnapshots.next();
-                snapshots.add(readFromDBObject(dbObject));
-            }
+        try (MongoCursor<CdoSnapshot> mongoSnapshots = getMongoSnapshotsCursor(query, queryParams, DEFAULT_BATCH_SIZE)) {
+            mongoSnapshots.forEachRemaining(snapshots::add);
             return snapshots;
         }
     }
 
+    private Stream<CdoSnapshot> streamSnapshots(Bson query, QueryParams queryParams) {
+        MongoCursor<CdoSnapshot> mongoSnapshots = getMongoSnapshotsCursor(query, Optional.of(queryParams), streamBatchSize);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(mongoSnapshots, ORDERED | NONNULL), false)
+                .onClose(mongoSnapshots::close);
+    }
+
     private static <T> Optional<T> getOne(MongoCursor<T> mongoCursor){
         try{
             if (!mongoCursor.hasNext()) {
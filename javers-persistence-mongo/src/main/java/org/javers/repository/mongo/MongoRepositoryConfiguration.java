@@ -10,21 +10,33 @@ class MongoRepositoryConfiguration {
 
     private static final String DEFAULT_HEAD_COLLECTION_NAME = "jv_head_id";
     private final static int DEFAULT_CACHE_SIZE = 5000;
+    private final static int DEFAULT_STREAM_BATCH_SIZE = 100;
     private final static MongoDialect DEFAULT_MONGO_DIALECT = MONGO_DB;
+    private final static MongoHeadIdTracking DEFAULT_HEAD_ID_TRACKING = MongoHeadIdTracking.DOCUMENT;
 
     private final String snapshotCollectionName;
     private final String headCollectionName;
     private final Integer cacheSize;
     private final MongoDialect mongoDialect;
     private final boolean schemaManagementEnabled;
+    private final Integer streamBatchSize;
+    private final MongoHeadIdTracking headIdTracking;
+    private final boolean queryPlanCheckEnabled;
+    private final boolean bsonSnapshotCodecEnabled;
 
     MongoRepositoryConfiguration(String snapshotCollectionName, String headCollectionName, Integer cacheSize,
-                                 MongoDialect mongoDialect, boolean schemaManagementEnabled) {
+                                 MongoDialect mongoDialect, boolean schemaManagementEnabled, Integer streamBatchSize,
+                                 MongoHeadIdTracking headIdTracking, boolean queryPlanCheckEnabled,
+                                 boolean bsonSnapshotCodecEnabled) {
         this.snapshotCollectionName = snapshotCollectionName;
         this.headCollectionName = headCollectionName;
         this.cacheSize = cacheSize;
         this.mongoDialect = mongoDialect;
         this.schemaManagementEnabled = schemaManagementEnabled;
+        this.streamBatchSize = streamBatchSize;
+        this.headIdTracking = headIdTracking;
+        this.queryPlanCheckEnabled = queryPlanCheckEnabled;
+        this.bsonSnapshotCodecEnabled = bsonSnapshotCodecEnabled;
     }
 
     String getSnapshotCollectionName() {
@@ -46,4 +58,20 @@ class MongoRepositoryConfiguration {
     boolean isSchemaManagementEnabled() {
         return schemaManagementEnabled;
     }
+
+    int getStreamBatchSize() {
+        return Optional.ofNullable(streamBatchSize).orElse(DEFAULT_STREAM_BATCH_SIZE);
+    }
+
+    MongoHeadIdTracking getHeadIdTracking() {
+        return Optional.ofNullable(headIdTracking).orElse(DEFAULT_HEAD_ID_TRACKING);
+    }
+
+    boolean isQueryPlanCheckEnabled() {
+        return queryPlanCheckEnabled;
+    }
+
+    boolean isBsonSnapshotCodecEnabled() {
+        return bsonSnapshotCodecEnabled;
+    }
 }
@@ -9,6 +9,10 @@ public class MongoRepositoryConfigurationBuilder {
     private Integer cacheSize;
     private MongoDialect dialect;
     private boolean schemaManagementEnabled = true;
+    private Integer streamBatchSize;
+    private MongoHeadIdTracking headIdTracking;
+    private boolean queryPlanCheckEnabled = true;
+    private boolean bsonSnapshotCodecEnabled = true;
 
     public static MongoRepositoryConfigurationBuilder mongoRepositoryConfiguration() {
         return new MongoRepositoryConfigurationBuilder();
@@ -45,7 +49,51 @@ public class MongoRepositoryConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Cursor batch size used by {@link MongoRepository#getSnapshotsStream(org.javers.repository.api.QueryParams)}
+     *
+     * @param streamBatchSize default is 100
+     */
+    public MongoRepositoryConfigurationBuilder withStreamBatchSize(int streamBatchSize) {
+        this.streamBatchSize = streamBatchSize;
+        return this;
+    }
+
+    /**
+     * @param headIdTracking default is {@link MongoHeadIdTracking#DOCUMENT}
+     */
+    public MongoRepositoryConfigurationBuilder withHeadIdTracking(MongoHeadIdTracking headIdTracking) {
+        this.headIdTracking = headIdTracking;
+        return this;
+    }
+
+    /**
+     * When enabled, query plans of typical JQL queries are checked on startup, with <code>explain</code>,
+     * and a warning is logged if a query needs a blocking, in-memory SORT stage,
+     * which means that sort-covering indexes are missing.
+     * Supported only by {@link MongoDialect#MONGO_DB}.
+     *
+     * @param queryPlanCheckEnabled default is true
+     */
+    public MongoRepositoryConfigurationBuilder withQueryPlanCheckEnabled(boolean queryPlanCheckEnabled) {
+        this.queryPlanCheckEnabled = queryPlanCheckEnabled;
+        return this;
+    }
+
+    /**
+     * When enabled, snapshots are read and written with a BSON codec,
+     * which streams BSON directly to and from the JSON form of snapshots.
+     * When disabled, each snapshot is converted to {@link org.bson.Document} first.
+     * Both produce the same documents.
+     *
+     * @param bsonSnapshotCodecEnabled default is true
+     */
+    public MongoRepositoryConfigurationBuilder withBsonSnapshotCodecEnabled(boolean bsonSnapshotCodecEnabled) {
+        this.bsonSnapshotCodecEnabled = bsonSnapshotCodecEnabled;
+        return this;
+    }
+
     public MongoRepositoryConfiguration build() {
-        return new MongoRepositoryConfiguration(snapshotCollectionName, headCollectionName, cacheSize, dialect, schemaManagementEnabled);
+        return new MongoRepositoryConfiguration(snapshotCollectionName, headCollectionName, cacheSize, dialect, schemaManagementEnabled, streamBatchSize, headIdTracking, queryPlanCheckEnabled, bsonSnapshotCodecEnabled);
     }
 }
@@ -19,6 +19,7 @@ import static org.javers.repository.mongo.MongoDialect.MONGO_DB;
  */
 public class MongoSchemaManager {
     static final int ASC = 1;
+    static final int DESC = -1;
     static final String COMMIT_ID = "commitMetadata.id";
     static final String COMMIT_DATE = "commitMetadata.commitDate";
     static final String COMMIT_DATE_INSTANT = "commitMetadata.commitDateInstant";
@@ -47,14 +48,31 @@ public class MongoSchemaManager {
         this.headCollectionName = headCollectionName;
     }
 
-    public void ensureSchema(MongoDialect dialect) {
+    String getSnapshotCollectionName() {
+        return snapshotCollectionName;
+    }
+
+    String getHeadCollectionName() {
+        return headCollectionName;
+    }
+
+    /**
+     * @param orderField snapshots are sorted by this field and then by _id,
+     *                   see MongoRepository.orderField()
+     */
+    public void ensureSchema(MongoDialect dialect, String orderField) {
         //ensures collections and indexes
         MongoCollection<Document> snapshots = snapshotsCollection();
-        snapshots.createIndex(new BasicDBObject(GLOBAL_ID_KEY, ASC));
-        snapshots.createIndex(new BasicDBObject(GLOBAL_ID_VALUE_OBJECT, ASC));
-        snapshots.createIndex(new BasicDBObject(GLOBAL_ID_ENTITY, ASC));
-        snapshots.createIndex(new BasicDBObject(GLOBAL_ID_OWNER_ID_ENTITY, ASC));
+        //compound indexes, equality field first, then the sort fields,
+        //so queries by these fields are sorted without a blocking SORT stage
+        snapshots.createIndex(sortCoveringIndex(GLOBAL_ID_KEY, orderField));
+        snapshots.createIndex(sortCoveringIndex(GLOBAL_ID_VALUE_OBJECT, orderField));
+        snapshots.createIndex(sortCoveringIndex(GLOBAL_ID_ENTITY, orderField));
+        snapshots.createIndex(sortCoveringIndex(GLOBAL_ID_OWNER_ID_ENTITY, orderField));
         snapshots.createIndex(new BasicDBObject(CHANGED_PROPERTIES, ASC));
+        //snapshots are sorted by one of these, and by _id, see QueryBuilder.afterSnapshot()
+        snapshots.createIndex(new BasicDBObject(COMMIT_ID, ASC).append(OBJECT_ID, ASC));
+        snapshots.createIndex(new BasicDBObject(COMMIT_DATE_INSTANT, ASC).append(OBJECT_ID, ASC));
 
         if (dialect == MONGO_DB) {
             snapshots.createIndex(new BasicDBObject(COMMIT_PROPERTIES + ".key", ASC).append(COMMIT_PROPERTIES + ".value", ASC),
@@ -91,6 +109,10 @@ public class MongoSchemaManager {
         }
     }
 
+    private static BasicDBObject sortCoveringIndex(String equalityField, String orderField) {
+        return new BasicDBObject(equalityField, ASC).append(orderField, DESC).append(OBJECT_ID, DESC);
+    }
+
     MongoCollection<Document> snapshotsCollection() {
         return mongo.getCollection(snapshotCollectionName);
     }
@@ -98,4 +120,11 @@ public class MongoSchemaManager {
     MongoCollection<Document> headCollection() {
         return mongo.getCollection(headCollectionName);
     }
+
+    /**
+     * Used by CommitIdGenerator.BLOCK_SEQUENCE
+     */
+    MongoCollection<Document> commitIdBlockCollection() {
+        return mongo.getCollection(headCollectionName + "_block");
+    }
 }
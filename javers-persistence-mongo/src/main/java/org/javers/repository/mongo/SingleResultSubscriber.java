@@ -0,0 +1,45 @@
+package org.javers.repository.mongo;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Completes a future with the first item emitted by a Publisher,
+ * or with empty, if the Publisher completes without items
+ */
+class SingleResultSubscriber<T> implements Subscriber<T> {
+    private final CompletableFuture<Optional<T>> result = new CompletableFuture<>();
+    private T first;
+
+    static <T> CompletableFuture<Optional<T>> first(Publisher<T> publisher) {
+        SingleResultSubscriber<T> subscriber = new SingleResultSubscriber<>();
+        publisher.subscribe(subscriber);
+        return subscriber.result;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (first == null) {
+            first = item;
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        result.complete(Optional.ofNullable(first));
+    }
+}
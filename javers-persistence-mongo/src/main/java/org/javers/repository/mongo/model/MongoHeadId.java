@@ -1,13 +1,26 @@
 package org.javers.repository.mongo.model;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
 import org.javers.core.commit.CommitId;
 
+import java.math.BigDecimal;
+
 /**
  * @author pawel szymczyk
  */
 public class MongoHeadId {
-    private static final String KEY = "id";
+    /**
+     * Key of the legacy head id document, with the commit id stored as a string
+     */
+    public static final String KEY = "id";
+
+    /**
+     * _id of the head id document written atomically, with the commit id stored as a number
+     */
+    public static final String ATOMIC_HEAD_ID = "head";
+    private static final String NUMBER_KEY = "idNumber";
 
     private final String id;
 
@@ -19,6 +32,17 @@ public class MongoHeadId {
         this.id = id.value();
     }
 
+    /**
+     * Reads the head id document written with {@link #getMaxUpdateCommand()}
+     */
+    public static MongoHeadId fromAtomicDocument(Document doc) {
+        Object idNumber = doc.get(NUMBER_KEY);
+        if (idNumber instanceof Decimal128) {
+            return new MongoHeadId(CommitId.valueOf(((Decimal128) idNumber).bigDecimalValue()));
+        }
+        return new MongoHeadId(CommitId.valueOf(BigDecimal.valueOf(((Number) idNumber).doubleValue())));
+    }
+
     public CommitId toCommitId() {
         return CommitId.valueOf(getId());
     }
@@ -31,6 +55,14 @@ public class MongoHeadId {
         return new Document("$set", toDocument());
     }
 
+    /**
+     * Numbers are compared by <code>$max</code>, so the head never goes backwards.
+     * Stored as Decimal128, a double loses precision for large commit ids
+     */
+    public Bson getMaxUpdateCommand() {
+        return new Document("$max", new Document(NUMBER_KEY, new Decimal128(toCommitId().valueAsNumber())));
+    }
+
     private String getId() {
         return id;
     }
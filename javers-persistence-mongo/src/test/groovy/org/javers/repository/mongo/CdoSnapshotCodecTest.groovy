@@ -0,0 +1,62 @@
+package org.javers.repository.mongo
+
+import org.javers.core.JaversBuilder
+import org.javers.core.model.SnapshotEntity
+import spock.lang.Unroll
+
+import java.time.LocalDate
+
+import static org.javers.repository.jql.QueryBuilder.byInstanceId
+import static org.javers.repository.mongo.MongoRepositoryConfigurationBuilder.mongoRepositoryConfiguration
+
+class CdoSnapshotCodecTest extends BaseMongoTest {
+
+    @Unroll
+    def "should read snapshots written with #writer by #reader"() {
+        given:
+        def mongoDb = mongoClient.getDatabase("test")
+        mongoDb.getCollection("jv_snapshots").drop()
+        def writingJavers = javers(mongoDb, writerCodec)
+        def readingJavers = javers(mongoDb, readerCodec)
+
+        def entity = new SnapshotEntity(id: 1,
+                intProperty: 5,
+                dob: LocalDate.of(2020, 1, 1),
+                arrayOfIntegers: [1, 2],
+                mapOfPrimitives: ["a.b": 1, "c": 2],
+                listOfValueObjects: [],
+                entityRef: new SnapshotEntity(id: 2))
+
+        when:
+        writingJavers.commit("author", entity)
+        entity.mapOfPrimitives["d.e.f"] = 3
+        writingJavers.commit("author", entity)
+
+        def written = writingJavers.findSnapshots(byInstanceId(1, SnapshotEntity).build())
+        def read = readingJavers.findSnapshots(byInstanceId(1, SnapshotEntity).build())
+
+        then:
+        read.size() == 2
+        read.collect { it.state } == written.collect { it.state }
+        read.collect { it.commitMetadata } == written.collect { it.commitMetadata }
+        read[0].getPropertyValue("mapOfPrimitives") == ["a.b": 1, "c": 2, "d.e.f": 3]
+        read[0].changed == ["mapOfPrimitives"]
+
+        where:
+        writerCodec | readerCodec
+        true        | false
+        false       | true
+        true        | true
+        writer = writerCodec ? "BSON codec" : "Document"
+        reader = readerCodec ? "BSON codec" : "Document"
+    }
+
+    private javers(mongoDb, boolean codecEnabled) {
+        JaversBuilder.javers()
+                .registerJaversRepository(new MongoRepository(mongoDb, mongoRepositoryConfiguration()
+                        .withCacheSize(0)
+                        .withBsonSnapshotCodecEnabled(codecEnabled)
+                        .build()))
+                .build()
+    }
+}
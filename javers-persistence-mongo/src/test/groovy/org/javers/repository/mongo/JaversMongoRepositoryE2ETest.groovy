@@ -3,6 +3,7 @@ package org.javers.repository.mongo
 import com.mongodb.client.MongoDatabase
 import org.javers.core.JaversRepositoryShadowE2ETest
 import org.javers.core.JaversTestBuilder
+import org.javers.core.model.DummyAddress
 import org.javers.core.model.DummyUser
 import org.javers.core.model.SnapshotEntity
 import org.javers.repository.api.JaversRepository
@@ -73,6 +74,20 @@ abstract class JaversMongoRepositoryE2ETest extends JaversRepositoryShadowE2ETes
         mongoRepository.getHeadId().getMinorId() == 1
     }
 
+    def "should persist all snapshots of a commit with value objects"() {
+        given:
+        def cdo = new SnapshotEntity(id: 1,
+                listOfValueObjects: (1..200).collect { new DummyAddress("city" + it) })
+
+        when:
+        def commit = javers.commit('author', cdo)
+
+        then:
+        commit.snapshots.size() == 201
+        getMongoDb().getCollection("jv_snapshots").countDocuments() == 201
+        javers.findSnapshots(byInstanceId(1, SnapshotEntity).withChildValueObjects().build()).size() == 201
+    }
+
     def "should persist commit and get latest snapshot"() {
         given:
         MongoRepository mongoRepository = (MongoRepository)repository
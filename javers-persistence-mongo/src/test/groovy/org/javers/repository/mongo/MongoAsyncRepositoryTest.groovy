@@ -0,0 +1,71 @@
+package org.javers.repository.mongo
+
+import com.mongodb.reactivestreams.client.MongoClients
+import org.javers.core.JaversBuilder
+import org.javers.core.model.SnapshotEntity
+import spock.lang.Shared
+import spock.lang.Unroll
+
+import static org.javers.repository.jql.QueryBuilder.byInstanceId
+import static org.javers.repository.mongo.MongoRepositoryConfigurationBuilder.mongoRepositoryConfiguration
+
+class MongoAsyncRepositoryTest extends BaseMongoTest {
+
+    @Shared
+    def reactiveMongoClient = MongoClients.create(dockerizedMongoContainer.replicaSetUrl)
+
+    def cleanupSpec() {
+        reactiveMongoClient.close()
+    }
+
+    @Unroll
+    def "should commit asynchronously with #headIdTracking head id tracking"() {
+        given:
+        def mongoRepository = new MongoRepository(mongoClient.getDatabase("test"),
+                mongoRepositoryConfiguration().withHeadIdTracking(headIdTracking).build())
+        mongoRepository.clean()
+        def asyncRepository = new MongoAsyncRepository(reactiveMongoClient.getDatabase("test"), mongoRepository)
+
+        def javers = JaversBuilder.javers()
+                .registerJaversRepository(mongoRepository)
+                .registerAsyncJaversRepository(asyncRepository)
+                .buildAsync()
+
+        when:
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 1)).toCompletableFuture().join()
+        def commit = javers.commit("author", new SnapshotEntity(id: 1, intProperty: 2)).toCompletableFuture().join()
+
+        then:
+        asyncRepository.getHeadId().toCompletableFuture().join() == commit.id
+        mongoRepository.getHeadId() == commit.id
+        javers.getLatestSnapshot(1, SnapshotEntity).toCompletableFuture().join().get().version == 2
+        javers.findChanges(byInstanceId(1, SnapshotEntity).build()).toCompletableFuture().join()
+              .find { it.commitMetadata.get().id == commit.id }.right == 2
+
+        where:
+        headIdTracking << MongoHeadIdTracking.values()
+    }
+
+    def "should not call the blocking repository when committing asynchronously"() {
+        given:
+        MongoRepository mongoRepository = Spy(MongoRepository, constructorArgs: [mongoClient.getDatabase("test")])
+        mongoRepository.clean()
+        def asyncRepository = new MongoAsyncRepository(reactiveMongoClient.getDatabase("test"), mongoRepository)
+
+        def javers = JaversBuilder.javers()
+                .registerJaversRepository(mongoRepository)
+                .registerAsyncJaversRepository(asyncRepository)
+                .buildAsync()
+
+        when:
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 1)).toCompletableFuture().join()
+        def commit = javers.commit("author", new SnapshotEntity(id: 1, intProperty: 2)).toCompletableFuture().join()
+
+        then:
+        0 * mongoRepository.getHeadId()
+        0 * mongoRepository.getLatest(_)
+        0 * mongoRepository.persist(_)
+        commit.snapshots[0].version == 2
+        asyncRepository.getHeadId().toCompletableFuture().join() == commit.id
+    }
+}
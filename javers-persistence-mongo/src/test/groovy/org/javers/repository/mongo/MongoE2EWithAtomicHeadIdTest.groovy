@@ -0,0 +1,69 @@
+package org.javers.repository.mongo
+
+import org.bson.types.Decimal128
+import org.javers.repository.api.JaversRepository
+
+import static org.javers.core.model.DummyUser.dummyUser
+import static org.javers.repository.mongo.MongoRepositoryConfigurationBuilder.mongoRepositoryConfiguration
+
+class MongoE2EWithAtomicHeadIdTest extends MongoE2ETest {
+
+    @Override
+    protected JaversRepository prepareJaversRepository() {
+        def mongoRepository = new MongoRepository(getMongoDb(),
+                mongoRepositoryConfiguration()
+                        .withHeadIdTracking(MongoHeadIdTracking.ATOMIC_DOCUMENT)
+                        .build())
+        mongoRepository.clean()
+        mongoRepository
+    }
+
+    def "should not move head id backwards"() {
+        given:
+        MongoRepository mongoRepository = (MongoRepository)repository
+        def commitFactory = javersTestBuilder.commitFactory
+
+        def commit1 = commitFactory.create("author", [:], dummyUser("Kazik").withAge(1))
+        def commit2 = commitFactory.create("author", [:], dummyUser("Kazik").withAge(2))
+
+        when:
+        mongoRepository.persist(commit2)
+        mongoRepository.persist(commit1)
+
+        then:
+        mongoRepository.getHeadId() == commit2.id
+        mongoClient.getDatabase("test").getCollection("jv_head_id").countDocuments() == 1
+    }
+
+    def "should switch between DOCUMENT and ATOMIC_DOCUMENT head id tracking in both directions"() {
+        given:
+        MongoRepository atomicRepository = (MongoRepository)repository
+        def documentRepository = new MongoRepository(getMongoDb())
+        def commitFactory = javersTestBuilder.commitFactory
+
+        when:
+        def commit1 = commitFactory.create("author", [:], dummyUser("Kazik").withAge(1))
+        documentRepository.persist(commit1)
+        def commit2 = commitFactory.create("author", [:], dummyUser("Kazik").withAge(2))
+        atomicRepository.persist(commit2)
+        def commit3 = commitFactory.create("author", [:], dummyUser("Kazik").withAge(3))
+        documentRepository.persist(commit3)
+
+        then:
+        commit2.id.majorId == commit1.id.majorId + 1
+        commit3.id.majorId == commit2.id.majorId + 1
+        atomicRepository.getHeadId() == commit3.id
+        documentRepository.getHeadId() == commit3.id
+
+        when:
+        def commit4 = commitFactory.create("author", [:], dummyUser("Kazik").withAge(4))
+        atomicRepository.persist(commit4)
+
+        then:
+        commit4.id.majorId == commit3.id.majorId + 1
+        documentRepository.getHeadId() == commit4.id
+        mongoClient.getDatabase("test").getCollection("jv_head_id").countDocuments() == 2
+        mongoClient.getDatabase("test").getCollection("jv_head_id")
+                .find(atomicRepository.atomicHeadIdFilter()).first().get("idNumber") instanceof Decimal128
+    }
+}
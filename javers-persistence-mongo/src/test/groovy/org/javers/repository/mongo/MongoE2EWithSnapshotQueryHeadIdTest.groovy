@@ -0,0 +1,30 @@
+package org.javers.repository.mongo
+
+import org.javers.core.model.SnapshotEntity
+import org.javers.repository.api.JaversRepository
+
+import static org.javers.repository.mongo.MongoRepositoryConfigurationBuilder.mongoRepositoryConfiguration
+
+class MongoE2EWithSnapshotQueryHeadIdTest extends MongoE2ETest {
+
+    @Override
+    protected JaversRepository prepareJaversRepository() {
+        def mongoRepository = new MongoRepository(getMongoDb(),
+                mongoRepositoryConfiguration()
+                        .withHeadIdTracking(MongoHeadIdTracking.SNAPSHOT_QUERY)
+                        .build())
+        mongoRepository.clean()
+        mongoRepository
+    }
+
+    def "should derive head id from snapshots, without the head id document"() {
+        when:
+        def commit1 = javers.commit('author', new SnapshotEntity(id: 1, intProperty: 1))
+        def commit2 = javers.commit('author', new SnapshotEntity(id: 1, intProperty: 2))
+
+        then:
+        repository.getHeadId() == commit2.id
+        commit2.id.majorId == commit1.id.majorId + 1
+        mongoClient.getDatabase("test").getCollection("jv_head_id").countDocuments() == 0
+    }
+}
@@ -0,0 +1,59 @@
+package org.javers.repository.mongo
+
+import com.mongodb.BasicDBObject
+import org.javers.core.CommitIdGenerator
+import org.javers.core.JaversBuilder
+import org.javers.core.model.SnapshotEntity
+import spock.lang.Unroll
+
+import static org.javers.repository.jql.QueryBuilder.byClass
+import static org.javers.repository.jql.QueryBuilder.byInstanceId
+import static org.javers.repository.mongo.MongoSchemaManager.*
+
+class MongoQueryPlanTest extends BaseMongoTest {
+
+    @Unroll
+    def "should sort snapshots by compound indexes, without blocking SORT stage, with #commitIdGenerator"() {
+        given:
+        def mongoDb = mongoClient.getDatabase("test")
+        mongoDb.getCollection("jv_snapshots").drop()
+        def mongoRepository = new MongoRepository(mongoDb)
+        def javers = JaversBuilder.javers()
+                .registerJaversRepository(mongoRepository)
+                .withCommitIdGenerator(commitIdGenerator)
+                .build()
+        5.times { javers.commit("author", new SnapshotEntity(id: 1, intProperty: it)) }
+
+        when:
+        def plans = [new BasicDBObject(GLOBAL_ID_KEY, "org.javers.core.model.SnapshotEntity/1"),
+                     mongoRepository.createEntityTypeQuery(false, "org.javers.core.model.SnapshotEntity"),
+                     mongoRepository.createEntityTypeQuery(true, "org.javers.core.model.SnapshotEntity")]
+                .collect { mongoRepository.findMongoSnapshots(it, Optional.empty()).explain() }
+
+        then:
+        plans.every { !MongoRepository.hasStage(it, "SORT") }
+        javers.findSnapshots(byInstanceId(1, SnapshotEntity).build()).collect { it.version } == [5, 4, 3, 2, 1]
+        javers.findSnapshots(byClass(SnapshotEntity).withChildValueObjects().build()).size() == 5
+
+        where:
+        commitIdGenerator << [CommitIdGenerator.SYNCHRONIZED_SEQUENCE, CommitIdGenerator.RANDOM]
+    }
+
+    def "should find blocking SORT stage when sort-covering indexes are missing"() {
+        given:
+        def mongoDb = mongoClient.getDatabase("test")
+        mongoDb.getCollection("jv_snapshots_no_indexes").drop()
+        def mongoRepository = new MongoRepository(mongoDb, MongoRepositoryConfigurationBuilder.mongoRepositoryConfiguration()
+                .withSnapshotCollectionName("jv_snapshots_no_indexes")
+                .withSchemaManagementEnabled(false)
+                .build())
+        def javers = JaversBuilder.javers().registerJaversRepository(mongoRepository).build()
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 1))
+
+        when:
+        def plan = mongoRepository.findMongoSnapshots(new BasicDBObject(GLOBAL_ID_KEY, "?"), Optional.empty()).explain()
+
+        then:
+        MongoRepository.hasStage(plan, "SORT")
+    }
+}
@@ -1,6 +1,10 @@
 package org.javers.repository.sql;
 
+import org.javers.common.exception.JaversException;
+import org.javers.common.exception.JaversExceptionCode;
 import org.javers.common.validation.Validate;
+import org.javers.core.CommitIdGenerator;
+import org.javers.core.CoreConfiguration;
 import org.javers.core.commit.Commit;
 import org.javers.core.commit.CommitId;
 import org.javers.core.json.JsonConverter;
@@ -8,10 +12,14 @@ import org.javers.core.metamodel.object.CdoSnapshot;
 import org.javers.core.metamodel.object.GlobalId;
 import org.javers.core.metamodel.type.EntityType;
 import org.javers.core.metamodel.type.ManagedType;
+import org.javers.core.metrics.JaversMetrics;
+import org.javers.repository.api.ConfigurationAware;
 import org.javers.repository.api.JaversRepository;
+import org.javers.repository.api.MetricsAware;
 import org.javers.repository.api.QueryParams;
 import org.javers.repository.api.SnapshotIdentifier;
 import org.javers.repository.sql.finders.CdoSnapshotFinder;
+import org.javers.repository.sql.finders.LatestSnapshotCache;
 import org.javers.repository.sql.repositories.CdoSnapshotRepository;
 import org.javers.repository.sql.repositories.CommitMetadataRepository;
 import org.javers.repository.sql.repositories.GlobalIdRepository;
@@ -22,11 +30,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.javers.repository.sql.session.Session.SQL_LOGGER_NAME;
 
-public class JaversSqlRepository implements JaversRepository {
+public class JaversSqlRepository implements JaversRepository, ConfigurationAware, MetricsAware {
     private static final Logger logger = LoggerFactory.getLogger(SQL_LOGGER_NAME);
 
     private final SessionFactory sessionFactory;
@@ -35,15 +44,19 @@ public class JaversSqlRepository implements JaversRepository {
     private final CdoSnapshotRepository cdoSnapshotRepository;
     private final CdoSnapshotFinder finder;
     private final JaversSchemaManager schemaManager;
+    private final LatestSnapshotCache latestSnapshotCache;
 
     private final SqlRepositoryConfiguration sqlRepositoryConfiguration;
 
+    private CommitIdGenerator commitIdGenerator = CommitIdGenerator.SYNCHRONIZED_SEQUENCE;
+
     public JaversSqlRepository(SessionFactory sessionFactory,
                                CommitMetadataRepository commitRepository,
                                GlobalIdRepository globalIdRepository,
                                CdoSnapshotRepository cdoSnapshotRepository,
                                CdoSnapshotFinder finder,
                                JaversSchemaManager schemaManager,
+                               LatestSnapshotCache latestSnapshotCache,
                                SqlRepositoryConfiguration sqlRepositoryConfiguration) {
         this.sessionFactory = sessionFactory;
         this.commitRepository = commitRepository;
@@ -51,6 +64,7 @@ public class JaversSqlRepository implements JaversRepository {
         this.cdoSnapshotRepository = cdoSnapshotRepository;
         this.finder = finder;
         this.schemaManager = schemaManager;
+        this.latestSnapshotCache = latestSnapshotCache;
         this.sqlRepositoryConfiguration = sqlRepositoryConfiguration;
     }
 
@@ -65,11 +79,7 @@ public class JaversSqlRepository implements JaversRepository {
     public List<CdoSnapshot> getLatest(Collection<GlobalId> globalIds) {
         Validate.argumentIsNotNull(globalIds);
         try(Session session = sessionFactory.create("get latest snapshots")) {
-            return globalIds.stream()
-                    .map(id -> finder.getLatest(id, session, false))
-                    .filter(it -> it.isPresent())
-                    .map(it -> it.get())
-                    .collect(Collectors.toList());
+            return finder.getLatest(globalIds, session, false);
         }
     }
 
@@ -80,12 +90,33 @@ public class JaversSqlRepository implements JaversRepository {
         }
     }
 
+    /**
+     * Snapshots are read from a JDBC cursor, see {@link SqlRepositoryBuilder#withStreamFetchSize(int)}.
+     * Closing the stream closes the ResultSet and the statements of the underlying session.
+     * The connection is still managed by your {@link ConnectionProvider}.
+     */
+    @Override
+    public Stream<CdoSnapshot> getSnapshotsStream(QueryParams queryParams) {
+        return streamInSession("stream snapshots",
+                session -> finder.getSnapshotsStream(queryParams, session, sqlRepositoryConfiguration.getStreamFetchSize()));
+    }
+
+    @Override
+    public Stream<CdoSnapshot> getStateHistoryStream(Set<ManagedType> givenClasses, QueryParams queryParams) {
+        if (isEmpty(givenClasses)) {
+            return Stream.empty();
+        }
+        return streamInSession("stream snapshots by type",
+                session -> finder.getStateHistoryStream(givenClasses, queryParams, session, sqlRepositoryConfiguration.getStreamFetchSize()));
+    }
+
     @Override
     public void persist(Commit commit) {
         try(Session session = sessionFactory.create("persist commit")) {
             long commitPk = commitRepository.save(commit.getAuthor(), commit.getProperties(), commit.getCommitDate(), commit.getCommitDateInstant(), commit.getId(), session);
             cdoSnapshotRepository.save(commitPk, commit.getSnapshots(), session);
         }
+        commit.getSnapshots().forEach(latestSnapshotCache::put);
     }
 
     @Override
@@ -95,6 +126,19 @@ public class JaversSqlRepository implements JaversRepository {
         }
     }
 
+    /**
+     * Not supported on MySQL, which has no sequences
+     */
+    @Override
+    public long reserveCommitIdBlock(int blockSize, long headMajorId) {
+        try(Session session = sessionFactory.create("reserve commit id block")) {
+            if (session.getDialectName() == DialectName.MYSQL) {
+                throw new JaversException(JaversExceptionCode.COMMIT_ID_BLOCKS_NOT_SUPPORTED, "JaversSqlRepository with MySQL");
+            }
+            return commitRepository.reserveCommitIdBlock(blockSize, headMajorId, session);
+        }
+    }
+
     @Override
     public List<CdoSnapshot> getSnapshots(Collection<SnapshotIdentifier> snapshotIdentifiers) {
         if (isEmpty(snapshotIdentifiers)) {
@@ -130,8 +174,9 @@ public class JaversSqlRepository implements JaversRepository {
     }
 
     /**
-     * JaversSqlRepository uses the cache for GlobalId primary keys.
-     * This cache is non-transactional.
+     * JaversSqlRepository uses the cache for GlobalId primary keys
+     * and optionally, the cache for latest snapshots (see {@link SqlRepositoryBuilder#withLatestSnapshotCacheSize(int)}).
+     * These caches are non-transactional.
      * <br/><br/>
      *
      * If a SQL transaction encounters errors and must be rolled back,
@@ -147,6 +192,7 @@ public class JaversSqlRepository implements JaversRepository {
      */
     public void evictCache() {
         globalIdRepository.evictCache();
+        latestSnapshotCache.evict();
     }
 
     /**
@@ -156,6 +202,26 @@ public class JaversSqlRepository implements JaversRepository {
         return globalIdRepository.getGlobalIdPkCacheSize();
     }
 
+    public int getLatestSnapshotCacheSize() {
+        return latestSnapshotCache.size();
+    }
+
+    /**
+     * Number of {@link #getLatest(GlobalId)} calls (also, for each GlobalId, in {@link #getLatest(Collection)})
+     * served from the latest snapshot cache
+     */
+    public long getLatestSnapshotCacheHitCount() {
+        return latestSnapshotCache.hitCount();
+    }
+
+    /**
+     * Number of {@link #getLatest(GlobalId)} calls (also, for each GlobalId, in {@link #getLatest(Collection)})
+     * which had to query the database, 0 when the latest snapshot cache is disabled
+     */
+    public long getLatestSnapshotCacheMissCount() {
+        return latestSnapshotCache.missCount();
+    }
+
     /**
      * @since 2.7.2
      */
@@ -180,10 +246,32 @@ public class JaversSqlRepository implements JaversRepository {
         finder.setJsonConverter(jsonConverter);
     }
 
+    @Override
+    public void setMetrics(JaversMetrics metrics) {
+        sessionFactory.setMetrics(metrics);
+        globalIdRepository.setMetrics(metrics);
+        latestSnapshotCache.setMetrics(metrics);
+    }
+
+    @Override
+    public void setConfiguration(CoreConfiguration coreConfiguration) {
+        this.commitIdGenerator = coreConfiguration.getCommitIdGenerator();
+    }
+
     @Override
     public void ensureSchema() {
         if(sqlRepositoryConfiguration.isSchemaManagementEnabled()) {
-            schemaManager.ensureSchema();
+            schemaManager.ensureSchema(commitIdGenerator == CommitIdGenerator.BLOCK_SEQUENCE);
+        }
+    }
+
+    private Stream<CdoSnapshot> streamInSession(String sessionName, Function<Session, Stream<CdoSnapshot>> query) {
+        Session session = sessionFactory.create(sessionName);
+        try {
+            return query.apply(session).onClose(session::close);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
         }
     }
 
@@ -1,7 +1,10 @@
 package org.javers.repository.sql;
 
+import org.javers.common.validation.Validate;
 import org.javers.core.AbstractContainerBuilder;
+import org.javers.repository.sql.codecs.CdoSnapshotStateBinaryCodec;
 import org.javers.repository.sql.codecs.CdoSnapshotStateCodec;
+import org.javers.repository.sql.codecs.CdoSnapshotStateCodecs;
 import org.javers.repository.sql.pico.JaversSqlModule;
 import org.javers.repository.sql.session.SessionFactory;
 import org.polyjdbc.core.PolyJDBC;
@@ -23,6 +26,7 @@ public class SqlRepositoryBuilder extends AbstractContainerBuilder {
     private DialectName dialectName;
     private ConnectionProvider connectionProvider;
     private CdoSnapshotStateCodec cdoSnapshotStateCodec = CdoSnapshotStateCodec.noop();
+    private CdoSnapshotStateBinaryCodec cdoSnapshotStateBinaryCodec;
 
     private String schemaName;
     private boolean globalIdCacheDisabled;
@@ -32,6 +36,8 @@ public class SqlRepositoryBuilder extends AbstractContainerBuilder {
     private String commitTableName;
     private String snapshotTableName;
     private String commitPropertyTableName;
+    private int streamFetchSize = 100;
+    private int latestSnapshotCacheSize = 0;
 
     public SqlRepositoryBuilder() {
     }
@@ -55,6 +61,27 @@ public class SqlRepositoryBuilder extends AbstractContainerBuilder {
         return this;
     }
 
+    /**
+     * Enables binary (compressed) storage of snapshot state, for example:
+     *
+     * <pre>
+     * sqlRepository().withCdoSnapshotStateBinaryCodec(CdoSnapshotStateBinaryCodec.deflate())
+     * </pre>
+     *
+     * New snapshots are written to the <code>state_bin</code> column,
+     * which is added to the snapshot table by the schema manager.
+     * Existing snapshots, written as text, are still readable.
+     * <br/><br/>
+     *
+     * Once enabled, it can't be disabled without migrating the data back to the <code>state</code> column.
+     *
+     * @param cdoSnapshotStateBinaryCodec by default, null &mdash; state is stored as text
+     */
+    public SqlRepositoryBuilder withCdoSnapshotStateBinaryCodec(CdoSnapshotStateBinaryCodec cdoSnapshotStateBinaryCodec) {
+        this.cdoSnapshotStateBinaryCodec = cdoSnapshotStateBinaryCodec;
+        return this;
+    }
+
     /**
      * This function sets a schema to be used for creation and updating tables. When passing a schema name make sure
      * that the schema has been created in the database before running JaVers. If schemaName is null or empty, the default
@@ -111,16 +138,54 @@ public class SqlRepositoryBuilder extends AbstractContainerBuilder {
         return this;
     }
 
+    /**
+     * JDBC fetch size used by {@link JaversSqlRepository#getSnapshotsStream}.
+     * <br/>
+     * Note that PostgreSQL uses a cursor only when autocommit is off,
+     * and MySQL only with the <code>useCursorFetch=true</code> connection property.
+     * Otherwise, the driver buffers the whole ResultSet,
+     * but snapshots are still deserialized lazily.
+     *
+     * @param streamFetchSize default is 100
+     */
+    public SqlRepositoryBuilder withStreamFetchSize(int streamFetchSize) {
+        Validate.argumentCheck(streamFetchSize > 0, "streamFetchSize should be > 0");
+        this.streamFetchSize = streamFetchSize;
+        return this;
+    }
+
+    /**
+     * Enables the cache for latest snapshots, which saves a DB query per object
+     * when committing objects which were already committed by this JaVers instance.
+     * <br/><br/>
+     *
+     * The cache is populated on persist and on load, and evicted on transaction rollback
+     * by <code>JaversTransactionalDecorator</code> (see {@link JaversSqlRepository#evictCache()}).
+     * <br/>
+     * Use it only if a given JaVers database is written by a single application instance,
+     * otherwise, cached snapshots could be stale.
+     *
+     * @param latestSnapshotCacheSize default is 0 &mdash; the cache is disabled
+     */
+    public SqlRepositoryBuilder withLatestSnapshotCacheSize(int latestSnapshotCacheSize) {
+        Validate.argumentCheck(latestSnapshotCacheSize >= 0, "latestSnapshotCacheSize should be >= 0");
+        this.latestSnapshotCacheSize = latestSnapshotCacheSize;
+        return this;
+    }
+
     public JaversSqlRepository build() {
         logger.info("starting SqlRepository...");
         logger.info("  dialect:                  {}", dialectName);
         logger.info("  schemaManagementEnabled:  {}", schemaManagementEnabled);
         logger.info("  schema name:              {}", schemaName);
+        logger.info("  latestSnapshotCacheSize:  {}", latestSnapshotCacheSize);
+        logger.info("  binary state codec:       {}", cdoSnapshotStateBinaryCodec != null ? cdoSnapshotStateBinaryCodec.getClass().getSimpleName() : "none");
         bootContainer();
 
         SqlRepositoryConfiguration config =
                 new SqlRepositoryConfiguration(globalIdCacheDisabled, schemaName, schemaManagementEnabled,
-                        globalIdTableName, commitTableName, snapshotTableName, commitPropertyTableName);
+                        globalIdTableName, commitTableName, snapshotTableName, commitPropertyTableName,
+                        streamFetchSize, latestSnapshotCacheSize);
         addComponent(config);
 
         PolyJDBC polyJDBC = PolyJDBCBuilder.polyJDBC(dialectName.getPolyDialect(), config.getSchemaName())
@@ -130,7 +195,7 @@ public class SqlRepositoryBuilder extends AbstractContainerBuilder {
 
         addComponent(polyJDBC);
         addComponent(sessionFactory);
-        addComponent(cdoSnapshotStateCodec);
+        addComponent(new CdoSnapshotStateCodecs(cdoSnapshotStateCodec, cdoSnapshotStateBinaryCodec));
 
         addModule(new JaversSqlModule());
 
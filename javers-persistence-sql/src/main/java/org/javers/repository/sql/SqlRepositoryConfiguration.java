@@ -17,10 +17,15 @@ public class SqlRepositoryConfiguration {
     private final String snapshotTableName;
     private final String commitPropertyTableName;
 
+    private final int streamFetchSize;
+
+    private final int latestSnapshotCacheSize;
+
     SqlRepositoryConfiguration(boolean globalIdCacheDisabled, String schemaName,
                                       boolean schemaManagementEnabled, String globalIdTableName,
                                       String commitTableName,
-                                      String snapshotTableName, String commitPropertyTableName) {
+                                      String snapshotTableName, String commitPropertyTableName,
+                                      int streamFetchSize, int latestSnapshotCacheSize) {
         Validate.argumentCheck(schemaName == null || !schemaName.isEmpty(),"schemaName should be null or non-empty");
 
         this.globalIdCacheDisabled = globalIdCacheDisabled;
@@ -30,6 +35,8 @@ public class SqlRepositoryConfiguration {
         this.commitTableName = commitTableName;
         this.snapshotTableName = snapshotTableName;
         this.commitPropertyTableName = commitPropertyTableName;
+        this.streamFetchSize = streamFetchSize;
+        this.latestSnapshotCacheSize = latestSnapshotCacheSize;
     }
 
     public boolean isGlobalIdCacheDisabled() {
@@ -66,4 +73,15 @@ public class SqlRepositoryConfiguration {
     public Optional<String> getCommitPropertyTableName() {
         return Optional.ofNullable(commitPropertyTableName);
     }
+
+    public int getStreamFetchSize() {
+        return streamFetchSize;
+    }
+
+    /**
+     * 0 means disabled
+     */
+    public int getLatestSnapshotCacheSize() {
+        return latestSnapshotCacheSize;
+    }
 }
@@ -0,0 +1,43 @@
+package org.javers.repository.sql.codecs;
+
+import java.util.Collection;
+
+/**
+ * Binary codec for CdoSnapshotState SQL persistence.
+ * When it's set, snapshot state is stored in the <code>state_bin</code> column
+ * (BLOB, bytea or VARBINARY, depending on a database) instead of the <code>state</code> text column.
+ * <br/><br/>
+ *
+ * Legacy snapshots with state stored as text are still readable,
+ * they are decoded with {@link CdoSnapshotStateCodec}.
+ *
+ * @see org.javers.repository.sql.SqlRepositoryBuilder#withCdoSnapshotStateBinaryCodec(CdoSnapshotStateBinaryCodec)
+ */
+public interface CdoSnapshotStateBinaryCodec {
+
+    /**
+     * Deflate with a dictionary of JSON tokens used by JaVers
+     */
+    static CdoSnapshotStateBinaryCodec deflate() {
+        return new DeflateCdoSnapshotStateCodec();
+    }
+
+    /**
+     * Deflate with a dictionary of JSON tokens used by JaVers, extended with given property names.
+     * Property names can be trained on sample snapshots,
+     * see {@link DeflateCdoSnapshotStateCodec#trainDictionary(Iterable, int)}.
+     */
+    static CdoSnapshotStateBinaryCodec deflate(Collection<String> dictionaryPropertyNames) {
+        return new DeflateCdoSnapshotStateCodec(dictionaryPropertyNames);
+    }
+
+    /**
+     * @param json CdoSnapshotState as JSON
+     */
+    byte[] encode(String json);
+
+    /**
+     * @return CdoSnapshotState as JSON
+     */
+    String decode(byte[] encoded);
+}
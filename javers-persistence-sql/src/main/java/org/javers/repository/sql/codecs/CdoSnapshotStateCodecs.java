@@ -0,0 +1,57 @@
+package org.javers.repository.sql.codecs;
+
+import java.util.Optional;
+
+/**
+ * Encodes and decodes snapshot state JSON,
+ * decides which column is used, <code>state</code> (text) or <code>state_bin</code> (binary).
+ */
+public class CdoSnapshotStateCodecs {
+    private final CdoSnapshotStateCodec textCodec;
+    private final Optional<CdoSnapshotStateBinaryCodec> binaryCodec;
+
+    /**
+     * @param binaryCodec nullable
+     */
+    public CdoSnapshotStateCodecs(CdoSnapshotStateCodec textCodec, CdoSnapshotStateBinaryCodec binaryCodec) {
+        this.textCodec = textCodec;
+        this.binaryCodec = Optional.ofNullable(binaryCodec);
+    }
+
+    /**
+     * When true, new snapshots are written to the <code>state_bin</code> column
+     */
+    public boolean isBinary() {
+        return binaryCodec.isPresent();
+    }
+
+    /**
+     * @return null if state should be written to the <code>state_bin</code> column
+     */
+    public String encodeText(String json) {
+        if (isBinary()) {
+            return null;
+        }
+        return textCodec.encode(json);
+    }
+
+    /**
+     * @return null if state should be written to the <code>state</code> column
+     */
+    public byte[] encodeBinary(String json) {
+        return binaryCodec.map(it -> it.encode(json)).orElse(null);
+    }
+
+    /**
+     * Legacy snapshots, written before the binary codec was enabled, have only the text state
+     *
+     * @param textState nullable
+     * @param binaryState nullable
+     */
+    public String decode(String textState, byte[] binaryState) {
+        if (binaryState != null) {
+            return binaryCodec.get().decode(binaryState);
+        }
+        return textCodec.decode(textState);
+    }
+}
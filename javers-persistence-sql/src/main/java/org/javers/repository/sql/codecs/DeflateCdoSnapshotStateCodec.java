@@ -0,0 +1,203 @@
+package org.javers.repository.sql.codecs;
+
+import org.javers.common.exception.JaversException;
+import org.javers.common.exception.JaversExceptionCode;
+import org.javers.common.validation.Validate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses snapshot state JSON with Deflate, using a preset dictionary.
+ * <br/><br/>
+ *
+ * The dictionary contains JSON tokens used by JaVers (like <code>"entity"</code> or <code>"cdoId"</code>)
+ * and, optionally, property names of your domain classes.
+ * Since typical snapshot state is small, the dictionary makes the difference,
+ * property names repeated in every snapshot are replaced with short back-references.
+ * <br/><br/>
+ *
+ * Encoded format is a version byte followed by a zlib stream,
+ * which carries the Adler-32 checksum of the dictionary used.
+ * Snapshots written with the default dictionary are readable
+ * also after switching to a dictionary with property names.
+ */
+public class DeflateCdoSnapshotStateCodec implements CdoSnapshotStateBinaryCodec {
+    static final byte FORMAT_VERSION = 1;
+
+    private static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    private static final Pattern PROPERTY_NAME = Pattern.compile("\"([^\"\\\\]{2,64})\"\\s*:");
+
+    private static final String DEFAULT_DICTIONARY =
+            "null,\n  true,\n  false,\n  [],\n  {}\n  \"\": [\n    {\n      \"entity\": \"\",\n      \"cdoId\": \n    },\n" +
+            "  \"\": {\n    \"valueObject\": \"\",\n    \"ownerId\": {\n      \"entity\": \"\",\n      \"cdoId\": \n    },\n" +
+            "    \"fragment\": \"\"\n  },\n  \"\": {\n    \"entity\": \"\",\n    \"cdoId\": \n  },\n  \"id\": \n}";
+
+    private final int level;
+    private final byte[] dictionary;
+    private final Map<Integer, byte[]> dictionariesByChecksum;
+
+    public DeflateCdoSnapshotStateCodec() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * @param dictionaryPropertyNames most frequent should go last
+     */
+    public DeflateCdoSnapshotStateCodec(Collection<String> dictionaryPropertyNames) {
+        this(dictionaryPropertyNames, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param dictionaryPropertyNames most frequent should go last
+     * @param level Deflate compression level, 1 - 9
+     */
+    public DeflateCdoSnapshotStateCodec(Collection<String> dictionaryPropertyNames, int level) {
+        Validate.argumentIsNotNull(dictionaryPropertyNames);
+        Validate.argumentCheck(level == Deflater.DEFAULT_COMPRESSION || (level >= 1 && level <= 9),
+                "level should be in range 1 - 9");
+        this.level = level;
+
+        byte[] defaultDictionary = DEFAULT_DICTIONARY.getBytes(StandardCharsets.UTF_8);
+        this.dictionary = createDictionary(dictionaryPropertyNames);
+
+        this.dictionariesByChecksum = new HashMap<>();
+        dictionariesByChecksum.put(checksum(defaultDictionary), defaultDictionary);
+        dictionariesByChecksum.put(checksum(dictionary), dictionary);
+    }
+
+    /**
+     * Finds the most frequent property names in sample snapshot states,
+     * the result is ready to be passed to {@link #DeflateCdoSnapshotStateCodec(Collection)}.
+     * <br/><br/>
+     *
+     * Once snapshots are written, the dictionary can't be changed,
+     * so keep the result in your configuration rather than training it on each start.
+     *
+     * @param sampleStates snapshot states as JSON, for example {@link org.javers.core.json.JsonConverter#toJson(Object)}
+     *                     of {@link org.javers.core.metamodel.object.CdoSnapshot#getState()}
+     * @param maxPropertyNames limit of returned names
+     * @return property names, ordered by frequency, ascending
+     */
+    public static List<String> trainDictionary(Iterable<String> sampleStates, int maxPropertyNames) {
+        Validate.argumentIsNotNull(sampleStates);
+        Validate.argumentCheck(maxPropertyNames > 0, "maxPropertyNames should be > 0");
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String state : sampleStates) {
+            Matcher matcher = PROPERTY_NAME.matcher(state);
+            while (matcher.find()) {
+                frequencies.merge(matcher.group(1), 1, Integer::sum);
+            }
+        }
+
+        List<String> mostFrequent = frequencies.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(maxPropertyNames)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        Collections.reverse(mostFrequent);
+        return mostFrequent;
+    }
+
+    @Override
+    public byte[] encode(String json) {
+        byte[] input = json.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4 + 16);
+            out.write(FORMAT_VERSION);
+            byte[] buffer = new byte[Math.max(64, Math.min(input.length, 8 * 1024))];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public String decode(byte[] encoded) {
+        if (encoded.length == 0 || encoded[0] != FORMAT_VERSION) {
+            throw new JaversException(JaversExceptionCode.RUNTIME_EXCEPTION,
+                    "unknown snapshot state binary format");
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded, 1, encoded.length - 1);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length * 4);
+            byte[] buffer = new byte[8 * 1024];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && inflater.needsDictionary()) {
+                    inflater.setDictionary(findDictionary(inflater.getAdler()));
+                } else if (count == 0 && inflater.needsInput()) {
+                    throw new DataFormatException("truncated input");
+                }
+                out.write(buffer, 0, count);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new JaversException(JaversExceptionCode.RUNTIME_EXCEPTION,
+                    "corrupted snapshot state, " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private byte[] findDictionary(int checksum) {
+        byte[] found = dictionariesByChecksum.get(checksum);
+        if (found == null) {
+            throw new JaversException(JaversExceptionCode.RUNTIME_EXCEPTION,
+                    "snapshot state was written with a different Deflate dictionary, " +
+                    "use the same dictionaryPropertyNames as when it was written");
+        }
+        return found;
+    }
+
+    private static byte[] createDictionary(Collection<String> propertyNames) {
+        StringBuilder words = new StringBuilder();
+        for (String propertyName : propertyNames) {
+            words.append("\n  \"").append(propertyName).append("\": ");
+        }
+
+        //Deflate window is 32KB, the end of the dictionary is the most valuable
+        byte[] names = words.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] base = DEFAULT_DICTIONARY.getBytes(StandardCharsets.UTF_8);
+        int namesLength = Math.min(names.length, MAX_DICTIONARY_SIZE - base.length);
+
+        byte[] result = new byte[base.length + namesLength];
+        System.arraycopy(base, 0, result, 0, base.length);
+        System.arraycopy(names, names.length - namesLength, result, base.length, namesLength);
+        return result;
+    }
+
+    private static int checksum(byte[] dictionary) {
+        Adler32 adler32 = new Adler32();
+        adler32.update(dictionary, 0, dictionary.length);
+        return (int) adler32.getValue();
+    }
+}
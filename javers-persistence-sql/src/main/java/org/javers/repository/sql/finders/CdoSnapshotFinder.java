@@ -1,8 +1,9 @@
 package org.javers.repository.sql.finders;
 
+import com.google.common.collect.Iterables;
 import org.javers.common.collections.Lists;
 import org.javers.common.collections.Sets;
-import org.javers.repository.sql.codecs.CdoSnapshotStateCodec;
+import org.javers.repository.sql.codecs.CdoSnapshotStateCodecs;
 import org.javers.core.json.CdoSnapshotSerialized;
 import org.javers.core.json.JsonConverter;
 import org.javers.core.metamodel.object.CdoSnapshot;
@@ -19,10 +20,13 @@ import org.javers.repository.sql.session.Session;
 
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.javers.repository.sql.schema.FixedSchemaFactory.SNAPSHOT_GLOBAL_ID_FK;
 import static org.javers.repository.sql.schema.FixedSchemaFactory.SNAPSHOT_PK;
+import static org.javers.repository.sql.session.SelectBuilder.MAX_IN_LIST_SIZE;
 
 public class CdoSnapshotFinder {
 
@@ -31,45 +35,103 @@ public class CdoSnapshotFinder {
     private final CdoSnapshotsEnricher cdoSnapshotsEnricher = new CdoSnapshotsEnricher();
     private JsonConverter jsonConverter;
     private final TableNameProvider tableNameProvider;
-    private final CdoSnapshotStateCodec cdoSnapshotStateCodec;
+    private final CdoSnapshotStateCodecs cdoSnapshotStateCodecs;
+    private final LatestSnapshotCache latestSnapshotCache;
 
-    public CdoSnapshotFinder(GlobalIdRepository globalIdRepository, CommitPropertyFinder commitPropertyFinder, TableNameProvider tableNameProvider, CdoSnapshotStateCodec cdoSnapshotStateCodec) {
+    public CdoSnapshotFinder(GlobalIdRepository globalIdRepository, CommitPropertyFinder commitPropertyFinder, TableNameProvider tableNameProvider, CdoSnapshotStateCodecs cdoSnapshotStateCodecs, LatestSnapshotCache latestSnapshotCache) {
         this.globalIdRepository = globalIdRepository;
         this.commitPropertyFinder = commitPropertyFinder;
         this.tableNameProvider = tableNameProvider;
-        this.cdoSnapshotStateCodec = cdoSnapshotStateCodec;
+        this.cdoSnapshotStateCodecs = cdoSnapshotStateCodecs;
+        this.latestSnapshotCache = latestSnapshotCache;
     }
 
     public Optional<CdoSnapshot> getLatest(GlobalId globalId, Session session, boolean loadCommitProps) {
+        Optional<CdoSnapshot> cached = latestSnapshotCache.getLatest(globalId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         Optional<Long> globalIdPk = globalIdRepository.findGlobalIdPk(globalId, session);
         if (!globalIdPk.isPresent()){
             return Optional.empty();
         }
 
-        return selectMaxSnapshotPrimaryKey(globalIdPk.get(), session).map(maxSnapshotId -> {
+        Optional<CdoSnapshot> latest = selectMaxSnapshotPrimaryKey(globalIdPk.get(), session).map(maxSnapshotId -> {
             QueryParams oneItemLimit = QueryParamsBuilder
                     .withLimit(1)
                     .withCommitProps(loadCommitProps)
                     .build();
             return fetchCdoSnapshots(q -> q.addSnapshotPkFilter(maxSnapshotId), oneItemLimit, session).get(0);
         });
+
+        if (loadCommitProps) {
+            latest.ifPresent(latestSnapshotCache::put);
+        }
+        return latest;
+    }
+
+    /**
+     * Set-based version of {@link #getLatest(GlobalId, Session, boolean)},
+     * runs one query per chunk of {@link org.javers.repository.sql.session.SelectBuilder#MAX_IN_LIST_SIZE} GlobalIds
+     * which are not in {@link LatestSnapshotCache}
+     */
+    public List<CdoSnapshot> getLatest(Collection<GlobalId> globalIds, Session session, boolean loadCommitProps) {
+        Map<GlobalId, CdoSnapshot> latest = new HashMap<>();
+        List<GlobalId> notCached = new ArrayList<>();
+        globalIds.forEach(globalId -> {
+            Optional<CdoSnapshot> cached = latestSnapshotCache.getLatest(globalId);
+            if (cached.isPresent()) {
+                latest.put(globalId, cached.get());
+            } else {
+                notCached.add(globalId);
+            }
+        });
+
+        Set<Long> globalIdPks = new HashSet<>(globalIdRepository.findGlobalIdPks(notCached, session).values());
+
+        for (List<Long> chunk : Iterables.partition(globalIdPks, MAX_IN_LIST_SIZE)) {
+            QueryParams chunkLimit = QueryParamsBuilder
+                    .withLimit(chunk.size())
+                    .withCommitProps(loadCommitProps)
+                    .build();
+            fetchCdoSnapshots(q -> q.addLatestSnapshotsFilter(chunk), chunkLimit, session)
+                    .forEach(it -> latest.put(it.getGlobalId(), it));
+        }
+
+        return globalIds.stream()
+                .filter(latest::containsKey)
+                .map(latest::get)
+                .collect(toList());
     }
 
     public List<CdoSnapshot> getSnapshots(QueryParams queryParams, Session session) {
         return fetchCdoSnapshots(q -> {}, queryParams, session);
     }
 
+    /**
+     * GlobalId PKs are resolved in bulk,
+     * then runs one query per chunk of {@link org.javers.repository.sql.session.SelectBuilder#MAX_IN_LIST_SIZE} identifiers.
+     * Snapshots from all chunks are ordered by {@link org.javers.repository.sql.schema.FixedSchemaFactory#SNAPSHOT_PK} DESC.
+     */
     public List<CdoSnapshot> getSnapshots(Collection<SnapshotIdentifier> snapshotIdentifiers, Session session) {
+        Map<GlobalId, Long> globalIdPks = globalIdRepository.findGlobalIdPks(
+                snapshotIdentifiers.stream().map(SnapshotIdentifier::getGlobalId).collect(toSet()), session);
 
         List<SnapshotDbIdentifier> snapshotIdentifiersWithPk = snapshotIdentifiers.stream()
-                .map(si -> globalIdRepository.findGlobalIdPk(si.getGlobalId(), session)
-                                             .map(id -> new SnapshotDbIdentifier(si, id)))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+                .distinct()
+                .filter(si -> globalIdPks.containsKey(si.getGlobalId()))
+                .map(si -> new SnapshotDbIdentifier(si, globalIdPks.get(si.getGlobalId())))
                 .collect(toList());
 
         QueryParams queryParams = QueryParamsBuilder.withLimit(Integer.MAX_VALUE).build();
-        return fetchCdoSnapshots(q -> q.addSnapshotIdentifiersFilter(snapshotIdentifiersWithPk), queryParams, session);
+        List<CdoSnapshotSerialized> serializedSnapshots = new ArrayList<>();
+        for (List<SnapshotDbIdentifier> chunk : Iterables.partition(snapshotIdentifiersWithPk, MAX_IN_LIST_SIZE)) {
+            serializedSnapshots.addAll(fetchSerializedSnapshots(q -> q.addSnapshotIdentifiersFilter(chunk), queryParams, session));
+        }
+        serializedSnapshots.sort(Comparator.comparingLong(CdoSnapshotSerialized::getSnapshotPk).reversed());
+
+        return deserialize(serializedSnapshots);
     }
 
     public List<CdoSnapshot> getStateHistory(Set<ManagedType> managedTypes, QueryParams queryParams, Session session) {
@@ -77,6 +139,21 @@ public class CdoSnapshotFinder {
         return fetchCdoSnapshots(q -> q.addManagedTypesFilter(managedTypeNames), queryParams, session);
     }
 
+    /**
+     * Streamed version of {@link #getSnapshots(QueryParams, Session)}
+     */
+    public Stream<CdoSnapshot> getSnapshotsStream(QueryParams queryParams, Session session, int fetchSize) {
+        return streamCdoSnapshots(q -> {}, queryParams, session, fetchSize);
+    }
+
+    /**
+     * Streamed version of {@link #getStateHistory(Set, QueryParams, Session)}
+     */
+    public Stream<CdoSnapshot> getStateHistoryStream(Set<ManagedType> managedTypes, QueryParams queryParams, Session session, int fetchSize) {
+        Set<String> managedTypeNames = Sets.transform(managedTypes, managedType -> managedType.getName());
+        return streamCdoSnapshots(q -> q.addManagedTypesFilter(managedTypeNames), queryParams, session, fetchSize);
+    }
+
     public List<CdoSnapshot> getVOStateHistory(EntityType ownerEntity, String fragment, QueryParams queryParams, Session session) {
         return fetchCdoSnapshots(q -> q.addVoOwnerEntityFilter(ownerEntity.getName(), fragment), queryParams, session);
     }
@@ -90,9 +167,14 @@ public class CdoSnapshotFinder {
 
     private List<CdoSnapshot> fetchCdoSnapshots(Consumer<SnapshotQuery> additionalFilter,
                                                 QueryParams queryParams, Session session) {
-        SnapshotQuery query = new SnapshotQuery(tableNameProvider, queryParams, session, cdoSnapshotStateCodec);
-        additionalFilter.accept(query);
-        List<CdoSnapshotSerialized> serializedSnapshots = query.run();
+        return deserialize(fetchSerializedSnapshots(additionalFilter, queryParams, session));
+    }
+
+    private List<CdoSnapshotSerialized> fetchSerializedSnapshots(Consumer<SnapshotQuery> additionalFilter,
+                                                                 QueryParams queryParams, Session session) {
+        List<CdoSnapshotSerialized> serializedSnapshots = createQuery(additionalFilter, queryParams, session)
+                .map(SnapshotQuery::run)
+                .orElse(Collections.emptyList());
 
         if (queryParams.isLoadCommitProps()) {
             List<CommitPropertyDTO> commitPropertyDTOs = commitPropertyFinder.findCommitPropertiesOfSnaphots(
@@ -100,10 +182,50 @@ public class CdoSnapshotFinder {
             cdoSnapshotsEnricher.enrichWithCommitProperties(serializedSnapshots, commitPropertyDTOs);
         }
 
+        return serializedSnapshots;
+    }
+
+    private List<CdoSnapshot> deserialize(List<CdoSnapshotSerialized> serializedSnapshots) {
         return Lists.transform(serializedSnapshots,
                 serializedSnapshot -> jsonConverter.fromSerializedSnapshot(serializedSnapshot));
     }
 
+    /**
+     * Rows are read from the cursor and deserialized lazily.
+     * Commit properties, if required, are joined by the same query.
+     */
+    private Stream<CdoSnapshot> streamCdoSnapshots(Consumer<SnapshotQuery> additionalFilter,
+                                                   QueryParams queryParams, Session session, int fetchSize) {
+        Stream<CdoSnapshotSerialized> serializedSnapshots = createQuery(additionalFilter, queryParams, session)
+                .map(query -> queryParams.isLoadCommitProps()
+                        ? query.streamWithCommitProperties(fetchSize)
+                        : query.stream(fetchSize))
+                .orElse(Stream.empty());
+
+        return serializedSnapshots.map(serializedSnapshot -> jsonConverter.fromSerializedSnapshot(serializedSnapshot));
+    }
+
+    /**
+     * Empty if {@link QueryParams#afterSnapshot()} points to an unknown GlobalId,
+     * so the query can't return anything
+     */
+    private Optional<SnapshotQuery> createQuery(Consumer<SnapshotQuery> additionalFilter,
+                                                QueryParams queryParams, Session session) {
+        SnapshotQuery query = new SnapshotQuery(tableNameProvider, queryParams, session, cdoSnapshotStateCodecs);
+        additionalFilter.accept(query);
+
+        if (queryParams.afterSnapshot().isPresent()) {
+            SnapshotIdentifier afterSnapshot = queryParams.afterSnapshot().get();
+            Optional<Long> globalIdPk = globalIdRepository.findGlobalIdPk(afterSnapshot.getGlobalId(), session);
+            if (!globalIdPk.isPresent()) {
+                return Optional.empty();
+            }
+            query.addAfterSnapshotFilter(new SnapshotDbIdentifier(afterSnapshot, globalIdPk.get()));
+        }
+
+        return Optional.of(query);
+    }
+
     private Optional<Long> selectMaxSnapshotPrimaryKey(long globalIdPk, Session session) {
 
         Optional<Long> maxPrimaryKey =  session
@@ -1,14 +1,17 @@
 package org.javers.repository.sql.finders;
 
-import com.google.common.base.Joiner;
+import com.google.common.collect.Iterables;
 import org.javers.repository.sql.schema.TableNameProvider;
 import org.javers.repository.sql.session.Session;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static org.javers.repository.sql.schema.FixedSchemaFactory.*;
+import static org.javers.repository.sql.session.Parameter.longListParam;
+import static org.javers.repository.sql.session.SelectBuilder.MAX_IN_LIST_SIZE;
 
 public class CommitPropertyFinder {
 
@@ -18,18 +21,24 @@ public class CommitPropertyFinder {
         this.tableNameProvider = tableNameProvider;
     }
 
+    /**
+     * Runs one query per chunk of {@link org.javers.repository.sql.session.SelectBuilder#MAX_IN_LIST_SIZE} commit PKs,
+     * named after the chunk size, since prepared statements are cached by query name
+     */
     List<CommitPropertyDTO> findCommitPropertiesOfSnaphots(Collection<Long> commitPKs, Session session) {
-        if (commitPKs.isEmpty()) {
-            return Collections.emptyList();
+        List<CommitPropertyDTO> commitProperties = new ArrayList<>();
+
+        for (List<Long> chunk : Iterables.partition(new LinkedHashSet<>(commitPKs), MAX_IN_LIST_SIZE)) {
+            commitProperties.addAll(session.select(COMMIT_PROPERTY_COMMIT_FK + ", " + COMMIT_PROPERTY_NAME + ", " + COMMIT_PROPERTY_VALUE)
+                   .from(tableNameProvider.getCommitPropertyTableNameWithSchema())
+                   .andIn(COMMIT_PROPERTY_COMMIT_FK, longListParam(chunk), chunk.size())
+                   .queryName("commit properties, chunk of " + chunk.size())
+                   .executeQuery(resultSet -> new CommitPropertyDTO(
+                           resultSet.getLong(COMMIT_PROPERTY_COMMIT_FK),
+                           resultSet.getString(COMMIT_PROPERTY_NAME),
+                           resultSet.getString(COMMIT_PROPERTY_VALUE))));
         }
 
-        return session.select(COMMIT_PROPERTY_COMMIT_FK + ", " + COMMIT_PROPERTY_NAME + ", " + COMMIT_PROPERTY_VALUE)
-               .from(tableNameProvider.getCommitPropertyTableNameWithSchema())
-               .queryName("commit properties")
-               .and(COMMIT_PROPERTY_COMMIT_FK + " in (" + Joiner.on(",").join(commitPKs) + ")")
-               .executeQuery(resultSet -> new CommitPropertyDTO(
-                       resultSet.getLong(COMMIT_PROPERTY_COMMIT_FK),
-                       resultSet.getString(COMMIT_PROPERTY_NAME),
-                       resultSet.getString(COMMIT_PROPERTY_VALUE)));
+        return commitProperties;
     }
 }
@@ -0,0 +1,68 @@
+package org.javers.repository.sql.finders;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
+import org.javers.core.metrics.JaversMetrics;
+import org.javers.repository.sql.SqlRepositoryConfiguration;
+
+import java.util.Optional;
+
+/**
+ * Write-through cache of latest snapshots, populated when snapshots are persisted
+ * and when they are loaded by {@link CdoSnapshotFinder#getLatest(GlobalId, org.javers.repository.sql.session.Session, boolean)}.
+ * <br/>
+ * Like the GlobalId PK cache, it's non-transactional, so it has to be evicted on transaction rollback.
+ *
+ * @see org.javers.repository.sql.SqlRepositoryBuilder#withLatestSnapshotCacheSize(int)
+ */
+public class LatestSnapshotCache {
+    private final Cache<GlobalId, CdoSnapshot> cache;
+    private final boolean disabled;
+    private JaversMetrics metrics = JaversMetrics.NONE;
+
+    public LatestSnapshotCache(SqlRepositoryConfiguration configuration) {
+        this.disabled = configuration.getLatestSnapshotCacheSize() == 0;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(configuration.getLatestSnapshotCacheSize())
+                .recordStats()
+                .build();
+    }
+
+    Optional<CdoSnapshot> getLatest(GlobalId globalId) {
+        if (disabled) {
+            return Optional.empty();
+        }
+        CdoSnapshot cached = cache.getIfPresent(globalId);
+        metrics.recordCacheAccess(JaversMetrics.LATEST_SNAPSHOT_CACHE, cached != null ? 1 : 0, cached != null ? 0 : 1);
+        return Optional.ofNullable(cached);
+    }
+
+    public void put(CdoSnapshot snapshot) {
+        if (disabled) {
+            return;
+        }
+        cache.put(snapshot.getGlobalId(), snapshot);
+    }
+
+    public void setMetrics(JaversMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void evict() {
+        cache.invalidateAll();
+    }
+
+    public int size() {
+        return (int)cache.size();
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+}
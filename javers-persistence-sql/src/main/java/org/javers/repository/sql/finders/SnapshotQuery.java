@@ -3,7 +3,7 @@ package org.javers.repository.sql.finders;
 import java.util.*;
 
 import org.javers.common.string.ToStringBuilder;
-import org.javers.repository.sql.codecs.CdoSnapshotStateCodec;
+import org.javers.repository.sql.codecs.CdoSnapshotStateCodecs;
 import org.javers.core.json.CdoSnapshotSerialized;
 import org.javers.repository.api.QueryParams;
 import org.javers.repository.api.SnapshotIdentifier;
@@ -14,10 +14,16 @@ import org.javers.repository.sql.session.Parameter;
 import org.javers.repository.sql.session.SelectBuilder;
 import org.javers.repository.sql.session.Session;
 
+import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import static org.javers.repository.sql.schema.FixedSchemaFactory.*;
 import static org.javers.repository.sql.session.Parameter.*;
 
@@ -27,14 +33,16 @@ class SnapshotQuery {
     private final TableNameProvider tableNameProvider;
     private final CdoSnapshotMapper cdoSnapshotMapper = new CdoSnapshotMapper();
     private final DialectName dialectName;
-    private final CdoSnapshotStateCodec cdoSnapshotStateCodec;
+    private final CdoSnapshotStateCodecs cdoSnapshotStateCodecs;
 
-    public SnapshotQuery(TableNameProvider tableNames, QueryParams queryParams, Session session, CdoSnapshotStateCodec cdoSnapshotStateCodec) {
+    public SnapshotQuery(TableNameProvider tableNames, QueryParams queryParams, Session session, CdoSnapshotStateCodecs cdoSnapshotStateCodecs) {
         this.dialectName = session.getDialectName();
 
         this.selectBuilder = session
             .select(
+                SNAPSHOT_PK + ", " +
                 SNAPSHOT_STATE + ", " +
+                (cdoSnapshotStateCodecs.isBinary() ? SNAPSHOT_STATE_BINARY + ", " : "") +
                 SNAPSHOT_TYPE + ", " +
                 SNAPSHOT_VERSION + ", " +
                 SNAPSHOT_CHANGED + ", " +
@@ -60,7 +68,7 @@ class SnapshotQuery {
 
         this.queryParams = queryParams;
         this.tableNameProvider = tableNames;
-        this.cdoSnapshotStateCodec = cdoSnapshotStateCodec;
+        this.cdoSnapshotStateCodecs = cdoSnapshotStateCodecs;
         applyQueryParams();
     }
 
@@ -128,6 +136,15 @@ class SnapshotQuery {
         selectBuilder.and(SNAPSHOT_PK, snapshotPk);
     }
 
+    void addLatestSnapshotsFilter(List<Long> globalIdPks) {
+        selectBuilder.and(SNAPSHOT_PK + " IN (" +
+                " SELECT MAX(s2." + SNAPSHOT_PK + ") FROM " + snapshotTableName() + " s2" +
+                " WHERE s2." + SNAPSHOT_GLOBAL_ID_FK + " IN (" + String.join(",", Collections.nCopies(globalIdPks.size(), "?")) + ")" +
+                " GROUP BY s2." + SNAPSHOT_GLOBAL_ID_FK + ")",
+                longListParam(globalIdPks))
+                .queryName("latest snapshots, chunk of " + globalIdPks.size());
+    }
+
     void addGlobalIdFilter(long globalIdPk) {
         if (!queryParams.isAggregate()) {
             selectBuilder.and("g." + GLOBAL_ID_PK, globalIdPk);
@@ -139,16 +156,42 @@ class SnapshotQuery {
     }
 
 
+    /**
+     * Set-based filter, (globalIdPk, version) pairs are matched with a row-value IN list,
+     * on MS SQL Server, which has no row values, with a VALUES table.
+     * Should be called with chunks of {@link org.javers.repository.sql.session.SelectBuilder#MAX_IN_LIST_SIZE} identifiers,
+     * so a query has at most 1000 bind parameters.
+     */
     void addSnapshotIdentifiersFilter(List<SnapshotDbIdentifier> snapshotDbIdentifiers) {
+        List<Long> pairs = new ArrayList<>();
+        snapshotDbIdentifiers.forEach(si -> {
+            pairs.add(si.getGlobalIdPk());
+            pairs.add(si.getVer());
+        });
+        String rows = String.join(",", Collections.nCopies(snapshotDbIdentifiers.size(), "(?,?)"));
+
+        if (dialectName == DialectName.MSSQL) {
+            selectBuilder.and("EXISTS (" +
+                    " SELECT 1 FROM (VALUES " + rows + ") ids(fk, ver)" +
+                    " WHERE ids.fk = " + SNAPSHOT_GLOBAL_ID_FK + " AND ids.ver = " + SNAPSHOT_VERSION + ")",
+                    longListParam(pairs));
+        } else {
+            selectBuilder.and("(" + SNAPSHOT_GLOBAL_ID_FK + ", " + SNAPSHOT_VERSION + ") IN (" + rows + ")",
+                    longListParam(pairs));
+        }
+        selectBuilder.queryName("snapshots by identifiers, chunk of " + snapshotDbIdentifiers.size());
+    }
 
-        selectBuilder.append("and (");
-
-        snapshotDbIdentifiers.forEach(si ->
-            selectBuilder.append("("+SNAPSHOT_GLOBAL_ID_FK+" = ? AND "+SNAPSHOT_VERSION+" = ?) OR",
-                                 longParam(si.getGlobalIdPk()), longParam(si.getVer()))
-        );
-
-        selectBuilder.append(" 1!=1)");
+    /**
+     * Keyset predicate, consistent with the ORDER BY {@link org.javers.repository.sql.schema.FixedSchemaFactory#SNAPSHOT_PK} DESC.
+     * PK of a given snapshot is resolved with a scalar subquery,
+     * if there is no such snapshot, the subquery yields NULL and nothing is selected.
+     */
+    void addAfterSnapshotFilter(SnapshotDbIdentifier afterSnapshot) {
+        selectBuilder.and(SNAPSHOT_PK + " < (" +
+                " SELECT s2." + SNAPSHOT_PK + " FROM " + snapshotTableName() + " s2" +
+                " WHERE s2." + SNAPSHOT_GLOBAL_ID_FK + " = ? AND s2." + SNAPSHOT_VERSION + " = ?)",
+                longParam(afterSnapshot.getGlobalIdPk()), longParam(afterSnapshot.getVer()));
     }
 
     void addVoOwnerEntityFilter(String ownerTypeName, String fragment) {
@@ -174,9 +217,58 @@ class SnapshotQuery {
     }
 
     List<CdoSnapshotSerialized> run() {
+        applyOrderAndLimit();
+        return selectBuilder.executeQuery(cdoSnapshotMapper);
+    }
+
+    Stream<CdoSnapshotSerialized> stream(int fetchSize) {
+        applyOrderAndLimit();
+        return selectBuilder.executeQueryForStream(cdoSnapshotMapper, fetchSize);
+    }
+
+    /**
+     * Commit properties are loaded by the same query,
+     * limited snapshots are LEFT JOINed with commit properties, rows of one snapshot are adjacent,
+     * so no other statement is executed while the cursor is open
+     * (MySQL streaming result sets and MS SQL Server without MARS allow only one).
+     */
+    Stream<CdoSnapshotSerialized> streamWithCommitProperties(int fetchSize) {
+        applyOrderAndLimit();
+        selectBuilder
+            .wrap("SELECT " + resultColumns().stream().map(it -> "q." + it).collect(Collectors.joining(", ")) + ", " +
+                  "cp." + COMMIT_PROPERTY_NAME + ", cp." + COMMIT_PROPERTY_VALUE + " FROM (",
+                  ") q LEFT OUTER JOIN " + commitPropertyTableName() + " cp ON cp." + COMMIT_PROPERTY_COMMIT_FK + " = q." + COMMIT_PK +
+                  " ORDER BY q." + SNAPSHOT_PK + " DESC")
+            .queryName(selectBuilder.getQueryName() + " with commit properties");
+
+        Stream<CommitPropertyRow> rows = selectBuilder.executeQueryForStream(new CommitPropertyRowMapper(), fetchSize);
+        Iterator<CdoSnapshotSerialized> snapshots = new CommitPropertyRowsGroupingIterator(rows.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(snapshots, Spliterator.ORDERED), false)
+                .onClose(rows::close);
+    }
+
+    /**
+     * Names of columns selected by the snapshot query,
+     * the outer query can't use * because on Oracle, the limited query has the ROWNUM column
+     */
+    private List<String> resultColumns() {
+        List<String> columns = new ArrayList<>();
+        columns.add(SNAPSHOT_PK);
+        columns.add(SNAPSHOT_STATE);
+        if (cdoSnapshotStateCodecs.isBinary()) {
+            columns.add(SNAPSHOT_STATE_BINARY);
+        }
+        columns.addAll(Arrays.asList(
+                SNAPSHOT_TYPE, SNAPSHOT_VERSION, SNAPSHOT_CHANGED, SNAPSHOT_MANAGED_TYPE,
+                COMMIT_PK, COMMIT_AUTHOR, COMMIT_COMMIT_DATE, COMMIT_COMMIT_DATE_INSTANT, COMMIT_COMMIT_ID,
+                GLOBAL_ID_LOCAL_ID, GLOBAL_ID_FRAGMENT, GLOBAL_ID_OWNER_ID_FK,
+                "owner_" + GLOBAL_ID_LOCAL_ID, "owner_" + GLOBAL_ID_FRAGMENT, "owner_" + GLOBAL_ID_TYPE_NAME));
+        return columns;
+    }
+
+    private void applyOrderAndLimit() {
         selectBuilder.orderByDesc(SNAPSHOT_PK);
         selectBuilder.limit(queryParams.limit(), queryParams.skip());
-        return selectBuilder.executeQuery(cdoSnapshotMapper);
     }
 
     private void addCommitPropertyFilter(SelectBuilder selectBuilder, String propertyName, Collection<String> propertyValue) {
@@ -206,13 +298,14 @@ class SnapshotQuery {
         @Override
         public CdoSnapshotSerialized get(ResultSet resultSet) throws SQLException {
             return new CdoSnapshotSerialized()
+                    .withSnapshotPk(resultSet.getLong(SNAPSHOT_PK))
                     .withCommitAuthor(resultSet.getString(COMMIT_AUTHOR))
                     .withCommitDate(resultSet.getTimestamp(COMMIT_COMMIT_DATE))
                     .withCommitDateInstant(resultSet.getString(COMMIT_COMMIT_DATE_INSTANT))
                     .withCommitId(resultSet.getBigDecimal(COMMIT_COMMIT_ID))
                     .withCommitPk(resultSet.getLong(COMMIT_PK))
                     .withVersion(resultSet.getLong(SNAPSHOT_VERSION))
-                    .withSnapshotState(cdoSnapshotStateCodec.decode(fetchSnapshotState(resultSet)))
+                    .withSnapshotState(cdoSnapshotStateCodecs.decode(fetchSnapshotState(resultSet), fetchSnapshotStateBinary(resultSet)))
                     .withChangedProperties(resultSet.getString(SNAPSHOT_CHANGED))
                     .withSnapshotType(resultSet.getString(SNAPSHOT_TYPE))
                     .withGlobalIdFragment(resultSet.getString(GLOBAL_ID_FRAGMENT))
@@ -225,10 +318,82 @@ class SnapshotQuery {
         private String fetchSnapshotState(ResultSet resultSet)  throws SQLException {
             if (dialectName == DialectName.ORACLE)  {
                 Clob snapshotState = resultSet.getClob(SNAPSHOT_STATE);
-                return snapshotState.getSubString(1, (int)snapshotState.length());
+                return snapshotState == null ? null : snapshotState.getSubString(1, (int)snapshotState.length());
             }
             return resultSet.getString(SNAPSHOT_STATE);
         }
+
+        private byte[] fetchSnapshotStateBinary(ResultSet resultSet) throws SQLException {
+            if (!cdoSnapshotStateCodecs.isBinary()) {
+                return null;
+            }
+            if (dialectName == DialectName.ORACLE)  {
+                Blob snapshotState = resultSet.getBlob(SNAPSHOT_STATE_BINARY);
+                return snapshotState == null ? null : snapshotState.getBytes(1, (int)snapshotState.length());
+            }
+            return resultSet.getBytes(SNAPSHOT_STATE_BINARY);
+        }
+    }
+
+    private static class CommitPropertyRow {
+        private final long snapshotPk;
+        private final CdoSnapshotSerialized snapshot;
+        private final String propertyName;
+        private final String propertyValue;
+
+        CommitPropertyRow(long snapshotPk, CdoSnapshotSerialized snapshot, String propertyName, String propertyValue) {
+            this.snapshotPk = snapshotPk;
+            this.snapshot = snapshot;
+            this.propertyName = propertyName;
+            this.propertyValue = propertyValue;
+        }
+    }
+
+    /**
+     * Snapshot is mapped only from the first row of each snapshot,
+     * next rows carry only its commit properties
+     */
+    private class CommitPropertyRowMapper implements ObjectMapper<CommitPropertyRow> {
+        private long lastSnapshotPk = -1;
+
+        @Override
+        public CommitPropertyRow get(ResultSet resultSet) throws SQLException {
+            long snapshotPk = resultSet.getLong(SNAPSHOT_PK);
+            CdoSnapshotSerialized snapshot = snapshotPk != lastSnapshotPk ? cdoSnapshotMapper.get(resultSet) : null;
+            lastSnapshotPk = snapshotPk;
+            return new CommitPropertyRow(snapshotPk, snapshot,
+                    resultSet.getString(COMMIT_PROPERTY_NAME), resultSet.getString(COMMIT_PROPERTY_VALUE));
+        }
+    }
+
+    private static class CommitPropertyRowsGroupingIterator implements Iterator<CdoSnapshotSerialized> {
+        private final PeekingIterator<CommitPropertyRow> rows;
+
+        CommitPropertyRowsGroupingIterator(Iterator<CommitPropertyRow> rows) {
+            this.rows = Iterators.peekingIterator(rows);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public CdoSnapshotSerialized next() {
+            CommitPropertyRow first = rows.next();
+            Map<String, String> commitProperties = new HashMap<>();
+            addCommitProperty(first, commitProperties);
+            while (rows.hasNext() && rows.peek().snapshotPk == first.snapshotPk) {
+                addCommitProperty(rows.next(), commitProperties);
+            }
+            return first.snapshot.withCommitProperties(commitProperties.isEmpty() ? null : commitProperties);
+        }
+
+        private void addCommitProperty(CommitPropertyRow row, Map<String, String> commitProperties) {
+            if (row.propertyName != null) {
+                commitProperties.put(row.propertyName, row.propertyValue);
+            }
+        }
     }
 
     private String snapshotTableName() {
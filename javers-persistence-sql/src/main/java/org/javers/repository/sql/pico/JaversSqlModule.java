@@ -4,6 +4,7 @@ import org.javers.core.pico.JaversModule;
 import org.javers.repository.sql.JaversSqlRepository;
 import org.javers.repository.sql.finders.CdoSnapshotFinder;
 import org.javers.repository.sql.finders.CommitPropertyFinder;
+import org.javers.repository.sql.finders.LatestSnapshotCache;
 import org.javers.repository.sql.repositories.CdoSnapshotRepository;
 import org.javers.repository.sql.repositories.CommitMetadataRepository;
 import org.javers.repository.sql.repositories.GlobalIdRepository;
@@ -31,6 +32,7 @@ public class JaversSqlModule implements JaversModule {
             CdoSnapshotRepository.class,
             CdoSnapshotFinder.class,
             CommitPropertyFinder.class,
+            LatestSnapshotCache.class,
             TableNameProvider.class
     };
 
@@ -1,13 +1,18 @@
 package org.javers.repository.sql.repositories;
 
 import org.javers.core.json.JsonConverter;
-import org.javers.repository.sql.codecs.CdoSnapshotStateCodec;
+import org.javers.repository.sql.codecs.CdoSnapshotStateCodecs;
 import org.javers.core.metamodel.object.CdoSnapshot;
+import org.javers.core.metamodel.object.GlobalId;
 import org.javers.repository.sql.schema.SchemaNameAware;
 import org.javers.repository.sql.schema.TableNameProvider;
+import org.javers.repository.sql.session.InsertBuilder;
 import org.javers.repository.sql.session.Session;
 
 import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
 
 import static org.javers.repository.sql.schema.FixedSchemaFactory.*;
 
@@ -15,30 +20,39 @@ public class CdoSnapshotRepository extends SchemaNameAware {
 
     private JsonConverter jsonConverter;
     private final GlobalIdRepository globalIdRepository;
-    private final CdoSnapshotStateCodec cdoSnapshotStateCodec;
+    private final CdoSnapshotStateCodecs cdoSnapshotStateCodecs;
 
-    public CdoSnapshotRepository(GlobalIdRepository globalIdRepository, TableNameProvider tableNameProvider, CdoSnapshotStateCodec cdoSnapshotStateCodec) {
+    public CdoSnapshotRepository(GlobalIdRepository globalIdRepository, TableNameProvider tableNameProvider, CdoSnapshotStateCodecs cdoSnapshotStateCodecs) {
         super(tableNameProvider);
         this.globalIdRepository = globalIdRepository;
-        this.cdoSnapshotStateCodec = cdoSnapshotStateCodec;
+        this.cdoSnapshotStateCodecs = cdoSnapshotStateCodecs;
     }
 
     public void save(long commitIdPk, List<CdoSnapshot> cdoSnapshots, Session session) {
+        Map<GlobalId, Long> globalIdPks = globalIdRepository.getOrInsertIds(
+                cdoSnapshots.stream().map(CdoSnapshot::getGlobalId).collect(toList()), session);
+
+        InsertBuilder insert = session.insert("Snapshot")
+                .into(getSnapshotTableNameWithSchema())
+                .sequence(SNAPSHOT_PK, getSnapshotTablePkSeqName().nameWithSchema());
+
         for (CdoSnapshot cdoSnapshot : cdoSnapshots) {
-            long globalIdPk = globalIdRepository.getOrInsertId(cdoSnapshot.getGlobalId(), session);
-
-            session.insert("Snapshot")
-                    .into(getSnapshotTableNameWithSchema())
-                    .value(SNAPSHOT_TYPE, cdoSnapshot.getType().toString())
-                    .value(SNAPSHOT_GLOBAL_ID_FK, globalIdPk)
-                    .value(SNAPSHOT_COMMIT_FK, commitIdPk)
-                    .value(SNAPSHOT_VERSION, cdoSnapshot.getVersion())
-                    .value(SNAPSHOT_STATE, cdoSnapshotStateCodec.encode(jsonConverter.toJson(cdoSnapshot.getState())))
-                    .value(SNAPSHOT_CHANGED, jsonConverter.toJson(cdoSnapshot.getChanged()))
-                    .value(SNAPSHOT_MANAGED_TYPE, cdoSnapshot.getManagedType().getName())
-                    .sequence(SNAPSHOT_PK, getSnapshotTablePkSeqName().nameWithSchema())
-                    .execute();
+            String state = jsonConverter.toJson(cdoSnapshot.getState());
+
+            insert.value(SNAPSHOT_TYPE, cdoSnapshot.getType().toString())
+                  .value(SNAPSHOT_GLOBAL_ID_FK, globalIdPks.get(cdoSnapshot.getGlobalId()))
+                  .value(SNAPSHOT_COMMIT_FK, commitIdPk)
+                  .value(SNAPSHOT_VERSION, cdoSnapshot.getVersion())
+                  .value(SNAPSHOT_STATE, cdoSnapshotStateCodecs.encodeText(state));
+            if (cdoSnapshotStateCodecs.isBinary()) {
+                insert.value(SNAPSHOT_STATE_BINARY, cdoSnapshotStateCodecs.encodeBinary(state));
+            }
+            insert.value(SNAPSHOT_CHANGED, jsonConverter.toJson(cdoSnapshot.getChanged()))
+                  .value(SNAPSHOT_MANAGED_TYPE, cdoSnapshot.getManagedType().getName())
+                  .addBatch();
         }
+
+        insert.executeBatch();
     }
 
     public void setJsonConverter(JsonConverter jsonConverter) {
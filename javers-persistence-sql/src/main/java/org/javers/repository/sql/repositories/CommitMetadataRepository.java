@@ -69,6 +69,26 @@ public class CommitMetadataRepository extends SchemaNameAware {
                 .orElse(null);
     }
 
+    /**
+     * Hi/lo allocation, a block is <code>[hi * blockSize, (hi + 1) * blockSize)</code>,
+     * where hi is taken from the <code>jv_commit_id_seq</code> sequence.
+     * Sequences are not transactional, so a block is never reserved twice.
+     * <br/>
+     * The sequence is created above the commit head id,
+     * see {@link org.javers.repository.sql.schema.JaversSchemaManager},
+     * so switching from SYNCHRONIZED_SEQUENCE on a non-empty database doesn't need to skip blocks.
+     * Blocks below headMajorId are skipped only when commits were persisted
+     * with SYNCHRONIZED_SEQUENCE after the sequence was created.
+     */
+    public long reserveCommitIdBlock(int blockSize, long headMajorId, Session session) {
+        long hi;
+        do {
+            hi = session.nextFromSequence(getCommitIdSeqName().nameWithSchema());
+        } while (hi * blockSize <= headMajorId);
+
+        return hi * blockSize;
+    }
+
     private Optional<BigDecimal> selectMaxCommitId(Session session) {
         return session.select("MAX(" + COMMIT_COMMIT_ID + ")")
                 .from(getCommitTableNameWithSchema())
@@ -2,23 +2,33 @@ package org.javers.repository.sql.repositories;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Iterables;
+import org.javers.common.collections.Pair;
 import org.javers.core.json.JsonConverter;
 import org.javers.core.metamodel.object.GlobalId;
 import org.javers.core.metamodel.object.InstanceId;
 import org.javers.core.metamodel.object.UnboundedValueObjectId;
 import org.javers.core.metamodel.object.ValueObjectId;
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.repository.sql.SqlRepositoryConfiguration;
 import org.javers.repository.sql.schema.SchemaNameAware;
 import org.javers.repository.sql.schema.TableNameProvider;
 import org.javers.repository.sql.session.InsertBuilder;
 import org.javers.repository.sql.session.SelectBuilder;
 import org.javers.repository.sql.session.Session;
-import java.util.Optional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
 import static org.javers.repository.sql.schema.FixedSchemaFactory.*;
+import static org.javers.repository.sql.session.Parameter.listParam;
+import static org.javers.repository.sql.session.Parameter.longListParam;
+import static org.javers.repository.sql.session.SelectBuilder.MAX_IN_LIST_SIZE;
 
 public class GlobalIdRepository extends SchemaNameAware {
 
     private JsonConverter jsonConverter;
+    private JaversMetrics metrics = JaversMetrics.NONE;
     private final boolean disableCache;
 
     private Cache<GlobalId, Long> globalIdPkCache = CacheBuilder.newBuilder()
@@ -35,6 +45,21 @@ public class GlobalIdRepository extends SchemaNameAware {
         return pk.isPresent() ? pk.get() : insert(globalId, session);
     }
 
+    /**
+     * Bulk version of {@link #getOrInsertId(GlobalId, Session)},
+     * existing PKs are resolved using multi-row lookups
+     */
+    public Map<GlobalId, Long> getOrInsertIds(Collection<GlobalId> globalIds, Session session) {
+        Map<GlobalId, Long> pks = findGlobalIdPks(globalIds, session);
+
+        globalIds.stream()
+                .sorted(Comparator.comparing(it -> it instanceof ValueObjectId))
+                .filter(it -> !pks.containsKey(it))
+                .forEach(it -> pks.put(it, insert(it, pks, session)));
+
+        return pks;
+    }
+
     public void evictCache() {
         globalIdPkCache.invalidateAll();
     }
@@ -54,8 +79,10 @@ public class GlobalIdRepository extends SchemaNameAware {
         Long foundPk = globalIdPkCache.getIfPresent(globalId);
 
         if (foundPk != null){
+            metrics.recordCacheAccess(JaversMetrics.GLOBAL_ID_CACHE, 1, 0);
             return Optional.of(foundPk);
         }
+        metrics.recordCacheAccess(JaversMetrics.GLOBAL_ID_CACHE, 0, 1);
 
         Optional<Long> fresh = findGlobalIdPkInDB(globalId, session);
         if (fresh.isPresent()){
@@ -65,6 +92,112 @@ public class GlobalIdRepository extends SchemaNameAware {
         return fresh;
     }
 
+    /**
+     * cached, bulk version of {@link #findGlobalIdPk(GlobalId, Session)}
+     */
+    public Map<GlobalId, Long> findGlobalIdPks(Collection<GlobalId> globalIds, Session session) {
+        Map<GlobalId, Long> found = new HashMap<>();
+        Set<GlobalId> missing = new HashSet<>();
+
+        for (GlobalId globalId : globalIds) {
+            Long cachedPk = disableCache ? null : globalIdPkCache.getIfPresent(globalId);
+            if (cachedPk != null) {
+                found.put(globalId, cachedPk);
+            } else {
+                missing.add(globalId);
+            }
+        }
+
+        if (!disableCache) {
+            metrics.recordCacheAccess(JaversMetrics.GLOBAL_ID_CACHE, found.size(), missing.size());
+        }
+
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        Set<InstanceId> instanceIds = new HashSet<>();
+        Set<ValueObjectId> valueObjectIds = new HashSet<>();
+        for (GlobalId globalId : missing) {
+            if (globalId instanceof InstanceId) {
+                instanceIds.add((InstanceId) globalId);
+            } else if (globalId instanceof ValueObjectId) {
+                valueObjectIds.add((ValueObjectId) globalId);
+            } else {
+                findGlobalIdPkInDB(globalId, session).ifPresent(pk -> found.put(globalId, pk));
+            }
+        }
+
+        Map<GlobalId, Long> freshPks = new HashMap<>(findInstanceIdPksInDB(instanceIds, session));
+
+        Set<GlobalId> owners = valueObjectIds.stream().map(ValueObjectId::getOwnerId).collect(Collectors.toSet());
+        Map<GlobalId, Long> ownerPks = new HashMap<>(found);
+        ownerPks.putAll(freshPks);
+        owners.stream()
+              .filter(it -> !ownerPks.containsKey(it))
+              .forEach(it -> findGlobalIdPk(it, session).ifPresent(pk -> ownerPks.put(it, pk)));
+
+        freshPks.putAll(findValueObjectIdPksInDB(valueObjectIds, ownerPks, session));
+
+        if (!disableCache) {
+            globalIdPkCache.putAll(freshPks);
+        }
+        found.putAll(freshPks);
+        return found;
+    }
+
+    private Map<GlobalId, Long> findInstanceIdPksInDB(Set<InstanceId> instanceIds, Session session) {
+        Map<String, Map<String, InstanceId>> byTypeAndLocalId = new HashMap<>();
+        instanceIds.forEach(it -> byTypeAndLocalId
+                .computeIfAbsent(it.getTypeName(), k -> new HashMap<>())
+                .put(jsonConverter.toJson(it.getCdoId()), it));
+
+        Set<String> localIds = byTypeAndLocalId.values().stream()
+                .flatMap(it -> it.keySet().stream())
+                .collect(Collectors.toSet());
+
+        Map<GlobalId, Long> result = new HashMap<>();
+        for (List<String> chunk : Iterables.partition(localIds, MAX_IN_LIST_SIZE)) {
+            session.select(GLOBAL_ID_PK + ", " + GLOBAL_ID_LOCAL_ID + ", " + GLOBAL_ID_TYPE_NAME)
+                   .from(getGlobalIdTableNameWithSchema())
+                   .andIn(GLOBAL_ID_LOCAL_ID, listParam(chunk), chunk.size())
+                   .queryName("find PKs of InstanceIds, chunk of " + chunk.size())
+                   .executeQuery(rs -> new Pair<>(
+                           byTypeAndLocalId.getOrDefault(rs.getString(GLOBAL_ID_TYPE_NAME), Collections.emptyMap())
+                                           .get(rs.getString(GLOBAL_ID_LOCAL_ID)),
+                           rs.getLong(GLOBAL_ID_PK)))
+                   .stream()
+                   .filter(it -> it.left() != null)
+                   .forEach(it -> result.putIfAbsent(it.left(), it.right()));
+        }
+        return result;
+    }
+
+    private Map<GlobalId, Long> findValueObjectIdPksInDB(Set<ValueObjectId> valueObjectIds, Map<GlobalId, Long> ownerPks, Session session) {
+        Map<Long, Map<String, ValueObjectId>> byOwnerPkAndFragment = new HashMap<>();
+        valueObjectIds.stream()
+                .filter(it -> ownerPks.containsKey(it.getOwnerId()))
+                .forEach(it -> byOwnerPkAndFragment
+                        .computeIfAbsent(ownerPks.get(it.getOwnerId()), k -> new HashMap<>())
+                        .put(it.getFragment(), it));
+
+        Map<GlobalId, Long> result = new HashMap<>();
+        for (List<Long> chunk : Iterables.partition(byOwnerPkAndFragment.keySet(), MAX_IN_LIST_SIZE)) {
+            session.select(GLOBAL_ID_PK + ", " + GLOBAL_ID_OWNER_ID_FK + ", " + GLOBAL_ID_FRAGMENT)
+                   .from(getGlobalIdTableNameWithSchema())
+                   .andIn(GLOBAL_ID_OWNER_ID_FK, longListParam(chunk), chunk.size())
+                   .queryName("find PKs of ValueObjectIds, chunk of " + chunk.size())
+                   .executeQuery(rs -> new Pair<>(
+                           byOwnerPkAndFragment.getOrDefault(rs.getLong(GLOBAL_ID_OWNER_ID_FK), Collections.emptyMap())
+                                               .get(rs.getString(GLOBAL_ID_FRAGMENT)),
+                           rs.getLong(GLOBAL_ID_PK)))
+                   .stream()
+                   .filter(it -> it.left() != null)
+                   .forEach(it -> result.putIfAbsent(it.left(), it.right()));
+        }
+        return result;
+    }
+
     private Optional<Long> findGlobalIdPkInDB(GlobalId globalId, Session session) {
         SelectBuilder select =  session.select(GLOBAL_ID_PK)
                 .from(getGlobalIdTableNameWithSchema());
@@ -93,12 +226,17 @@ public class GlobalIdRepository extends SchemaNameAware {
     }
 
     private long insert(GlobalId globalId, Session session) {
+        return insert(globalId, Collections.emptyMap(), session);
+    }
+
+    private long insert(GlobalId globalId, Map<GlobalId, Long> knownPks, Session session) {
         InsertBuilder insert = null;
 
         if (globalId instanceof ValueObjectId) {
             insert = session.insert("ValueObjectId");
             ValueObjectId valueObjectId  = (ValueObjectId) globalId;
-            long ownerFk = getOrInsertId(valueObjectId.getOwnerId(), session);
+            Long knownOwnerFk = knownPks.get(valueObjectId.getOwnerId());
+            long ownerFk = knownOwnerFk != null ? knownOwnerFk : getOrInsertId(valueObjectId.getOwnerId(), session);
             insert.value(GLOBAL_ID_FRAGMENT, valueObjectId.getFragment())
                   .value(GLOBAL_ID_OWNER_ID_FK, ownerFk);
         }
@@ -121,4 +259,8 @@ public class GlobalIdRepository extends SchemaNameAware {
     public void setJsonConverter(JsonConverter JSONConverter) {
         this.jsonConverter = JSONConverter;
     }
+
+    public void setMetrics(JaversMetrics metrics) {
+        this.metrics = metrics;
+    }
 }
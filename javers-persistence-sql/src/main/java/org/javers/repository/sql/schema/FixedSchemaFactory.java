@@ -41,6 +41,7 @@ public class FixedSchemaFactory extends SchemaNameAware {
     public static final String SNAPSHOT_STATE =        "state";
     public static final String SNAPSHOT_CHANGED =      "changed_properties"; //since v 1.2
     public static final String SNAPSHOT_MANAGED_TYPE = "managed_type";       //since 2.0
+    public static final String SNAPSHOT_STATE_BINARY = "state_bin";          //added only when the binary codec is used
 
     private final static int ORACLE_MAX_NAME_LEN = 30;
 
@@ -1,6 +1,7 @@
 package org.javers.repository.sql.schema;
 
 import org.javers.repository.sql.ConnectionProvider;
+import org.javers.repository.sql.codecs.CdoSnapshotStateCodecs;
 import org.polyjdbc.core.PolyJDBC;
 import org.polyjdbc.core.dialect.*;
 import org.polyjdbc.core.exception.SchemaInspectionException;
@@ -12,11 +13,14 @@ import org.polyjdbc.core.util.TheCloser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.sql.*;
 import java.util.Map;
 
 import static org.javers.repository.sql.schema.FixedSchemaFactory.COMMIT_COMMIT_DATE_INSTANT;
+import static org.javers.repository.sql.schema.FixedSchemaFactory.COMMIT_COMMIT_ID;
 import static org.javers.repository.sql.schema.FixedSchemaFactory.GLOBAL_ID_OWNER_ID_FK;
+import static org.javers.repository.sql.schema.FixedSchemaFactory.SNAPSHOT_STATE_BINARY;
 
 /**
  * @author bartosz walacik
@@ -30,16 +34,26 @@ public class JaversSchemaManager extends SchemaNameAware {
     private final FixedSchemaFactory schemaFactory;
     private final PolyJDBC polyJDBC;
     private final ConnectionProvider connectionProvider;
+    private final CdoSnapshotStateCodecs cdoSnapshotStateCodecs;
 
-    public JaversSchemaManager(Dialect dialect, FixedSchemaFactory schemaFactory, PolyJDBC polyJDBC, ConnectionProvider connectionProvider, TableNameProvider tableNameProvider) {
+    public JaversSchemaManager(Dialect dialect, FixedSchemaFactory schemaFactory, PolyJDBC polyJDBC, ConnectionProvider connectionProvider, TableNameProvider tableNameProvider, CdoSnapshotStateCodecs cdoSnapshotStateCodecs) {
         super(tableNameProvider);
         this.dialect = dialect;
         this.schemaFactory = schemaFactory;
         this.polyJDBC = polyJDBC;
         this.connectionProvider = connectionProvider;
+        this.cdoSnapshotStateCodecs = cdoSnapshotStateCodecs;
     }
 
     public void ensureSchema() {
+        ensureSchema(false);
+    }
+
+    /**
+     * @param commitIdSequenceEnabled true when CommitIdGenerator.BLOCK_SEQUENCE is used,
+     *        then the <code>jv_commit_id_seq</code> sequence is created
+     */
+    public void ensureSchema(boolean commitIdSequenceEnabled) {
         this.schemaInspector = polyJDBC.schemaInspector();
         this.schemaManager = polyJDBC.schemaManager();
 
@@ -61,6 +75,12 @@ public class JaversSchemaManager extends SchemaNameAware {
 
         addCommitDateInstantColumnIfNeeded();
 
+        addSnapshotStateBinaryColumnIfNeeded();
+
+        if(commitIdSequenceEnabled && !(dialect instanceof MysqlDialect)) {
+            addCommitIdSequenceIfNeeded();
+        }
+
         TheCloser.close(schemaManager, schemaInspector);
     }
 
@@ -75,6 +95,50 @@ public class JaversSchemaManager extends SchemaNameAware {
         }
     }
 
+    /**
+     * The <code>state_bin</code> column is added only when the binary snapshot state codec is enabled
+     */
+    private void addSnapshotStateBinaryColumnIfNeeded() {
+        if (cdoSnapshotStateCodecs.isBinary() && !columnExists(getSnapshotTableNameWithSchema(), SNAPSHOT_STATE_BINARY)) {
+            addBinaryColumn(getSnapshotTableNameWithSchema(), SNAPSHOT_STATE_BINARY);
+        }
+    }
+
+    /**
+     * Sequence for CommitIdGenerator.BLOCK_SEQUENCE, not supported on MySql.
+     * Created when BLOCK_SEQUENCE is used for the first time.
+     * <br/>
+     * Starts above the major part of the max commit id,
+     * so on a non-empty database, each block <code>[hi * blockSize, (hi + 1) * blockSize)</code>
+     * is above already persisted commits, whatever the block size is.
+     */
+    private void addCommitIdSequenceIfNeeded() {
+        DBObjectName seqName = getCommitIdSeqName();
+        if (sequenceExists(seqName)) {
+            return;
+        }
+        long start = selectMaxCommitMajorId() + 1;
+        logger.warn("sequence " + seqName.nameWithSchema() + " not exists, running CREATE SEQUENCE ...");
+        executeSQL("CREATE SEQUENCE " + seqName.nameWithSchema() + " START WITH " + start + " INCREMENT BY 1");
+    }
+
+    private long selectMaxCommitMajorId() {
+        try {
+            Statement stmt = connectionProvider.getConnection().createStatement();
+
+            ResultSet res = stmt.executeQuery("select max(" + COMMIT_COMMIT_ID + ") from " + getCommitTableNameWithSchema());
+            res.next();
+            BigDecimal maxCommitId = res.getBigDecimal(1);
+
+            res.close();
+            stmt.close();
+
+            return maxCommitId == null ? 0 : maxCommitId.longValue();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * JaVers 3.9.2 to 3.9.3 schema migration (MySql only)
      */
@@ -195,6 +259,32 @@ public class JaversSchemaManager extends SchemaNameAware {
         }
     }
 
+    private boolean sequenceExists(DBObjectName seqName) {
+        String sql;
+        if (dialect instanceof OracleDialect) {
+            sql = "select count(*) from all_sequences where lower(sequence_name) = '" + seqName.localName().toLowerCase() + "'" +
+                    getSchemaName().map(s -> " and lower(sequence_owner) = '" + s.toLowerCase() + "'").orElse("");
+        } else {
+            sql = "select count(*) from information_schema.sequences where lower(sequence_name) = '" + seqName.localName().toLowerCase() + "'" +
+                    getSchemaName().map(s -> " and lower(sequence_schema) = '" + s.toLowerCase() + "'").orElse("");
+        }
+
+        try {
+            Statement stmt = connectionProvider.getConnection().createStatement();
+
+            ResultSet res = stmt.executeQuery(sql);
+            res.next();
+            boolean exists = res.getInt(1) > 0;
+
+            res.close();
+            stmt.close();
+
+            return exists;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private boolean columnExists(String tableName, String colName) {
         try {
             Statement stmt = connectionProvider.getConnection().createStatement();
@@ -302,6 +392,22 @@ public class JaversSchemaManager extends SchemaNameAware {
         }
     }
 
+    private void addBinaryColumn(String tableName, String colName) {
+        logger.warn("column " + tableName + "." + colName + " not exists, running ALTER TABLE ...");
+
+        if (dialect instanceof PostgresDialect) {
+            executeSQL("ALTER TABLE " + tableName + " ADD COLUMN " + colName + " bytea");
+        } else if (dialect instanceof MysqlDialect) {
+            executeSQL("ALTER TABLE " + tableName + " ADD COLUMN " + colName + " LONGBLOB");
+        } else if (dialect instanceof MsSqlDialect) {
+            executeSQL("ALTER TABLE " + tableName + " ADD " + colName + " VARBINARY(MAX)");
+        } else if (dialect instanceof OracleDialect) {
+            executeSQL("ALTER TABLE " + tableName + " ADD " + colName + " BLOB");
+        } else {
+            executeSQL("ALTER TABLE " + tableName + " ADD COLUMN " + colName + " BLOB");
+        }
+    }
+
     private void extendStringColumnIfNeeded(String tableName, String colName, int len) {
         ColumnType colType = getTypeOf(tableName, colName);
         String newType = colType.typeName + "(" + len + ")";
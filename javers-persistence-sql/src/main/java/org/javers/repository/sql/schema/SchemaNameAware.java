@@ -45,6 +45,10 @@ public abstract class SchemaNameAware {
         return tableNameProvider.getCommitPkSeqName();
     }
 
+    protected DBObjectName getCommitIdSeqName(){
+        return tableNameProvider.getCommitIdSeqName();
+    }
+
     protected DBObjectName getSnapshotTablePkSeqName(){
         return tableNameProvider.getSnapshotTablePkSeqName();
     }
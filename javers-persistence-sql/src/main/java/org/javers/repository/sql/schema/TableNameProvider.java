@@ -12,6 +12,7 @@ public class TableNameProvider {
     private static final String SNAPSHOT_TABLE_PK_SEQ = "jv_snapshot_pk_seq";
     private static final String COMMIT_PK_SEQ =        "jv_commit_pk_seq";
     private static final String GLOBAL_ID_PK_SEQ =     "jv_global_id_pk_seq";
+    private static final String COMMIT_ID_SEQ =        "jv_commit_id_seq";
 
 
     private static final String DEFAULT_GLOBAL_ID_TABLE_NAME = "jv_global_id";
@@ -58,6 +59,13 @@ public class TableNameProvider {
         return fullDbName(COMMIT_PK_SEQ);
     }
 
+    /**
+     * Used by CommitIdGenerator.BLOCK_SEQUENCE
+     */
+    public DBObjectName getCommitIdSeqName() {
+        return fullDbName(COMMIT_ID_SEQ);
+    }
+
     /**
      * used only by migration scripts
      */
@@ -2,12 +2,15 @@ package org.javers.repository.sql.session;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 public class InsertBuilder extends QueryBuilder<InsertBuilder> {
     private Session session;
     private String tableName;
     private String primaryKeyFieldName;
     private String sequenceName;
+    private final List<List<Parameter>> batch = new ArrayList<>();
 
     InsertBuilder(Session session, String queryName) {
         this.session = session;
@@ -44,6 +47,11 @@ public class InsertBuilder extends QueryBuilder<InsertBuilder> {
         return this;
     }
 
+    public InsertBuilder value(String name, byte[] value) {
+        parameters.add(new Parameter.BytesParameter(name, value));
+        return this;
+    }
+
     public InsertBuilder sequence(String primaryKeyFieldName, String sequenceName) {
         this.primaryKeyFieldName = primaryKeyFieldName;
         this.sequenceName = sequenceName;
@@ -57,4 +65,24 @@ public class InsertBuilder extends QueryBuilder<InsertBuilder> {
     public void execute() {
         session.executeInsert(getQueryName(), getParameters(), tableName, primaryKeyFieldName, sequenceName);
     }
+
+    /**
+     * Moves current values to the batch, so the next row can be built
+     */
+    public InsertBuilder addBatch() {
+        batch.add(new ArrayList<>(parameters));
+        parameters.clear();
+        return this;
+    }
+
+    /**
+     * Inserts all rows added by {@link #addBatch()} using JDBC batching
+     */
+    public void executeBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        session.executeBatchInsert(getQueryName(), batch, tableName, primaryKeyFieldName, sequenceName);
+        batch.clear();
+    }
 }
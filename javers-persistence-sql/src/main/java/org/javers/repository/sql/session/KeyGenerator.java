@@ -37,6 +37,10 @@ interface KeyGenerator {
             return sequenceDefinition.nextFromSequenceAsSQLExpression(seqName);
         }
 
+        String nextFromSequenceAsSelect(String seqName) {
+            return sequenceDefinition.nextFromSequenceAsSelect(seqName);
+        }
+
         @Override
         public long generateKey(String sequenceName, Session session) {
             long nextVal = findSequence(sequenceName).nextValue(session);
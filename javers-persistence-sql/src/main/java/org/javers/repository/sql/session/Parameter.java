@@ -35,6 +35,10 @@ public abstract class Parameter<T> {
         return new ListParameter(null, value);
     }
 
+    public static Parameter<Collection<Long>> longListParam(Collection<Long> value){
+        return new LongListParameter(null, value);
+    }
+
     public static Parameter<BigDecimal> bigDecimalParam(BigDecimal value){
         return new BigDecimalParameter(null, value);
     }
@@ -86,6 +90,21 @@ public abstract class Parameter<T> {
         }
     }
 
+    static class LongListParameter extends Parameter<Collection<Long>> {
+        LongListParameter(String name, Collection<Long> value) {
+            super(name, value);
+        }
+
+        @Override
+        int injectValuesTo(PreparedStatement preparedStatement, int order) throws SQLException {
+            int k = order;
+            for (Long val : getValue()) {
+                preparedStatement.setLong(k++, val);
+            }
+            return k;
+        }
+    }
+
     static class LongParameter extends Parameter<Long> {
         LongParameter(String name, Long value) {
             super(name, value);
@@ -126,6 +145,18 @@ public abstract class Parameter<T> {
         }
     }
 
+    static class BytesParameter extends Parameter<byte[]> {
+        BytesParameter(String name, byte[] value) {
+            super(name, value);
+        }
+
+        @Override
+        int injectValuesTo(PreparedStatement preparedStatement, int order) throws SQLException {
+            preparedStatement.setBytes(order, getValue());
+            return order + 1;
+        }
+    }
+
     static class BigDecimalParameter extends Parameter<BigDecimal> {
         BigDecimalParameter(String name, BigDecimal value) {
             super(name, value);
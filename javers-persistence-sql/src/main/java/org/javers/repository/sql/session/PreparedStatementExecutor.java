@@ -3,6 +3,7 @@ package org.javers.repository.sql.session;
 import org.javers.common.exception.JaversException;
 import org.javers.common.exception.JaversExceptionCode;
 import org.javers.common.string.ToStringBuilder;
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.repository.sql.ConnectionProvider;
 
 import java.math.BigDecimal;
@@ -11,19 +12,31 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 
 class PreparedStatementExecutor {
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final PreparedStatement statement;
     private final String rawSql;
     private final String queryName;
+    private final JaversMetrics metrics;
     private int executionCount;
-    private long executionTotalMillis;
+    private long executionTotalNanos;
 
-    PreparedStatementExecutor(ConnectionProvider connectionProvider, Query query) {
+    PreparedStatementExecutor(ConnectionProvider connectionProvider, Query query, JaversMetrics metrics) {
         this.rawSql = query.rawSQl();
         this.queryName = query.name();
+        this.metrics = metrics;
         this.statement = wrapExceptionAndCall(() -> connectionProvider.getConnection().prepareStatement(this.rawSql));
     }
 
@@ -32,7 +45,7 @@ class PreparedStatementExecutor {
     }
 
     long getExecutionTotalMillis() {
-        return executionTotalMillis;
+        return executionTotalNanos / 1_000_000;
     }
 
     void execute(Insert insertQuery) {
@@ -42,6 +55,25 @@ class PreparedStatementExecutor {
         });
     }
 
+    void executeBatch(List<Insert> insertQueries) {
+        runVoidSql(() -> {
+            int batchSize = 0;
+            for (Insert insertQuery : insertQueries) {
+                insertQuery.injectValuesTo(statement);
+                statement.addBatch();
+                batchSize++;
+
+                if (batchSize == MAX_BATCH_SIZE) {
+                    statement.executeBatch();
+                    batchSize = 0;
+                }
+            }
+            if (batchSize > 0) {
+                statement.executeBatch();
+            }
+        });
+    }
+
     long executeQueryForLong(Select select) {
         return executeQueryForValue(select, resultSet -> resultSet.getLong(1));
     }
@@ -68,6 +100,22 @@ class PreparedStatementExecutor {
         });
     }
 
+    /**
+     * Rows are fetched from the cursor and mapped lazily, during the stream consumption.
+     * Closing the stream closes the ResultSet.
+     */
+    <T> Stream<T> executeQueryForStream(Select select, ObjectMapper<T> objectMapper, int fetchSize) {
+        ResultSet rset = runSql(() -> {
+            select.injectValuesTo(statement);
+            statement.setFetchSize(fetchSize);
+            return statement.executeQuery();
+        });
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                    new ResultSetIterator<>(rset, objectMapper), ORDERED | NONNULL), false)
+                .onClose(() -> wrapExceptionAndCall(() -> rset.close()));
+    }
+
     private <T> T executeQueryForValue(Select select, ObjectMapper<T> objectMapper) {
         return runSql(() -> {
             select.injectValuesTo(statement);
@@ -95,22 +143,26 @@ class PreparedStatementExecutor {
     }
 
     private <T> T runSql(SqlAction<T> action) {
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
 
         T result =  wrapExceptionAndCall(action);
 
-        executionCount++;
-        executionTotalMillis += System.currentTimeMillis() - start;
+        recordExecution(System.nanoTime() - start);
         return result;
     }
 
     private void runVoidSql(SqlVoidAction action) {
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
 
         wrapExceptionAndCall(action);
 
+        recordExecution(System.nanoTime() - start);
+    }
+
+    private void recordExecution(long durationNanos) {
         executionCount++;
-        executionTotalMillis += System.currentTimeMillis() - start;
+        executionTotalNanos += durationNanos;
+        metrics.recordSqlQuery(queryName, durationNanos);
     }
 
     private void wrapExceptionAndCall(SqlVoidAction action) {
@@ -131,7 +183,37 @@ class PreparedStatementExecutor {
 
     String printStats() {
         return ToStringBuilder.rPad(queryName, 32) + " executed " + executionCount +
-               " time(s) in " + executionTotalMillis + " millis, SQL: " + rawSql;
+               " time(s) in " + getExecutionTotalMillis() + " millis, SQL: " + rawSql;
+    }
+
+    private class ResultSetIterator<T> implements Iterator<T> {
+        private final ResultSet resultSet;
+        private final ObjectMapper<T> objectMapper;
+        private boolean fetched;
+        private boolean hasNextRow;
+
+        ResultSetIterator(ResultSet resultSet, ObjectMapper<T> objectMapper) {
+            this.resultSet = resultSet;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                hasNextRow = wrapExceptionAndCall(() -> resultSet.next());
+                fetched = true;
+            }
+            return hasNextRow;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            return wrapExceptionAndCall(() -> objectMapper.get(resultSet));
+        }
     }
 
     @FunctionalInterface
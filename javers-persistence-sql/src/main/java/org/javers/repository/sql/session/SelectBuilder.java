@@ -3,13 +3,20 @@ package org.javers.repository.sql.session;
 import org.javers.common.collections.Lists;
 
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.javers.repository.sql.session.Parameter.longParam;
 import static org.javers.repository.sql.session.Parameter.stringParam;
 
 public class SelectBuilder extends QueryBuilder<SelectBuilder> {
+    /**
+     * Safe number of bind parameters in a single IN list, for all supported dialects
+     */
+    public static final int MAX_IN_LIST_SIZE = 500;
+
     private Session session;
     private String rawSql;
 
@@ -44,6 +51,10 @@ public class SelectBuilder extends QueryBuilder<SelectBuilder> {
         return and(columnName, "=", longParam(value));
     }
 
+    public SelectBuilder andIn(String columnName, Parameter listParameter, int listSize) {
+        return and(columnName + " IN (" + String.join(",", Collections.nCopies(listSize, "?")) + ")", listParameter);
+    }
+
     public SelectBuilder andLike(String columnName, String value) {
         return and(columnName, "LIKE", stringParam(value));
     }
@@ -102,4 +113,12 @@ public class SelectBuilder extends QueryBuilder<SelectBuilder> {
     public <T> List<T> executeQuery(ObjectMapper<T> objectMapper) {
         return session.executeQuery(build(), objectMapper);
     }
+
+    /**
+     * Lazy version of {@link #executeQuery(ObjectMapper)}, reads rows from a cursor.
+     * The stream should be closed to release the ResultSet.
+     */
+    public <T> Stream<T> executeQueryForStream(ObjectMapper<T> objectMapper, int fetchSize) {
+        return session.executeQueryForStream(build(), objectMapper, fetchSize);
+    }
 }
@@ -2,6 +2,7 @@ package org.javers.repository.sql.session;
 
 import org.javers.common.collections.Lists;
 import org.javers.common.validation.Validate;
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.repository.sql.ConnectionProvider;
 import org.javers.repository.sql.DialectName;
 import org.javers.repository.sql.session.KeyGenerator.SequenceAllocation;
@@ -10,6 +11,7 @@ import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * @author bartosz.walacik
@@ -23,12 +25,14 @@ public class Session implements AutoCloseable {
     private final ConnectionProvider connectionProvider;
     private final String sessionName;
     private final KeyGenerator keyGenerator;
+    private final JaversMetrics metrics;
 
-    Session(Dialect dialect, KeyGenerator keyGenerator, ConnectionProvider connectionProvider, String sessionName) {
+    Session(Dialect dialect, KeyGenerator keyGenerator, ConnectionProvider connectionProvider, String sessionName, JaversMetrics metrics) {
         this.dialect = dialect;
         this.connectionProvider = connectionProvider;
         this.sessionName = sessionName;
         this.keyGenerator = keyGenerator;
+        this.metrics = metrics;
     }
 
     public SelectBuilder select(String selectClauseSQL) {
@@ -65,22 +69,50 @@ public class Session implements AutoCloseable {
     void executeInsert(String queryName, List<Parameter> parameters, String tableName, String primaryKeyFieldName, String sequenceName) {
         Validate.argumentsAreNotNull(queryName, parameters, tableName);
 
+        execute(createInsert(queryName, parameters, tableName, primaryKeyFieldName, sequenceName));
+    }
+
+    void executeBatchInsert(String queryName, List<List<Parameter>> rows, String tableName, String primaryKeyFieldName, String sequenceName) {
+        Validate.argumentsAreNotNull(queryName, rows, tableName);
+
+        List<Insert> insertQueries = new ArrayList<>();
+        for (List<Parameter> row : rows) {
+            insertQueries.add(createInsert(queryName, row, tableName, primaryKeyFieldName, sequenceName));
+        }
+
+        PreparedStatementExecutor executor = getOrCreatePreparedStatement(insertQueries.get(0));
+        executor.executeBatch(insertQueries);
+    }
+
+    /**
+     * When sequences are supported, PK is taken from the DB sequence by each row, and not
+     * from the allocation cache, so snapshot PKs are monotonic across application instances
+     */
+    private Insert createInsert(String queryName, List<Parameter> parameters, String tableName, String primaryKeyFieldName, String sequenceName) {
         if (dialect.supportsSequences() && sequenceName != null) {
             String nextFromSequenceExpression = ((SequenceAllocation) keyGenerator).nextFromSequenceAsSQLExpression(sequenceName);
 
-            Insert insertQuery = new Insert(
+            return new Insert(
                     queryName,
                     Lists.add(parameters, new Parameter.InlinedParameter(primaryKeyFieldName, nextFromSequenceExpression + " * 100")),
                     tableName);
-
-            execute(insertQuery);
         }
         else {
-            Insert insertQuery = new Insert(queryName, parameters, tableName);
-            execute(insertQuery);
+            return new Insert(queryName, parameters, tableName);
         }
     }
 
+    /**
+     * Next value of a DB sequence, taken directly from the DB, without the allocation cache
+     */
+    public long nextFromSequence(String sequenceName) {
+        Validate.argumentIsNotNull(sequenceName);
+        Validate.conditionFulfilled(dialect.supportsSequences(), "sequences are not supported by " + dialect.getName());
+
+        String nextFromSequenceSelect = ((SequenceAllocation) keyGenerator).nextFromSequenceAsSelect(sequenceName);
+        return executeQueryForLong(new Select("next from seq " + sequenceName, nextFromSequenceSelect));
+    }
+
     long executeQueryForLong(Select select) {
         PreparedStatementExecutor executor = getOrCreatePreparedStatement(select);
         return executor.executeQueryForLong(select);
@@ -101,6 +133,11 @@ public class Session implements AutoCloseable {
         return executor.executeQuery(select, objectMapper);
     }
 
+    <T> Stream<T> executeQueryForStream(Select select, ObjectMapper<T> objectMapper, int fetchSize) {
+        PreparedStatementExecutor executor = getOrCreatePreparedStatement(select);
+        return executor.executeQueryForStream(select, objectMapper, fetchSize);
+    }
+
     private void execute(Insert insertQuery) {
         PreparedStatementExecutor executor = getOrCreatePreparedStatement(insertQuery);
         executor.execute(insertQuery);
@@ -117,7 +154,7 @@ public class Session implements AutoCloseable {
             return statementExecutors.get(query.name());
         }
 
-        PreparedStatementExecutor executor = new PreparedStatementExecutor(connectionProvider, query);
+        PreparedStatementExecutor executor = new PreparedStatementExecutor(connectionProvider, query, metrics);
 
         statementExecutors.put(query.name(), executor);
 
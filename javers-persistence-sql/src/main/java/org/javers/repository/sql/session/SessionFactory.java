@@ -1,5 +1,6 @@
 package org.javers.repository.sql.session;
 
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.repository.sql.ConnectionProvider;
 import org.javers.repository.sql.DialectName;
 
@@ -7,6 +8,7 @@ public class SessionFactory {
     private final Dialect dialect;
     private final ConnectionProvider connectionProvider;
     private final KeyGenerator keyGenerator;
+    private JaversMetrics metrics = JaversMetrics.NONE;
 
     public SessionFactory(DialectName dialectName, ConnectionProvider connectionProvider) {
         this.dialect = Dialects.fromName(dialectName);
@@ -15,7 +17,11 @@ public class SessionFactory {
     }
 
     public Session create(String sessionName) {
-        return new Session(dialect, keyGenerator, connectionProvider, sessionName);
+        return new Session(dialect, keyGenerator, connectionProvider, sessionName, metrics);
+    }
+
+    public void setMetrics(JaversMetrics metrics) {
+        this.metrics = metrics;
     }
 
     public void resetKeyGeneratorCache() {
@@ -2,6 +2,7 @@ package org.javers.repository.sql
 
 import org.javers.common.exception.JaversException
 import org.javers.common.exception.JaversExceptionCode
+import org.javers.core.CommitIdGenerator
 import org.javers.core.JaversBuilder
 import org.javers.core.model.SnapshotEntity
 
@@ -53,6 +54,44 @@ class H2SqlRepositoryE2ETest extends JaversSqlRepositoryE2ETest {
         e.code == JaversExceptionCode.SQL_EXCEPTION
     }
 
+    def "should switch from SYNCHRONIZED_SEQUENCE to BLOCK_SEQUENCE on a non-empty database"(){
+        given:
+        def connection = DriverManager.getConnection("jdbc:h2:mem:commit-id-switch-test")
+        def javers = { CommitIdGenerator commitIdGenerator ->
+            JaversBuilder.javers()
+                    .registerJaversRepository(sqlRepository()
+                    .withConnectionProvider({ connection } as ConnectionProvider)
+                    .withDialect(getDialect())
+                    .build())
+                    .withCommitIdGenerator(commitIdGenerator)
+                    .build()
+        }
+        def commit = { javersInstance, int n ->
+            (1..n).collect { javersInstance.commit("author", new SnapshotEntity(id: 1, intProperty: it)).id.majorId }
+        }
+
+        when: "a database is filled with SYNCHRONIZED_SEQUENCE"
+        def synchronizedIds = commit(javers(CommitIdGenerator.SYNCHRONIZED_SEQUENCE), 250)
+        def blockIds = commit(javers(CommitIdGenerator.BLOCK_SEQUENCE), 3)
+
+        then:
+        synchronizedIds == (1..250)
+        blockIds[0] > 250
+        blockIds == (blockIds[0]..blockIds[0] + 2)
+
+        when: "switched back and forth, so the sequence is behind the head"
+        def synchronizedAgainIds = commit(javers(CommitIdGenerator.SYNCHRONIZED_SEQUENCE), 250)
+        def blockAgainIds = commit(javers(CommitIdGenerator.BLOCK_SEQUENCE), 3)
+
+        then:
+        synchronizedAgainIds[0] == blockIds[2] + 1
+        blockAgainIds[0] > synchronizedAgainIds[249]
+        blockAgainIds == (blockAgainIds[0]..blockAgainIds[0] + 2)
+
+        cleanup:
+        connection.close()
+    }
+
     /**
      * see https://github.com/javers/javers/issues/532
      */
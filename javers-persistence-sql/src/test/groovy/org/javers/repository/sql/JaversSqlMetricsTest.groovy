@@ -0,0 +1,53 @@
+package org.javers.repository.sql
+
+import org.javers.core.JaversBuilder
+import org.javers.core.metrics.JaversMetrics
+import org.javers.core.metamodel.annotation.Entity
+import org.javers.core.metamodel.annotation.Id
+import spock.lang.Specification
+
+class JaversSqlMetricsTest extends Specification {
+
+    @Entity
+    static class MetricsEntity {
+        @Id
+        long id
+        String value
+    }
+
+    static class RecordingMetrics implements JaversMetrics {
+        Set<String> sqlQueries = [] as Set
+        Map<String, Integer> cacheHits = [:].withDefault { 0 }
+        Map<String, Integer> cacheMisses = [:].withDefault { 0 }
+
+        @Override
+        void recordSqlQuery(String queryName, long durationNanos) {
+            sqlQueries << queryName
+        }
+
+        @Override
+        void recordCacheAccess(String cacheName, int hits, int misses) {
+            cacheHits[cacheName] += hits
+            cacheMisses[cacheName] += misses
+        }
+    }
+
+    def "should record SQL query timings and GlobalId cache hits"() {
+        given:
+        def metrics = new RecordingMetrics()
+        def javers = JaversBuilder.javers()
+                .registerJaversRepository(new H2RepositoryBuilder().build())
+                .withMetrics(metrics)
+                .build()
+
+        when:
+        javers.commit("author", new MetricsEntity(id: 501, value: "a"))
+        javers.commit("author", new MetricsEntity(id: 501, value: "b"))
+        javers.commit("author", new MetricsEntity(id: 501, value: "c"))
+
+        then:
+        !metrics.sqlQueries.isEmpty()
+        metrics.cacheMisses[JaversMetrics.GLOBAL_ID_CACHE] > 0
+        metrics.cacheHits[JaversMetrics.GLOBAL_ID_CACHE] > 0
+    }
+}
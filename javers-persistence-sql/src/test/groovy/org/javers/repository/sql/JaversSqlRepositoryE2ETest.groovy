@@ -1,12 +1,14 @@
 package org.javers.repository.sql
 
 import groovy.sql.Sql
+import org.javers.core.JaversBuilder
 import org.javers.core.JaversRepositoryShadowE2ETest
 import org.javers.core.cases.Case207Arrays
 import org.javers.core.cases.Case208DateTimeTypes
 import org.javers.core.model.DummyAddress
 import org.javers.core.model.SnapshotEntity
 import org.javers.repository.api.JaversRepository
+import org.javers.repository.api.SnapshotIdentifier
 import org.javers.repository.jql.QueryBuilder
 import org.javers.repository.sql.schema.JaversSchemaManager
 import org.javers.repository.sql.schema.TableNameProvider
@@ -17,6 +19,7 @@ import java.util.concurrent.ConcurrentLinkedQueue
 import java.util.concurrent.atomic.AtomicInteger
 
 import static groovyx.gpars.GParsPool.withPool
+import static org.javers.core.GlobalIdTestBuilder.instanceId
 
 abstract class JaversSqlRepositoryE2ETest extends JaversRepositoryShadowE2ETest {
     @Shared String globalIdTableName
@@ -224,6 +227,112 @@ abstract class JaversSqlRepositoryE2ETest extends JaversRepositoryShadowE2ETest
         intPropertyValues == 1..150
     }
 
+    def "should persist a large aggregate in a single commit using batched inserts"() {
+        given:
+        def entity = new SnapshotEntity(id: 1,
+                listOfValueObjects: (1..600).collect { new DummyAddress("city" + it) },
+                listOfEntities: (2..601).collect { new SnapshotEntity(id: it) })
+
+        when:
+        def commit = javers.commit("author", entity)
+        entity.listOfValueObjects[599].city = "changed"
+        javers.commit("author", entity)
+
+        then:
+        commit.snapshots.size() == 1201
+        javers.findSnapshots(QueryBuilder.byClass(SnapshotEntity).limit(2000).build()).size() == 601
+        javers.findSnapshots(QueryBuilder.byValueObjectId(1, SnapshotEntity, "listOfValueObjects/599").build())
+              .collect { it.getPropertyValue("city") } == ["changed", "city600"]
+    }
+
+    def "should load latest snapshots of many objects in bulk"() {
+        given:
+        def root = new SnapshotEntity(id: 1, listOfEntities: (2..701).collect { new SnapshotEntity(id: it, intProperty: 1) })
+        javers.commit("author", root)
+        root.listOfEntities[0..9].each { it.intProperty = 2 }
+        javers.commit("author", root)
+
+        def globalIds = javers.findSnapshots(QueryBuilder.byClass(SnapshotEntity).limit(2000).build())
+                              .collect { it.globalId }.unique()
+
+        when:
+        def latest = repository.getLatest(globalIds)
+
+        then:
+        latest.size() == 701
+        latest.collect { it.globalId } == globalIds
+        latest.findAll { it.version == 2 }.collect { it.getPropertyValue("intProperty") } == [2] * 10
+    }
+
+    def "should load snapshots of many identifiers in chunks"() {
+        given:
+        def root = new SnapshotEntity(id: 1, listOfEntities: (2..701).collect { new SnapshotEntity(id: it, intProperty: 1) })
+        javers.commit("author", root, [seq: "1"])
+        root.listOfEntities.each { it.intProperty = 2 }
+        javers.commit("author", root, [seq: "2"])
+
+        //the first chunk is from the first commit, the second chunk from the second commit
+        def identifiers = (2..501).collect { new SnapshotIdentifier(instanceId(it, SnapshotEntity), 1) } +
+                          (502..701).collect { new SnapshotIdentifier(instanceId(it, SnapshotEntity), 2) } +
+                          [new SnapshotIdentifier(instanceId(1, SnapshotEntity), 1),
+                           new SnapshotIdentifier(instanceId(2, SnapshotEntity), 2),
+                           new SnapshotIdentifier(instanceId(2, SnapshotEntity), 3),
+                           new SnapshotIdentifier(instanceId(9999, SnapshotEntity), 1)]
+
+        when:
+        def snapshots = repository.getSnapshots(identifiers)
+
+        then:
+        snapshots.size() == 702
+        snapshots.collect { SnapshotIdentifier.from(it) } as Set == identifiers[0..701] as Set
+        snapshots.findAll { it.globalId != instanceId(1, SnapshotEntity) }
+                 .every { it.getPropertyValue("intProperty") == it.version }
+
+        //ordered by snapshot PK desc, so snapshots from the second commit go first
+        snapshots.take(201).every { it.commitMetadata.properties == [seq: "2"] }
+        snapshots.drop(201).every { it.commitMetadata.properties == [seq: "1"] }
+
+        when:
+        def changes = javers.findChanges(QueryBuilder.byClass(SnapshotEntity).withVersion(2).limit(1000).build())
+
+        then:
+        changes.findAll { it.propertyName == "intProperty" }.size() == 700
+    }
+
+    def "should serve latest snapshots from the latest snapshot cache when enabled"() {
+        given:
+        def cachedRepository = SqlRepositoryBuilder
+                .sqlRepository()
+                .withConnectionProvider({ getConnection() } as ConnectionProvider)
+                .withDialect(getDialect())
+                .withSchema(getSchema())
+                .withGlobalIdTableName(globalIdTableName)
+                .withCommitTableName(commitTableName)
+                .withSnapshotTableName(snapshotTableName)
+                .withCommitPropertyTableName(commitPropertyTableName)
+                .withLatestSnapshotCacheSize(100)
+                .build()
+        def javers = JaversBuilder.javers().registerJaversRepository(cachedRepository).build()
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 1))
+
+        when:
+        javers.commit("author", new SnapshotEntity(id: 1, intProperty: 2))
+
+        then:
+        cachedRepository.latestSnapshotCacheMissCount == 1
+        cachedRepository.latestSnapshotCacheHitCount == 1
+        cachedRepository.latestSnapshotCacheSize == 1
+
+        when:
+        cachedRepository.evictCache()
+        def latest = cachedRepository.getLatest(instanceId(1, SnapshotEntity))
+
+        then:
+        cachedRepository.latestSnapshotCacheMissCount == 2
+        latest.get().version == 2
+        latest.get().getPropertyValue("intProperty") == 2
+    }
+
     def "should allow concurrent updates of different Objects"(){
         given:
         def cnt = new AtomicInteger()
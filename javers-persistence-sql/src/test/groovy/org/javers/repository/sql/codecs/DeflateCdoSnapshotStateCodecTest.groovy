@@ -0,0 +1,123 @@
+package org.javers.repository.sql.codecs
+
+import org.javers.common.exception.JaversException
+import org.javers.core.Javers
+import org.javers.core.JaversBuilder
+import org.javers.core.metamodel.annotation.Entity
+import org.javers.core.metamodel.annotation.Id
+import org.javers.repository.sql.H2RepositoryBuilder
+import spock.lang.Specification
+
+import java.sql.DriverManager
+
+class DeflateCdoSnapshotStateCodecTest extends Specification {
+
+    static String STATE = '''{
+  "id": 1,
+  "name": "Frodo",
+  "salary": 10000,
+  "boss": {
+    "entity": "org.javers.Employee",
+    "cdoId": "Gandalf"
+  },
+  "address": {
+    "valueObject": "org.javers.Address",
+    "ownerId": {
+      "entity": "org.javers.Employee",
+      "cdoId": "Frodo"
+    },
+    "fragment": "address"
+  }
+}'''
+
+    @Entity
+    static class EntityForTest {
+        @Id
+        private long id
+        private String value
+
+        EntityForTest(long id, String value) {
+            this.id = id
+            this.value = value
+        }
+    }
+
+    def "should decode state as it was"() {
+        given:
+        def codec = CdoSnapshotStateBinaryCodec.deflate()
+
+        when:
+        def encoded = codec.encode(STATE)
+
+        then:
+        encoded.length < STATE.length() / 2
+        codec.decode(encoded) == STATE
+    }
+
+    def "should train dictionary with property names, the most frequent last"() {
+        given:
+        def samples = [STATE, '{\n  "name": "Bilbo"\n}']
+
+        when:
+        def names = DeflateCdoSnapshotStateCodec.trainDictionary(samples, 100)
+
+        then:
+        names.last() == "name"
+        names.containsAll(["id", "salary", "boss", "address"])
+    }
+
+    def "trained dictionary should compress better and read states written with the default dictionary"() {
+        given:
+        def defaultCodec = CdoSnapshotStateBinaryCodec.deflate()
+        def trainedCodec = CdoSnapshotStateBinaryCodec.deflate(
+                DeflateCdoSnapshotStateCodec.trainDictionary([STATE], 100))
+
+        when:
+        def encodedWithDefault = defaultCodec.encode(STATE)
+        def encodedWithTrained = trainedCodec.encode(STATE)
+
+        then:
+        encodedWithTrained.length < encodedWithDefault.length
+        trainedCodec.decode(encodedWithTrained) == STATE
+        trainedCodec.decode(encodedWithDefault) == STATE
+    }
+
+    def "should fail when state was written with a different dictionary"() {
+        given:
+        def trainedCodec = CdoSnapshotStateBinaryCodec.deflate(["salary", "boss"])
+
+        when:
+        CdoSnapshotStateBinaryCodec.deflate().decode(trainedCodec.encode(STATE))
+
+        then:
+        thrown(JaversException)
+    }
+
+    def "should read legacy text snapshots and write new snapshots to state_bin"() {
+        given:
+        Javers legacyJavers = JaversBuilder.javers()
+                .registerJaversRepository(new H2RepositoryBuilder().build())
+                .build()
+        legacyJavers.commit("author", new EntityForTest(101, "legacy"))
+
+        Javers javers = JaversBuilder.javers()
+                .registerJaversRepository(new H2RepositoryBuilder()
+                    .withCdoSnapshotStateBinaryCodec(CdoSnapshotStateBinaryCodec.deflate())
+                    .build())
+                .build()
+
+        when:
+        javers.commit("author", new EntityForTest(102, "binary"))
+
+        then:
+        javers.getLatestSnapshot(101, EntityForTest).get().getPropertyValue("value") == "legacy"
+        javers.getLatestSnapshot(102, EntityForTest).get().getPropertyValue("value") == "binary"
+
+        def rs = DriverManager.getConnection("jdbc:h2:mem:test;").createStatement().executeQuery(
+                "select s.state, s.state_bin from jv_snapshot s join jv_global_id g on s.global_id_fk = g.global_id_pk " +
+                "where g.local_id = '102'")
+        rs.next()
+        rs.getString("state") == null
+        rs.getBytes("state_bin").length > 0
+    }
+}
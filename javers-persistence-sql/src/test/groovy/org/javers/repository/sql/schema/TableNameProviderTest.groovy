@@ -8,7 +8,7 @@ class TableNameProviderTest extends Specification {
     def "should provide default names without schema" () {
         when:
         def names = new TableNameProvider(
-                new SqlRepositoryConfiguration(false, null, true, null, null, null, null))
+                new SqlRepositoryConfiguration(false, null, true, null, null, null, null, 100, 0))
 
         then:
         names.commitTableNameWithSchema == "jv_commit"
@@ -26,7 +26,7 @@ class TableNameProviderTest extends Specification {
     def "should provide default names with schema" () {
         when:
         def names = new TableNameProvider(
-                new SqlRepositoryConfiguration(false, 's', true, null, null, null, null))
+                new SqlRepositoryConfiguration(false, 's', true, null, null, null, null, 100, 0))
 
         then:
         names.commitTableNameWithSchema == "s.jv_commit"
@@ -44,7 +44,7 @@ class TableNameProviderTest extends Specification {
     def "should provide custom table names" () {
         when:
         def names = new TableNameProvider(
-                new SqlRepositoryConfiguration(false, null, true, "g", "c", "s", "cp"))
+                new SqlRepositoryConfiguration(false, null, true, "g", "c", "s", "cp", 100, 0))
 
         then:
         names.commitTableNameWithSchema == "c"
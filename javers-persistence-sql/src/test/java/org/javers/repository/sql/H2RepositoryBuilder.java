@@ -1,5 +1,6 @@
 package org.javers.repository.sql;
 
+import org.javers.repository.sql.codecs.CdoSnapshotStateBinaryCodec;
 import org.javers.repository.sql.codecs.CdoSnapshotStateCodec;
 
 import java.sql.Connection;
@@ -22,6 +23,11 @@ public class H2RepositoryBuilder {
         return this;
     }
 
+    public H2RepositoryBuilder withCdoSnapshotStateBinaryCodec(CdoSnapshotStateBinaryCodec cdoSnapshotStateBinaryCodec) {
+        sqlRepository.withCdoSnapshotStateBinaryCodec(cdoSnapshotStateBinaryCodec);
+        return this;
+    }
+
     public JaversSqlRepository build() {
         try {
             Connection conn = DriverManager.getConnection("jdbc:h2:mem:test;");
@@ -2,9 +2,11 @@ package org.javers.spring.boot.mongo;
 
 import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoDatabase;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.javers.core.Javers;
 import org.javers.core.JaversBuilder;
 import org.javers.core.JaversBuilderPlugin;
+import org.javers.repository.mongo.MongoHeadIdTracking;
 import org.javers.repository.mongo.MongoRepository;
 import org.javers.spring.RegisterJsonTypeAdaptersPlugin;
 import org.javers.spring.auditable.AuthorProvider;
@@ -14,9 +16,11 @@ import org.javers.spring.auditable.MockAuthorProvider;
 import org.javers.spring.auditable.SpringSecurityAuthorProvider;
 import org.javers.spring.auditable.aspect.JaversAuditableAspect;
 import org.javers.spring.auditable.aspect.springdata.JaversSpringDataAuditableRepositoryAspect;
+import org.javers.spring.metrics.MicrometerJaversMetrics;
 import org.javers.spring.mongodb.TransactionalMongoJaversBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -107,6 +111,7 @@ public class JaversMongoAutoConfiguration {
                     .withCacheSize(javersMongoProperties.getSnapshotsCacheSize())
                     .withDialect(DOCUMENT_DB)
                     .withSchemaManagementEnabled(javersMongoProperties.isSchemaManagementEnabled())
+                    .withHeadIdTracking(headIdTracking())
                     .build()
             );
         }
@@ -118,10 +123,18 @@ public class JaversMongoAutoConfiguration {
                 .withHeadCollectionName(javersMongoProperties.getHeadCollectionName())
                 .withCacheSize(javersMongoProperties.getSnapshotsCacheSize())
                 .withSchemaManagementEnabled(javersMongoProperties.isSchemaManagementEnabled())
+                .withHeadIdTracking(headIdTracking())
                 .build()
         );
     }
 
+    private MongoHeadIdTracking headIdTracking() {
+        if (javersMongoProperties.getHeadIdTracking() == null) {
+            return null;
+        }
+        return MongoHeadIdTracking.valueOf(javersMongoProperties.getHeadIdTracking().toUpperCase());
+    }
+
     private MongoDatabase initJaversMongoDatabase() {
         if (!javersMongoProperties.isDedicatedMongodbConfigurationEnabled()) {
             MongoDatabase mongoDatabase = getDefaultMongoDatabase();
@@ -178,4 +191,16 @@ public class JaversMongoAutoConfiguration {
             CommitPropertiesProvider commitPropertiesProvider) {
         return new JaversSpringDataAuditableRepositoryAspect(javers, authorProvider, commitPropertiesProvider);
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(name = "javers.metricsEnabled", havingValue = "true", matchIfMissing = true)
+    static class JaversMetricsConfiguration {
+
+        @Bean
+        public JaversBuilderPlugin javersMicrometerMetricsPlugin(ObjectProvider<MeterRegistry> meterRegistry) {
+            return javersBuilder -> meterRegistry.ifAvailable(
+                    it -> javersBuilder.withMetrics(new MicrometerJaversMetrics(it)));
+        }
+    }
 }
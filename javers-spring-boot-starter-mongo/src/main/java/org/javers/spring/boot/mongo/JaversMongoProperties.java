@@ -17,6 +17,9 @@ public class JaversMongoProperties extends JaversSpringProperties {
 
     private String headCollectionName;
 
+    // DOCUMENT, ATOMIC_DOCUMENT or SNAPSHOT_QUERY, see MongoHeadIdTracking
+    private String headIdTracking;
+
     private boolean documentDbCompatibilityEnabled = false;
 
     // Set 0 to disable.
@@ -48,6 +51,14 @@ public class JaversMongoProperties extends JaversSpringProperties {
         this.headCollectionName = headCollectionName;
     }
 
+    public String getHeadIdTracking() {
+        return headIdTracking;
+    }
+
+    public void setHeadIdTracking(String headIdTracking) {
+        this.headIdTracking = headIdTracking;
+    }
+
     public boolean isDocumentDbCompatibilityEnabled() {
         return documentDbCompatibilityEnabled;
     }
@@ -1,5 +1,6 @@
 package org.javers.spring.boot.sql;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.javers.core.Javers;
@@ -19,8 +20,10 @@ import org.javers.spring.auditable.aspect.JaversAuditableAspect;
 import org.javers.spring.auditable.aspect.springdatajpa.JaversSpringDataJpaAuditableRepositoryAspect;
 import org.javers.spring.jpa.JpaHibernateConnectionProvider;
 import org.javers.spring.jpa.TransactionalJpaJaversBuilder;
+import org.javers.spring.metrics.MicrometerJaversMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -83,6 +86,7 @@ public class JaversSqlAutoConfiguration {
                 .withDialect(javersSqlDialectName())
                 .withSchemaManagementEnabled(javersSqlProperties.isSqlSchemaManagementEnabled())
                 .withGlobalIdCacheDisabled(javersSqlProperties.isSqlGlobalIdCacheDisabled())
+                .withLatestSnapshotCacheSize(javersSqlProperties.getSqlLatestSnapshotCacheSize())
                 .withGlobalIdTableName(javersSqlProperties.getSqlGlobalIdTableName())
                 .withCommitTableName(javersSqlProperties.getSqlCommitTableName())
                 .withSnapshotTableName(javersSqlProperties.getSqlSnapshotTableName())
@@ -149,4 +153,16 @@ public class JaversSqlAutoConfiguration {
     ) {
         return new JaversSpringDataJpaAuditableRepositoryAspect(javers, authorProvider, commitPropertiesProvider);
     }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(name = "javers.metricsEnabled", havingValue = "true", matchIfMissing = true)
+    static class JaversMetricsConfiguration {
+
+        @Bean
+        public JaversBuilderPlugin javersMicrometerMetricsPlugin(ObjectProvider<MeterRegistry> meterRegistry) {
+            return javersBuilder -> meterRegistry.ifAvailable(
+                    it -> javersBuilder.withMetrics(new MicrometerJaversMetrics(it)));
+        }
+    }
 }
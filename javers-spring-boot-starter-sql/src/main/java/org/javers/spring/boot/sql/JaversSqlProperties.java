@@ -10,6 +10,7 @@ public class JaversSqlProperties extends JaversSpringProperties {
 
     private boolean sqlSchemaManagementEnabled = true;
     private boolean sqlGlobalIdCacheDisabled = false;
+    private int sqlLatestSnapshotCacheSize = 0;
     private String sqlSchema;
     private String sqlGlobalIdTableName;
     private String sqlCommitTableName;
@@ -40,6 +41,14 @@ public class JaversSqlProperties extends JaversSpringProperties {
         this.sqlGlobalIdCacheDisabled = sqlGlobalIdCacheDisabled;
     }
 
+    public int getSqlLatestSnapshotCacheSize() {
+        return sqlLatestSnapshotCacheSize;
+    }
+
+    public void setSqlLatestSnapshotCacheSize(int sqlLatestSnapshotCacheSize) {
+        this.sqlLatestSnapshotCacheSize = sqlLatestSnapshotCacheSize;
+    }
+
     protected String defaultObjectAccessHook(){
         return DEFAULT_OBJECT_ACCESS_HOOK;
     }
@@ -52,6 +52,7 @@ class JaversSqlAutoConfigurationDefaultPropsTest extends Specification {
         javersProperties.prettyPrintDateFormats.localDate == "dd MMM yyyy"
         javersProperties.prettyPrintDateFormats.localTime == "HH:mm:ss"
         !javersProperties.sqlGlobalIdCacheDisabled
+        javersProperties.sqlLatestSnapshotCacheSize == 0
         javersProperties.objectAccessHook == "org.javers.hibernate.integration.HibernateUnproxyObjectAccessHook"
         javersProperties.sqlGlobalIdTableName == null
         javersProperties.sqlCommitTableName == null
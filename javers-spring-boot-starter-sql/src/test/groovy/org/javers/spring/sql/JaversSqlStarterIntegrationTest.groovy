@@ -1,5 +1,6 @@
 package org.javers.spring.sql
 
+import io.micrometer.core.instrument.MeterRegistry
 import org.javers.core.Javers
 import org.javers.spring.boot.DummyEntity
 import org.javers.spring.boot.TestApplication
@@ -29,6 +30,9 @@ class JaversSqlStarterIntegrationTest extends Specification {
     @Autowired
     DummyEntityRepository dummyEntityRepository
 
+    @Autowired
+    MeterRegistry meterRegistry
+
     def "should build default javers instance with auto-audit aspect"() {
         when:
         def entity = dummyEntityRepository.save(DummyEntity.random())
@@ -66,4 +70,13 @@ class JaversSqlStarterIntegrationTest extends Specification {
         expect:
         javers.compare(new ValueObject(value: 1.123), new ValueObject(value: 1.124)).changes.size() == 0
     }
+
+    def "should record javers metrics in Micrometer registry"() {
+        when:
+        dummyEntityRepository.save(DummyEntity.random())
+
+        then:
+        meterRegistry.get("javers.commit.phase").tag("phase", "persist").timer().count() > 0
+        meterRegistry.get("javers.sql.query").timers().size() > 0
+    }
 }
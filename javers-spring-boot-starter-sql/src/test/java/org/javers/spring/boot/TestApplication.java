@@ -1,5 +1,7 @@
 package org.javers.spring.boot;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.groovy.util.Maps;
 import org.javers.core.JaversBuilderPlugin;
 import org.javers.core.diff.custom.CustomBigDecimalComparator;
@@ -63,4 +65,9 @@ public class TestApplication {
         return builder -> builder
                 .registerValue(BigDecimal.class, new CustomBigDecimalComparator(2));
     }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
 }
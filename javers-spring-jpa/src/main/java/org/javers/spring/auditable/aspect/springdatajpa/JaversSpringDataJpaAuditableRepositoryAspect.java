@@ -43,7 +43,7 @@ public class JaversSpringDataJpaAuditableRepositoryAspect extends AbstractSpring
 
     @AfterReturning(value = "execution(public * saveAll(..)) && this(org.springframework.data.repository.CrudRepository)", returning = "responseEntity")
     public void onSaveAllExecuted(JoinPoint pjp, Object responseEntity) {
-        onSave(pjp, responseEntity);
+        onSaveAll(pjp, responseEntity);
     }
 
     @AfterReturning(value = "execution(public * saveAndFlush(..)) && this(org.springframework.data.jpa.repository.JpaRepository)", returning = "responseEntity")
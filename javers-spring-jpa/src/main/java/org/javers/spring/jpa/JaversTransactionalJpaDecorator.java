@@ -3,6 +3,8 @@ package org.javers.spring.jpa;
 import org.javers.common.validation.Validate;
 import org.javers.core.Javers;
 import org.javers.core.commit.Commit;
+import org.javers.core.commit.SnapshotFingerprintCache;
+import org.javers.repository.api.SnapshotCache;
 import org.javers.repository.sql.JaversSqlRepository;
 import org.javers.spring.transactions.JaversTransactionalDecorator;
 import org.slf4j.Logger;
@@ -26,12 +28,18 @@ public class JaversTransactionalJpaDecorator extends JaversTransactionalDecorato
 
     private final JaversSqlRepository javersSqlRepository;
 
+    private final SnapshotFingerprintCache snapshotFingerprintCache;
+
+    private final SnapshotCache snapshotCache;
+
     private final PlatformTransactionManager txManager;
 
-    JaversTransactionalJpaDecorator(Javers delegate, JaversSqlRepository javersSqlRepository, PlatformTransactionManager txManager) {
+    JaversTransactionalJpaDecorator(Javers delegate, JaversSqlRepository javersSqlRepository, SnapshotFingerprintCache snapshotFingerprintCache, SnapshotCache snapshotCache, PlatformTransactionManager txManager) {
         super(delegate);
-        Validate.argumentsAreNotNull(javersSqlRepository, txManager);
+        Validate.argumentsAreNotNull(javersSqlRepository, snapshotFingerprintCache, snapshotCache, txManager);
         this.javersSqlRepository = javersSqlRepository;
+        this.snapshotFingerprintCache = snapshotFingerprintCache;
+        this.snapshotCache = snapshotCache;
         this.txManager = txManager;
     }
 
@@ -68,7 +76,11 @@ public class JaversTransactionalJpaDecorator extends JaversTransactionalDecorato
     }
 
     private void registerRollbackListener() {
-        if (javersSqlRepository.getConfiguration().isGlobalIdCacheDisabled()) {
+        boolean globalIdCacheEnabled = !javersSqlRepository.getConfiguration().isGlobalIdCacheDisabled();
+        boolean latestSnapshotCacheEnabled = javersSqlRepository.getConfiguration().getLatestSnapshotCacheSize() > 0;
+        boolean fingerprintCacheEnabled = !snapshotFingerprintCache.isDisabled();
+        boolean snapshotCacheEnabled = !snapshotCache.isDisabled();
+        if (!globalIdCacheEnabled && !latestSnapshotCacheEnabled && !fingerprintCacheEnabled && !snapshotCacheEnabled) {
             return;
         }
         if(TransactionSynchronizationManager.isSynchronizationActive() &&
@@ -79,6 +91,8 @@ public class JaversTransactionalJpaDecorator extends JaversTransactionalDecorato
                     if (TransactionSynchronization.STATUS_ROLLED_BACK == status) {
                         logger.info("evicting javersSqlRepository local cache due to transaction rollback");
                         javersSqlRepository.evictCache();
+                        snapshotFingerprintCache.evict();
+                        snapshotCache.evict();
                     }
                 }
             });
@@ -4,6 +4,8 @@ import org.javers.common.exception.JaversException;
 import org.javers.common.exception.JaversExceptionCode;
 import org.javers.core.Javers;
 import org.javers.core.JaversBuilder;
+import org.javers.core.commit.SnapshotFingerprintCache;
+import org.javers.repository.api.SnapshotCache;
 import org.javers.repository.sql.JaversSqlRepository;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -34,7 +36,9 @@ public final class TransactionalJpaJaversBuilder extends JaversBuilder {
         Javers javersCore = super.assembleJaversInstance();
 
         Javers javersTransactional =
-                new JaversTransactionalJpaDecorator(javersCore, getContainerComponent(JaversSqlRepository.class), txManager);
+                new JaversTransactionalJpaDecorator(javersCore, getContainerComponent(JaversSqlRepository.class),
+                        getContainerComponent(SnapshotFingerprintCache.class),
+                        getContainerComponent(SnapshotCache.class), txManager);
 
         return javersTransactional;
     }
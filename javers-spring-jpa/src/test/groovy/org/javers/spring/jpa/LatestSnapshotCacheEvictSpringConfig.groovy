@@ -0,0 +1,22 @@
+package org.javers.spring.jpa
+
+import org.javers.repository.sql.DialectName
+import org.javers.repository.sql.JaversSqlRepository
+import org.javers.repository.sql.SqlRepositoryBuilder
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+
+@Configuration()
+class LatestSnapshotCacheEvictSpringConfig extends CacheEvictSpringConfig {
+    @Bean
+    @Override
+    JaversSqlRepository sqlRepository(){
+        SqlRepositoryBuilder
+                .sqlRepository()
+                .withConnectionProvider(jpaConnectionProvider())
+                .withDialect(DialectName.H2)
+                .withGlobalIdCacheDisabled(true)
+                .withLatestSnapshotCacheSize(100)
+                .build()
+    }
+}
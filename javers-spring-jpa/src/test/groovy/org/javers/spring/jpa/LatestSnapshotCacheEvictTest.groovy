@@ -0,0 +1,55 @@
+package org.javers.spring.jpa
+
+import groovy.sql.Sql
+import org.javers.core.Javers
+import org.javers.hibernate.entity.Person
+import org.javers.hibernate.entity.PersonCrudRepository
+import org.javers.repository.jql.QueryBuilder
+import org.javers.repository.sql.JaversSqlRepository
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+
+import static org.javers.hibernate.integration.config.HibernateConfig.H2_URL
+
+@ContextConfiguration(classes = LatestSnapshotCacheEvictSpringConfig)
+class LatestSnapshotCacheEvictTest extends Specification {
+
+    @Autowired
+    Javers javers
+
+    @Autowired
+    JaversSqlRepository javersSqlRepository
+
+    @Autowired
+    PersonCrudRepository repository
+
+    @Autowired
+    ErrorThrowingService errorThrowingService
+
+    def setup() {
+        def sql = Sql.newInstance(H2_URL, "org.h2.Driver")
+        sql.execute("DELETE jv_snapshot")
+    }
+
+    def "should evict latest snapshot cache after rollback when GlobalId cache is disabled"(){
+      given:
+      def person = new Person(id:"kaz")
+
+      when:
+      repository.save(person)
+
+      then:
+      javersSqlRepository.latestSnapshotCacheSize == 1
+
+      when:
+      person.name = "kaz"
+      errorThrowingService.saveAndThrow(person)
+
+      then:
+      def ex = thrown(RuntimeException)
+      ex.message == "rollback"
+      javersSqlRepository.latestSnapshotCacheSize == 0
+      javers.findSnapshots(QueryBuilder.anyDomainObject().build()).size() == 1
+    }
+}
@@ -2,7 +2,9 @@ package org.javers.spring.mongodb;
 
 import org.javers.core.Javers;
 import org.javers.core.JaversBuilder;
+import org.javers.core.commit.SnapshotFingerprintCache;
 import org.javers.repository.api.JaversRepository;
+import org.javers.repository.api.SnapshotCache;
 import org.javers.repository.mongo.MongoRepository;
 import org.springframework.data.mongodb.MongoTransactionManager;
 
@@ -58,7 +60,14 @@ public final class TransactionalMongoJaversBuilder extends JaversBuilder {
 
         if (txManager != null) {
             logger.info("creating Javers' MongoRepository with multi-document transactions support");
-            super.registerJaversRepository(new TransactionalMongoRepository(mongoRepository, txManager));
+            TransactionalMongoRepository transactionalRepository = new TransactionalMongoRepository(mongoRepository, txManager);
+            super.registerJaversRepository(transactionalRepository);
+
+            Javers javers = super.assembleJaversInstanceAndEnsureSchema();
+            transactionalRepository.evictOnRollback(
+                    getContainerComponent(SnapshotFingerprintCache.class),
+                    getContainerComponent(SnapshotCache.class));
+            return javers;
         } else {
             logger.info("creating Javers' MongoRepository without multi-document transactions support, " +
                     "as there is no MongoTransactionManager provided");
@@ -4,19 +4,28 @@ import com.mongodb.client.ClientSession;
 import org.javers.core.CoreConfiguration;
 import org.javers.core.commit.Commit;
 import org.javers.core.commit.CommitId;
+import org.javers.core.commit.SnapshotFingerprintCache;
 import org.javers.core.json.JsonConverter;
 import org.javers.core.metamodel.object.CdoSnapshot;
 import org.javers.core.metamodel.object.GlobalId;
 import org.javers.core.metamodel.type.EntityType;
 import org.javers.core.metamodel.type.ManagedType;
+import org.javers.core.metrics.JaversMetrics;
 import org.javers.repository.api.ConfigurationAware;
 import org.javers.repository.api.JaversRepository;
+import org.javers.repository.api.MetricsAware;
 import org.javers.repository.api.QueryParams;
+import org.javers.repository.api.SnapshotCache;
 import org.javers.repository.api.SnapshotIdentifier;
 import org.javers.repository.mongo.MongoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.mongodb.ClientSessionExtractor;
 import org.springframework.data.mongodb.MongoTransactionManager;
 import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collection;
@@ -24,11 +33,17 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-class TransactionalMongoRepository implements JaversRepository, ConfigurationAware {
+class TransactionalMongoRepository implements JaversRepository, ConfigurationAware, MetricsAware {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionalMongoRepository.class);
+
     private final MongoRepository delegate;
 
     private final TransactionTemplate transactionTemplate;
 
+    private SnapshotFingerprintCache snapshotFingerprintCache;
+
+    private SnapshotCache snapshotCache;
+
     TransactionalMongoRepository(MongoRepository delegate, MongoTransactionManager txManager) {
         this.delegate = delegate;
         this.transactionTemplate = new TransactionTemplate(txManager);
@@ -69,9 +84,19 @@ class TransactionalMongoRepository implements JaversRepository, ConfigurationAwa
         return delegate.getSnapshots(snapshotIdentifiers);
     }
 
+    /**
+     * Caches filled by Javers during commits are non-transactional,
+     * so they are evicted when the transaction is rolled back
+     */
+    void evictOnRollback(SnapshotFingerprintCache snapshotFingerprintCache, SnapshotCache snapshotCache) {
+        this.snapshotFingerprintCache = snapshotFingerprintCache;
+        this.snapshotCache = snapshotCache;
+    }
+
     @Override
     public void persist(Commit commit) {
         transactionTemplate.execute(status -> {
+            registerRollbackListener();
             ClientSession session = ClientSessionExtractor.getFrom((DefaultTransactionStatus)status);
             delegate.persist(commit, session);
             return null;
@@ -83,6 +108,11 @@ class TransactionalMongoRepository implements JaversRepository, ConfigurationAwa
         return delegate.getHeadId();
     }
 
+    @Override
+    public long reserveCommitIdBlock(int blockSize, long headMajorId) {
+        return delegate.reserveCommitIdBlock(blockSize, headMajorId);
+    }
+
     @Override
     public void setJsonConverter(JsonConverter jsonConverter) {
         delegate.setJsonConverter(jsonConverter);
@@ -97,4 +127,30 @@ class TransactionalMongoRepository implements JaversRepository, ConfigurationAwa
     public void setConfiguration(CoreConfiguration coreConfiguration) {
         delegate.setConfiguration(coreConfiguration);
     }
+
+    @Override
+    public void setMetrics(JaversMetrics metrics) {
+        delegate.setMetrics(metrics);
+    }
+
+    private void registerRollbackListener() {
+        boolean fingerprintCacheEnabled = snapshotFingerprintCache != null && !snapshotFingerprintCache.isDisabled();
+        boolean snapshotCacheEnabled = snapshotCache != null && !snapshotCache.isDisabled();
+        if (!fingerprintCacheEnabled && !snapshotCacheEnabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive() &&
+            TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (TransactionSynchronization.STATUS_ROLLED_BACK == status) {
+                        logger.info("evicting Javers caches due to transaction rollback");
+                        snapshotFingerprintCache.evict();
+                        snapshotCache.evict();
+                    }
+                }
+            });
+        }
+    }
 }
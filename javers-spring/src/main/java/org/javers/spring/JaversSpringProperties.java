@@ -9,6 +9,7 @@ import org.javers.core.graph.ObjectAccessHook;
 public abstract class JaversSpringProperties extends JaversCoreProperties {
     private boolean auditableAspectEnabled = true;
     private boolean springDataAuditableRepositoryAspectEnabled = true;
+    private boolean metricsEnabled = true;
     private String objectAccessHook = defaultObjectAccessHook();
 
     public boolean isAuditableAspectEnabled() {
@@ -27,6 +28,18 @@ public abstract class JaversSpringProperties extends JaversCoreProperties {
         this.springDataAuditableRepositoryAspectEnabled = springDataAuditableRepositoryAspectEnabled;
     }
 
+    /**
+     * When true (default) and a Micrometer MeterRegistry is present,
+     * JaVers metrics are recorded, see {@link org.javers.spring.metrics.MicrometerJaversMetrics}
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
     public String getObjectAccessHook() {
         return objectAccessHook;
     }
@@ -16,6 +16,8 @@ import org.javers.spring.auditable.AuthorProvider;
 import org.javers.spring.auditable.CommitPropertiesProvider;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -50,9 +52,7 @@ public class JaversCommitAdvice {
 	}
 
 	void commitSaveMethodArguments(JoinPoint pjp) {
-        for (Object arg : AspectUtil.collectArguments(pjp)) {
-            commitObject(arg);
-        }
+        commitObjects(AspectUtil.collectArguments(pjp));
     }
 
     void commitDeleteMethodArguments(JoinPoint jp) {
@@ -93,6 +93,22 @@ public class JaversCommitAdvice {
         javers.commit(author, domainObject, propsForCommit(domainObject));
     }
 
+    /**
+     * Commits given objects with {@link Javers#commitAll(String, java.util.Collection, Map)}.
+     * Objects with different commit properties
+     * (see {@link CommitPropertiesProvider#provideForCommittedObject(Object)}) go to separate commits.
+     */
+    public void commitObjects(Iterable<?> domainObjects) {
+        String author = authorProvider.provide();
+
+        Map<Map<String, String>, List<Object>> objectsByProps = new LinkedHashMap<>();
+        for (Object domainObject : domainObjects) {
+            objectsByProps.computeIfAbsent(propsForCommit(domainObject), k -> new ArrayList<>()).add(domainObject);
+        }
+
+        objectsByProps.forEach((props, objects) -> javers.commitAll(author, objects, props));
+    }
+
     public void commitShallowDelete(Object domainObject) {
         String author = authorProvider.provide();
 
@@ -28,6 +28,11 @@ public class AbstractSpringAuditableRepositoryAspect {
                 AspectUtil.collectReturnedObjects(returnedObject).forEach(javersCommitAdvice::commitObject));
     }
 
+    protected void onSaveAll(JoinPoint pjp, Object returnedObject) {
+        getRepositoryInterface(pjp).ifPresent(i ->
+                javersCommitAdvice.commitObjects(AspectUtil.collectReturnedObjects(returnedObject)));
+    }
+
     protected void onDelete(JoinPoint pjp) {
         getRepositoryInterface(pjp).ifPresent( i -> {
             RepositoryMetadata metadata = DefaultRepositoryMetadata.getMetadata(i);
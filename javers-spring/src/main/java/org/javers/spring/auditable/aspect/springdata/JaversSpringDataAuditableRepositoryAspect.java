@@ -13,6 +13,8 @@ import java.util.Map;
 /**
  * Calls {@link Javers#commit(String, Object, Map)} on objects returned from save() methods in Spring Data CrudRepository
  * when a repository is annotated with (class-level) @JaversSpringDataAuditable.
+ * Objects returned from saveAll() are committed together,
+ * with {@link Javers#commitAll(String, java.util.Collection, Map)}.
  * <br/><br/>
  *
  * Calls {@link Javers#commitShallowDelete(String, Object, Map)} on arguments passed to delete() methods.
@@ -46,6 +48,6 @@ public class JaversSpringDataAuditableRepositoryAspect extends AbstractSpringAud
 
     @AfterReturning(value = "execution(public * saveAll(..)) && this(org.springframework.data.repository.CrudRepository)", returning = "responseEntity")
     public void onSaveAllExecuted(JoinPoint pjp, Object responseEntity) {
-        onSave(pjp, responseEntity);
+        onSaveAll(pjp, responseEntity);
     }
 }
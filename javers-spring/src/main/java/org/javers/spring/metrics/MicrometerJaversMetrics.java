@@ -0,0 +1,107 @@
+package org.javers.spring.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.javers.common.validation.Validate;
+import org.javers.core.metrics.CommitPhase;
+import org.javers.core.metrics.JaversMetrics;
+import org.javers.repository.jql.ShadowStats;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@link JaversMetrics} binding to Micrometer.
+ * Registered automatically by JaVers Spring Boot starters when a MeterRegistry bean is present.
+ * <br/><br/>
+ *
+ * Meters:
+ * <ul>
+ *     <li><code>javers.commit.phase</code> timer, tagged by <code>phase</code>, see {@link CommitPhase}</li>
+ *     <li><code>javers.sql.query</code> timer, tagged by <code>query</code> name,
+ *         without the chunk size of chunked queries, to keep the tag cardinality low</li>
+ *     <li><code>javers.cache.gets</code> counter, tagged by <code>cache</code> and <code>result</code> (hit or miss)</li>
+ *     <li><code>javers.shadow.query</code> timer and
+ *         <code>javers.shadow.query.snapshots</code>, <code>javers.shadow.query.db.queries</code> summaries</li>
+ * </ul>
+ */
+public class MicrometerJaversMetrics implements JaversMetrics {
+    private static final Pattern CHUNK_SIZE_SUFFIX = Pattern.compile(", chunk of \\d+");
+
+    private final MeterRegistry registry;
+
+    private final Map<CommitPhase, Timer> commitPhaseTimers = new EnumMap<>(CommitPhase.class);
+    private final Map<String, Timer> sqlQueryTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> cacheHitCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> cacheMissCounters = new ConcurrentHashMap<>();
+    private final Timer shadowQueryTimer;
+    private final DistributionSummary shadowQuerySnapshots;
+    private final DistributionSummary shadowQueryDbQueries;
+
+    public MicrometerJaversMetrics(MeterRegistry registry) {
+        Validate.argumentIsNotNull(registry);
+        this.registry = registry;
+
+        for (CommitPhase phase : CommitPhase.values()) {
+            commitPhaseTimers.put(phase, Timer.builder("javers.commit.phase")
+                    .description("JaVers commit phases")
+                    .tag("phase", phase.name().toLowerCase())
+                    .register(registry));
+        }
+
+        shadowQueryTimer = Timer.builder("javers.shadow.query")
+                .description("JaVers Shadow queries")
+                .register(registry);
+        shadowQuerySnapshots = DistributionSummary.builder("javers.shadow.query.snapshots")
+                .description("Snapshots loaded by a JaVers Shadow query")
+                .register(registry);
+        shadowQueryDbQueries = DistributionSummary.builder("javers.shadow.query.db.queries")
+                .description("Repository queries executed by a JaVers Shadow query")
+                .register(registry);
+    }
+
+    @Override
+    public void recordCommitPhase(CommitPhase phase, long durationNanos) {
+        commitPhaseTimers.get(phase).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordSqlQuery(String queryName, long durationNanos) {
+        String stableQueryName = CHUNK_SIZE_SUFFIX.matcher(queryName).replaceAll("");
+        sqlQueryTimers.computeIfAbsent(stableQueryName, it -> Timer.builder("javers.sql.query")
+                    .description("JaVers SQL statements")
+                    .tag("query", it)
+                    .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordCacheAccess(String cacheName, int hits, int misses) {
+        if (hits > 0) {
+            cacheHitCounters.computeIfAbsent(cacheName, it -> cacheCounter(it, "hit")).increment(hits);
+        }
+        if (misses > 0) {
+            cacheMissCounters.computeIfAbsent(cacheName, it -> cacheCounter(it, "miss")).increment(misses);
+        }
+    }
+
+    @Override
+    public void recordShadowQuery(ShadowStats stats) {
+        shadowQueryTimer.record(stats.getEndTimestamp() - stats.getStartTimestamp(), TimeUnit.MILLISECONDS);
+        shadowQuerySnapshots.record(stats.getAllSnapshotsCount());
+        shadowQueryDbQueries.record(stats.getDbQueriesCount());
+    }
+
+    private Counter cacheCounter(String cacheName, String result) {
+        return Counter.builder("javers.cache.gets")
+                .description("JaVers cache lookups")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -68,6 +68,18 @@ public abstract class JaversTransactionalDecorator implements Javers {
         return delegate.commit(author, currentVersion, commitProperties);
     }
 
+    @Override
+    @Transactional
+    public Commit commitAll(String author, Collection<?> roots) {
+        return delegate.commitAll(author, roots);
+    }
+
+    @Override
+    @Transactional
+    public Commit commitAll(String author, Collection<?> roots, Map<String, String> commitProperties) {
+        return delegate.commitAll(author, roots, commitProperties);
+    }
+
     @Override
     @Transactional
     public Commit commitShallowDelete(String author, Object deleted) {
@@ -137,6 +149,25 @@ public abstract class JaversTransactionalDecorator implements Javers {
         return delegate.findSnapshots(query);
     }
 
+    /**
+     * Not transactional, a transaction started here would end
+     * before the stream is consumed, while the stream reads from an open cursor.
+     * <br/>
+     * The caller has to hold an open transaction until the stream is closed:
+     * <pre>
+     * &#64;Transactional(readOnly = true)
+     * public void export() {
+     *     try (Stream&lt;CdoSnapshot&gt; snapshots = javers.findSnapshotsAndStream(query)) {
+     *         snapshots.forEach(it -> ...);
+     *     }
+     * }
+     * </pre>
+     */
+    @Override
+    public Stream<CdoSnapshot> findSnapshotsAndStream(JqlQuery query) {
+        return delegate.findSnapshotsAndStream(query);
+    }
+
     @Transactional
     @Override
     public Changes findChanges(JqlQuery query) {
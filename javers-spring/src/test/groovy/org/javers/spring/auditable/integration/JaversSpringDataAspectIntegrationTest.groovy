@@ -66,6 +66,20 @@ class JaversSpringDataAspectIntegrationTest extends BaseSpecification {
         javers.findSnapshots(byInstanceId(o2.id, DummyObject).build()).size() == 1
     }
 
+    def "should commit all objects saved with crudRepository.saveAll() in a single commit"() {
+        given:
+        def o1 = new DummyObject()
+        def o2 = new DummyObject()
+
+        when:
+        repository.saveAll([o1,o2])
+
+        then:
+        def s1 = javers.findSnapshots(byInstanceId(o1.id, DummyObject).build())[0]
+        def s2 = javers.findSnapshots(byInstanceId(o2.id, DummyObject).build())[0]
+        s1.commitId == s2.commitId
+    }
+
     def "should commitDelete on audited crudRepository.delete(object)"() {
         given:
         def o = new DummyObject()